@@ -50,23 +50,37 @@ package org.knime.core.webui.data;
 
 import static com.googlecode.jsonrpc4j.ErrorResolver.JsonError.CUSTOM_SERVER_ERROR_UPPER;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.knime.core.webui.data.RpcDataService.jsonRpcRequest;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
 import org.knime.core.node.workflow.NativeNodeContainer;
 import org.knime.core.node.workflow.WorkflowManager;
 import org.knime.core.webui.data.RpcDataService.WildcardHandler;
+import org.knime.core.webui.data.rpc.json.impl.JsonRpcEncoding;
 import org.knime.core.webui.data.rpc.json.impl.ObjectMapperUtil;
 import org.knime.core.webui.node.NodeWrapper;
 import org.knime.core.webui.node.view.NodeView;
@@ -76,7 +90,10 @@ import org.knime.core.webui.page.Page;
 import org.knime.testing.node.view.NodeViewTestUtil;
 import org.knime.testing.util.WorkflowManagerUtil;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.BooleanNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.node.TextNode;
 
 /**
  * Tests for the {@link JsonRpcDataService}.
@@ -240,6 +257,396 @@ class RpcDataServiceTest {
 
     }
 
+    @Test
+    void testBatchRequest() throws IOException {
+        var nnc = createNodeWithRPCDataService(() -> RpcDataService.builder(new MyWildcardHandler()).build());
+        var batchRequest = "[" + jsonRpcRequest("myMethod", "param1") + "," + jsonRpcRequest("error") + "]";
+        var response = sendRPCRequest(nnc, batchRequest);
+        assertThat(response).isEqualTo("""
+                [{"jsonrpc":"2.0","id":1,"result":"myMethod,param1"},\
+                {"jsonrpc":"2.0","id":1,"error":{"code":-32601,"message":"This is an error"}}]""");
+
+        nnc = createNodeWithRPCDataService(
+            () -> RpcDataService.builder().addService("myName", new MyService()).parallelBatchExecution().build());
+        batchRequest = "[" + jsonRpcRequest("myName.myMethod") + "," + jsonRpcRequest("myName.myMethod") + "]";
+        response = sendRPCRequest(nnc, batchRequest);
+        final var root = ObjectMapperUtil.getInstance().getObjectMapper().readTree(response);
+        assertThat(root.isArray()).isTrue();
+        assertThat(root.size()).isEqualTo(2);
+        root.forEach(r -> assertThat(r.get("result").asText()).isEqualTo("my service method result"));
+
+        response = sendRPCRequest(nnc, "[]");
+        assertThat(response).isEqualTo("""
+                {"jsonrpc":"2.0","id":null,"error":{"code":-32600,"message":"Empty batch request"}}""");
+    }
+
+    @Test
+    void testWarningMessagesAppendedToStreamedResponse() throws IOException {
+        var nnc = createNodeWithRPCDataService(() -> RpcDataService.builder(new ServiceWithWarnings()).build());
+        var out = new ByteArrayOutputStream();
+        NodeViewManager.getInstance().getDataServiceManager().callRpcDataService(NodeWrapper.of(nnc),
+            jsonRpcRequest("method", "foo"), out);
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo("""
+                {"jsonrpc":"2.0","id":1,"result":"foo","warningMessages":["warning"]}
+                """);
+
+        var response = sendRPCRequest(nnc, jsonRpcRequest("erroneousMethod", "foo"));
+        final var root = ObjectMapperUtil.getInstance().getObjectMapper().readTree(response);
+        assertTrue(root.has("error"));
+        assertThat(root.has("warningMessages")).isFalse();
+    }
+
+    public static class ServiceWithWarnings {
+        public String method(final String param) {
+            DataServiceContext.get().addWarningMessage("warning");
+            return param;
+        }
+
+        public String erroneousMethod(final String param) {
+            DataServiceContext.get().addWarningMessage("warning");
+            throw new IllegalArgumentException(param);
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(JsonRpcEncoding.class)
+    void testEncodings(final JsonRpcEncoding encoding) throws IOException {
+        assertThat(encoding.isAvailable()).as("Encoding %s available", encoding).isTrue();
+        var mapper = ObjectMapperUtil.getInstance().getObjectMapper(encoding);
+        var nnc = createNodeWithRPCDataService(() -> RpcDataService.builder(new ServiceWithWarnings()).build());
+
+        var response = sendEncodedRPCRequest(nnc, jsonRpcRequest("method", "foo"), encoding);
+        assertThat(response.get("result").asText()).isEqualTo("foo");
+        assertThat(response.get("warningMessages").get(0).asText()).isEqualTo("warning");
+
+        // newline-bytes within binary responses are kept (only the trailing newline of jsonrpc4j is dropped)
+        response = sendEncodedRPCRequest(nnc, jsonRpcRequest("method", "\n\n"), encoding);
+        assertThat(response.get("result").asText()).isEqualTo("\n\n");
+
+        response = sendEncodedRPCRequest(nnc, jsonRpcRequest("erroneousMethod", "foo"), encoding);
+        assertThat(response.get("error").get("message").asText()).isEqualTo("foo");
+
+        response = sendEncodedRPCRequest(nnc,
+            "[" + jsonRpcRequest("method", "foo") + "," + jsonRpcRequest("method", "bar") + "]", encoding);
+        assertThat(response.isArray()).isTrue();
+        assertThat(response.get(1).get("result").asText()).isEqualTo("bar");
+
+        nnc = createNodeWithRPCDataService(() -> RpcDataService.builder(new MyWildcardHandler()).build());
+        response = sendEncodedRPCRequest(nnc, jsonRpcRequest("myMethod", "param1", "param2"), encoding);
+        assertThat(mapper.writeValueAsString(response.get("result"))).contains("myMethod,param1,param2");
+    }
+
+    private static JsonNode sendEncodedRPCRequest(final NativeNodeContainer nnc, final String jsonRpcRequest,
+        final JsonRpcEncoding encoding) throws IOException {
+        var mapper = ObjectMapperUtil.getInstance().getObjectMapper(encoding);
+        var request = mapper.writeValueAsBytes(mapper.readTree(jsonRpcRequest));
+        var out = new ByteArrayOutputStream();
+        NodeViewManager.getInstance().getDataServiceManager().callRpcDataService(NodeWrapper.of(nnc), request,
+            encoding, out);
+        return mapper.readTree(out.toByteArray());
+    }
+
+    @Test
+    void testEncodingFromMediaType() {
+        assertThat(JsonRpcEncoding.fromMediaType(null)).isEqualTo(JsonRpcEncoding.JSON);
+        assertThat(JsonRpcEncoding.fromMediaType("application/json; charset=utf-8")).isEqualTo(JsonRpcEncoding.JSON);
+        assertThat(JsonRpcEncoding.fromMediaType("text/unknown")).isEqualTo(JsonRpcEncoding.JSON);
+        assertThat(JsonRpcEncoding.fromMediaType("application/cbor")).isEqualTo(JsonRpcEncoding.CBOR);
+    }
+
+    @Test
+    void testAsyncRequestAndHandlerReturningFuture() throws Exception {
+        var nnc = createNodeWithRPCDataService(
+            () -> RpcDataService.builder(new AsyncService()).asynchronousExecution().build());
+        var dataServiceManager = NodeViewManager.getInstance().getDataServiceManager();
+
+        var response = dataServiceManager
+            .callRpcDataServiceAsync(NodeWrapper.of(nnc), jsonRpcRequest("asyncMethod", "foo")).get();
+        assertThat(response).isEqualTo("""
+                {"jsonrpc":"2.0","id":1,"result":"async foo"}
+                """);
+
+        response = dataServiceManager
+            .callRpcDataServiceAsync(NodeWrapper.of(nnc), jsonRpcRequest("failingAsyncMethod", "foo")).get();
+        final var error = ObjectMapperUtil.getInstance().getObjectMapper().readTree(response).get("error");
+        assertEquals(CUSTOM_SERVER_ERROR_UPPER - 1, error.get("code").asInt());
+        assertEquals("foo", error.get("message").asText());
+    }
+
+    @Test
+    void testAsyncResponseIsCompletedOnceTheHandlerResultCompletes() throws Exception {
+        var service = new PendingResultService();
+        var nnc = createNodeWithRPCDataService(() -> RpcDataService.builder(service).build());
+        var dataServiceManager = NodeViewManager.getInstance().getDataServiceManager();
+
+        var response = dataServiceManager.callRpcDataServiceAsync(NodeWrapper.of(nnc), jsonRpcRequest("pendingMethod"));
+        assertThat(response).isNotDone();
+
+        service.m_result.complete("done");
+        assertThat(response.get()).isEqualTo("""
+                {"jsonrpc":"2.0","id":1,"result":"done"}
+                """);
+
+        service.m_result = new CompletableFuture<>();
+        response = dataServiceManager.callRpcDataServiceAsync(NodeWrapper.of(nnc), jsonRpcRequest("pendingMethod"));
+        service.m_result.completeExceptionally(new DataServiceException("failed"));
+        final var error = ObjectMapperUtil.getInstance().getObjectMapper().readTree(response.get()).get("error");
+        assertEquals(CUSTOM_SERVER_ERROR_UPPER - 1, error.get("code").asInt());
+        assertEquals("failed", error.get("message").asText());
+    }
+
+    public static class PendingResultService {
+
+        private CompletableFuture<String> m_result = new CompletableFuture<>();
+
+        public CompletableFuture<String> pendingMethod() {
+            return m_result;
+        }
+    }
+
+    public static class AsyncService {
+        public CompletableFuture<String> asyncMethod(final String param) {
+            return CompletableFuture.supplyAsync(() -> "async " + param);
+        }
+
+        public CompletableFuture<String> failingAsyncMethod(final String param) {
+            return CompletableFuture.failedFuture(new DataServiceException(param));
+        }
+    }
+
+    @Test
+    void testCoalesceIdempotentRequests() throws Exception {
+        var service = new IdempotentService();
+        var nnc = createNodeWithRPCDataService(
+            () -> RpcDataService.builder(service).coalesceIdempotentRequests(Duration.ofMinutes(1)).build());
+        var mapper = ObjectMapperUtil.getInstance().getObjectMapper();
+        var request1 = jsonRpcRequest("idempotentMethod", "foo");
+        var request2 = ((ObjectNode)mapper.readTree(request1)).put("id", 2).toString();
+
+        var executor = Executors.newFixedThreadPool(2);
+        try {
+            var future1 = executor.submit(() -> sendRPCRequest(nnc, request1));
+            assertThat(service.m_started.await(10, TimeUnit.SECONDS)).isTrue();
+            var secondRequestThread = new AtomicReference<Thread>();
+            var future2 = executor.submit(() -> {
+                secondRequestThread.set(Thread.currentThread());
+                return sendRPCRequest(nnc, request2);
+            });
+            // the second request waits for the computation of the first one
+            await().until(() -> secondRequestThread.get() != null
+                && secondRequestThread.get().getState() == Thread.State.WAITING);
+            service.m_release.countDown();
+            assertThat(future1.get()).isEqualTo("""
+                    {"jsonrpc":"2.0","id":1,"result":"foo"}
+                    """);
+            assertThat(future2.get()).isEqualTo("""
+                    {"jsonrpc":"2.0","id":2,"result":"foo"}
+                    """);
+        } finally {
+            executor.shutdownNow();
+        }
+        assertThat(service.m_numCalls.get()).isOne();
+
+        // kept response
+        sendRPCRequest(nnc, request1);
+        assertThat(service.m_numCalls.get()).isOne();
+
+        // non-idempotent methods invalidate the kept responses
+        sendRPCRequest(nnc, jsonRpcRequest("otherMethod"));
+        sendRPCRequest(nnc, request1);
+        assertThat(service.m_numCalls.get()).isEqualTo(2);
+    }
+
+    public static class IdempotentService {
+
+        private final AtomicInteger m_numCalls = new AtomicInteger();
+
+        private final CountDownLatch m_started = new CountDownLatch(1);
+
+        private final CountDownLatch m_release = new CountDownLatch(1);
+
+        @RpcDataService.Idempotent
+        public String idempotentMethod(final String param) throws InterruptedException {
+            m_numCalls.incrementAndGet();
+            m_started.countDown();
+            m_release.await(10, TimeUnit.SECONDS);
+            return param;
+        }
+
+        public void otherMethod() {
+            // nothing to do
+        }
+    }
+
+    @Test
+    void testIdempotentMethodOfInterface() throws IOException {
+        var service = new IdempotentInterfaceImpl();
+        var nnc = createNodeWithRPCDataService(
+            () -> RpcDataService.builder(service).coalesceIdempotentRequests(Duration.ofMinutes(1)).build());
+        sendRPCRequest(nnc, jsonRpcRequest("idempotentMethod", "foo"));
+        sendRPCRequest(nnc, jsonRpcRequest("idempotentMethod", "foo"));
+        assertThat(service.m_numCalls.get()).isOne();
+    }
+
+    public interface IdempotentInterface {
+
+        @RpcDataService.Idempotent
+        String idempotentMethod(String param);
+
+    }
+
+    public static class IdempotentInterfaceImpl implements IdempotentInterface {
+
+        private final AtomicInteger m_numCalls = new AtomicInteger();
+
+        @Override
+        public String idempotentMethod(final String param) {
+            m_numCalls.incrementAndGet();
+            return param;
+        }
+    }
+
+    @Test
+    void testNonIdempotentRequestDetachesComputationInFlight() throws Exception {
+        var service = new IdempotentService();
+        var nnc = createNodeWithRPCDataService(
+            () -> RpcDataService.builder(service).coalesceIdempotentRequests(Duration.ofMinutes(1)).build());
+        var request = jsonRpcRequest("idempotentMethod", "foo");
+
+        var executor = Executors.newFixedThreadPool(2);
+        try {
+            var future1 = executor.submit(() -> sendRPCRequest(nnc, request));
+            assertThat(service.m_started.await(10, TimeUnit.SECONDS)).isTrue();
+            sendRPCRequest(nnc, jsonRpcRequest("otherMethod"));
+            // the computation in flight might be based on outdated state, i.e. it must not be joined anymore
+            var future2 = executor.submit(() -> sendRPCRequest(nnc, request));
+            await().until(() -> service.m_numCalls.get() == 2);
+            service.m_release.countDown();
+            assertThat(future1.get()).isEqualTo(future2.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testIdempotentUnlessTrue() throws IOException {
+        var service = new ConditionallyIdempotentService();
+        var nnc = createNodeWithRPCDataService(
+            () -> RpcDataService.builder(service).coalesceIdempotentRequests(Duration.ofMinutes(1)).build());
+        var idempotentRequest = jsonRpcRequest("method", TextNode.valueOf("foo"), BooleanNode.FALSE);
+        sendRPCRequest(nnc, idempotentRequest);
+        sendRPCRequest(nnc, idempotentRequest);
+        assertThat(service.m_numCalls.get()).isOne();
+
+        var nonIdempotentRequest = jsonRpcRequest("method", TextNode.valueOf("foo"), BooleanNode.TRUE);
+        sendRPCRequest(nnc, nonIdempotentRequest);
+        sendRPCRequest(nnc, nonIdempotentRequest);
+        assertThat(service.m_numCalls.get()).isEqualTo(3);
+
+        // the non-idempotent calls also invalidated the kept response
+        sendRPCRequest(nnc, idempotentRequest);
+        assertThat(service.m_numCalls.get()).isEqualTo(4);
+    }
+
+    public static class ConditionallyIdempotentService {
+
+        private final AtomicInteger m_numCalls = new AtomicInteger();
+
+        @RpcDataService.Idempotent(unlessTrue = 1)
+        public String method(final String param, final boolean clearCache) {
+            m_numCalls.incrementAndGet();
+            return param;
+        }
+    }
+
+    @Test
+    void testPrecompiledDispatch() throws IOException {
+        var nnc = createNodeWithRPCDataService(
+            () -> RpcDataService.builder(new MyService()).precompiledDispatch().build());
+        assertThat(sendRPCRequest(nnc, jsonRpcRequest("myMethod"))).isEqualTo(MyService.RESPONSE);
+
+        nnc = createNodeWithRPCDataService(() -> RpcDataService.builder()
+            .addService("internal", new ServiceThrowingInternalError())
+            .addService("user", new ServiceThrowingUserError()).precompiledDispatch().build());
+        var mapper = ObjectMapperUtil.getInstance().getObjectMapper();
+        var error = mapper.readTree(sendRPCRequest(nnc, jsonRpcRequest("internal.erroneusMethod", "foo")))
+            .get("error");
+        assertEquals(CUSTOM_SERVER_ERROR_UPPER, error.get("code").asInt());
+        assertEquals("java.lang.IllegalArgumentException", error.get("data").get("typeName").asText());
+        error = mapper.readTree(sendRPCRequest(nnc, jsonRpcRequest("user.erroneusMethod", "foo", "bar")))
+            .get("error");
+        assertEquals(CUSTOM_SERVER_ERROR_UPPER - 1, error.get("code").asInt());
+        assertEquals("bar", error.get("data").get("details").asText());
+
+        // not dispatched but handled by the generic json-rpc server
+        error = mapper.readTree(sendRPCRequest(nnc, jsonRpcRequest("user.unknownMethod"))).get("error");
+        assertEquals(-32601, error.get("code").asInt());
+    }
+
+    public static class ServiceWithUnserializableResult {
+
+        public static class UnserializableResult {
+            public String getValue() {
+                throw new IllegalStateException("not serializable");
+            }
+        }
+
+        public UnserializableResult getResult() {
+            return new UnserializableResult();
+        }
+    }
+
+    @Test
+    void testPrecompiledDispatchWritesErrorResponseIfResultCantBeSerialized() throws IOException {
+        var nnc = createNodeWithRPCDataService(
+            () -> RpcDataService.builder(new ServiceWithUnserializableResult()).precompiledDispatch().build());
+        var response = sendRPCRequest(nnc, jsonRpcRequest("getResult"));
+        var root = ObjectMapperUtil.getInstance().getObjectMapper().readTree(response);
+        assertThat(root.has("result")).isFalse();
+        assertEquals(CUSTOM_SERVER_ERROR_UPPER, root.get("error").get("code").asInt());
+        assertThat(response).endsWith("}\n");
+    }
+
+    @Test
+    void testInstrumentation() {
+        var nnc = createNodeWithRPCDataService(() -> RpcDataService.builder()
+            .addService("my", new MyService()).addService("user", new ServiceThrowingUserError()).build());
+        var invocations = new ArrayList<String>();
+        DataServiceInvocationListener listener = (invocation, durationNanos, responseSize, failed) -> invocations
+            .add(invocation.serviceType() + ":" + invocation.method() + ":" + failed + ":" + (responseSize > 0));
+        DataServiceInstrumentation.addListener(listener);
+        DataServiceInstrumentation.setStatisticsEnabled(true);
+        try {
+            DataServiceInstrumentation.getStatistics().reset();
+            sendRPCRequest(nnc, jsonRpcRequest("my.myMethod"));
+            sendRPCRequest(nnc, jsonRpcRequest("my.myMethod"));
+            sendRPCRequest(nnc, jsonRpcRequest("user.erroneusMethod", "foo", "bar"));
+            assertThat(invocations).containsExactly("RPC:my.myMethod:false:true", "RPC:my.myMethod:false:true",
+                "RPC:user.erroneusMethod:true:true");
+
+            var stats = DataServiceInstrumentation.getStatistics().getMethodStatistics().stream()
+                .collect(Collectors.toMap(DataServiceMethodStatistics::getMethod, s -> s));
+            var myMethodStats = stats.get("my.myMethod");
+            assertThat(myMethodStats.getNodeFactory()).isEqualTo(nnc.getNode().getFactory().getClass().getName());
+            assertThat(myMethodStats.getServiceType()).isEqualTo("RPC");
+            assertThat(myMethodStats.getCount()).isEqualTo(2);
+            assertThat(myMethodStats.getErrorCount()).isZero();
+            assertThat(myMethodStats.getActiveCount()).isZero();
+            assertThat(myMethodStats.getMaxActiveCount()).isEqualTo(1);
+            assertThat(myMethodStats.getP99Millis()).isGreaterThanOrEqualTo(myMethodStats.getP50Millis());
+            assertThat(stats.get("user.erroneusMethod").getErrorCount()).isEqualTo(1);
+        } finally {
+            DataServiceInstrumentation.removeListener(listener);
+            DataServiceInstrumentation.setStatisticsEnabled(false);
+            DataServiceInstrumentation.getStatistics().reset();
+        }
+
+        // no more notifications once removed
+        sendRPCRequest(nnc, jsonRpcRequest("my.myMethod"));
+        assertThat(invocations).hasSize(3);
+        assertThat(DataServiceInstrumentation.getStatistics().getMethodStatistics()).isEmpty();
+    }
+
     private static String jsonRpcRequestFromParameterMap(final String method, final Map<String, String> params) {
         var mapper = ObjectMapperUtil.getInstance().getObjectMapper();
         var paramsNode = mapper.convertValue(params, ObjectNode.class);
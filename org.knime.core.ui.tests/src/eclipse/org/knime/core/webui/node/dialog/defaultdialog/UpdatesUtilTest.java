@@ -55,6 +55,8 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import java.math.BigDecimal;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
 
@@ -626,6 +628,186 @@ public class UpdatesUtilTest {
 
     }
 
+    @Test
+    void testIndependentUpdatesBeforeOpenDialogAreComputedConcurrently() {
+
+        class TestSettings implements NodeParameters {
+
+            TestSettings() {
+            }
+
+            static final CountDownLatch BOTH_STARTED = new CountDownLatch(2);
+
+            static String awaitOtherProvider() {
+                BOTH_STARTED.countDown();
+                try {
+                    return BOTH_STARTED.await(10, TimeUnit.SECONDS) ? "concurrent" : "sequential";
+                } catch (InterruptedException e) { // NOSONAR
+                    throw new IllegalStateException(e);
+                }
+            }
+
+            static final class FirstProvider implements StateProvider<String> {
+
+                @Override
+                public void init(final StateProviderInitializer initializer) {
+                    initializer.computeBeforeOpenDialog();
+                }
+
+                @Override
+                public String computeState(final NodeParametersInput context) {
+                    return awaitOtherProvider();
+                }
+
+            }
+
+            static final class SecondProvider implements StateProvider<String> {
+
+                @Override
+                public void init(final StateProviderInitializer initializer) {
+                    initializer.computeBeforeOpenDialog();
+                }
+
+                @Override
+                public String computeState(final NodeParametersInput context) {
+                    return awaitOtherProvider();
+                }
+
+            }
+
+            static final class DependentProvider implements StateProvider<String> {
+
+                Supplier<String> m_firstSupplier;
+
+                @Override
+                public void init(final StateProviderInitializer initializer) {
+                    m_firstSupplier = initializer.computeFromProvidedState(FirstProvider.class);
+                }
+
+                @Override
+                public String computeState(final NodeParametersInput context) {
+                    return "dependent on " + m_firstSupplier.get();
+                }
+
+            }
+
+            @Widget(title = "", description = "")
+            @ValueProvider(FirstProvider.class)
+            String m_first;
+
+            @Widget(title = "", description = "")
+            @ValueProvider(SecondProvider.class)
+            String m_second;
+
+            @Widget(title = "", description = "")
+            @ValueProvider(DependentProvider.class)
+            String m_dependent;
+
+        }
+        final var response = buildUpdates(new TestSettings());
+
+        assertThatJson(response).inPath("$.initialUpdates").isArray().hasSize(3);
+        assertThatJson(response).inPath("$.initialUpdates[0].scope").isString()
+            .isEqualTo("#/properties/model/properties/dependent");
+        assertThatJson(response).inPath("$.initialUpdates[0].values[0].value").isString()
+            .isEqualTo("dependent on concurrent");
+        assertThatJson(response).inPath("$.initialUpdates[1].scope").isString()
+            .isEqualTo("#/properties/model/properties/first");
+        assertThatJson(response).inPath("$.initialUpdates[1].values[0].value").isString().isEqualTo("concurrent");
+        assertThatJson(response).inPath("$.initialUpdates[2].scope").isString()
+            .isEqualTo("#/properties/model/properties/second");
+        assertThatJson(response).inPath("$.initialUpdates[2].values[0].value").isString().isEqualTo("concurrent");
+    }
+
+
+    static final class NestedSettings implements NodeParameters {
+
+        static final class ThreadNameProvider implements StateProvider<String> {
+
+            @Override
+            public void init(final StateProviderInitializer initializer) {
+                initializer.computeBeforeOpenDialog();
+            }
+
+            @Override
+            public String computeState(final NodeParametersInput context) {
+                return Thread.currentThread().getName();
+            }
+
+        }
+
+        @Widget(title = "", description = "")
+        @ValueProvider(ThreadNameProvider.class)
+        String m_first;
+
+        @Widget(title = "", description = "")
+        @ValueProvider(ThreadNameProvider.class)
+        String m_second;
+
+    }
+
+    @Test
+    void testNestedInitialUpdatesAreComputedOnTheCallingTask() {
+
+        class TestSettings implements NodeParameters {
+
+            TestSettings() {
+            }
+
+            static String computeNestedUpdates() {
+                final var nested = buildUpdates(new NestedSettings());
+                final var ownThread = Thread.currentThread().getName();
+                for (var update : nested.get("initialUpdates")) {
+                    if (!ownThread.equals(update.get("values").get(0).get("value").asText())) {
+                        return "other thread";
+                    }
+                }
+                return "same thread";
+            }
+
+            static final class FirstProvider implements StateProvider<String> {
+
+                @Override
+                public void init(final StateProviderInitializer initializer) {
+                    initializer.computeBeforeOpenDialog();
+                }
+
+                @Override
+                public String computeState(final NodeParametersInput context) {
+                    return computeNestedUpdates();
+                }
+
+            }
+
+            static final class SecondProvider implements StateProvider<String> {
+
+                @Override
+                public void init(final StateProviderInitializer initializer) {
+                    initializer.computeBeforeOpenDialog();
+                }
+
+                @Override
+                public String computeState(final NodeParametersInput context) {
+                    return computeNestedUpdates();
+                }
+
+            }
+
+            @Widget(title = "", description = "")
+            @ValueProvider(FirstProvider.class)
+            String m_first;
+
+            @Widget(title = "", description = "")
+            @ValueProvider(SecondProvider.class)
+            String m_second;
+
+        }
+        final var response = buildUpdates(new TestSettings());
+
+        assertThatJson(response).inPath("$.initialUpdates").isArray().hasSize(2);
+        assertThatJson(response).inPath("$.initialUpdates[0].values[0].value").isString().isEqualTo("same thread");
+        assertThatJson(response).inPath("$.initialUpdates[1].values[0].value").isString().isEqualTo("same thread");
+    }
     @Test
     void testUpdateAfterOpenDialog() {
         class TestSettings implements NodeParameters {
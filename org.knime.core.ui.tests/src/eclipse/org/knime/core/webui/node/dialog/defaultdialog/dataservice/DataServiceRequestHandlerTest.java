@@ -53,12 +53,19 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.util.List;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
 
 import org.junit.jupiter.api.Test;
+import org.knime.core.webui.node.dialog.defaultdialog.widget.handler.RequestErrorContext;
 import org.knime.core.webui.node.dialog.defaultdialog.widget.handler.WidgetHandlerException;
 
 @SuppressWarnings("java:S2698") // we accept assertions without messages
@@ -129,4 +136,107 @@ class DataServiceRequestHandlerTest {
 
     }
 
+    @Test
+    void coalesceDebouncedRequestsOfSameKey() throws Exception {
+        final var executorService = Executors.newFixedThreadPool(3);
+        final var clock = new AtomicLong();
+        final var scheduledStarts = new LinkedBlockingQueue<Runnable>();
+        final var requestHandler =
+            new DataServiceRequestHandler(clock::get, (start, delayNanos) -> scheduledStarts.add(start));
+        final var firstRequestStarted = new CountDownLatch(1);
+        final var supersededRequestStarted = new AtomicBoolean();
+
+        final Callable<String> blockingCallable = () -> {
+            firstRequestStarted.countDown();
+            while (true) {
+                try {
+                    Thread.sleep(1000);
+                } catch (InterruptedException ex) {
+                    return "interrupted";
+                }
+            }
+        };
+        Future<Result<String>> future1 =
+            executorService.submit(() -> requestHandler.handleDebouncedRequest("foo", blockingCallable));
+        // the first request of a burst is started directly
+        assertThat(firstRequestStarted.await(10, TimeUnit.SECONDS)).isTrue();
+
+        clock.set(TimeUnit.MILLISECONDS.toNanos(20));
+        final Callable<String> supersededCallable = () -> {
+            supersededRequestStarted.set(true);
+            return "second";
+        };
+        Future<Result<String>> future2 =
+            executorService.submit(() -> requestHandler.handleDebouncedRequest("foo", supersededCallable));
+        final var start2 = scheduledStarts.poll(10, TimeUnit.SECONDS);
+        assertThat(future1.get().state()).isEqualTo(ResultState.CANCELED);
+
+        clock.set(TimeUnit.MILLISECONDS.toNanos(30));
+        Future<Result<String>> future3 =
+            executorService.submit(() -> requestHandler.handleDebouncedRequest("foo", () -> "third"));
+        final var start3 = scheduledStarts.poll(10, TimeUnit.SECONDS);
+        // the superseded request is answered without waiting for its window to pass
+        assertThat(future2.get().state()).isEqualTo(ResultState.CANCELED);
+
+        start2.run();
+        start3.run();
+        final var result3 = future3.get();
+        executorService.shutdown();
+
+        assertThat(supersededRequestStarted).isFalse();
+        assertThat(result3.state()).isEqualTo(ResultState.SUCCESS);
+        assertThat(result3.result()).isEqualTo("third");
+    }
+
+    @Test
+    void startDebouncedRequestsOutsideTheWindowDirectly() throws InterruptedException, ExecutionException {
+        final var clock = new AtomicLong();
+        final var requestHandler = new DataServiceRequestHandler(clock::get, (start, delayNanos) -> {
+            throw new AssertionError("Requests outside the debounce window must not be delayed.");
+        });
+        final var result1 = requestHandler.handleDebouncedRequest("foo", () -> "first");
+        clock.set(TimeUnit.MILLISECONDS.toNanos(DataServiceRequestHandler.DEBOUNCE_WINDOW_MILLIS));
+        final var result2 = requestHandler.handleDebouncedRequest("foo", () -> "second");
+
+        assertThat(result1.result()).isEqualTo("first");
+        assertThat(result2.result()).isEqualTo("second");
+    }
+
+    @Test
+    void doNotCoalesceDebouncedRequestsOfDifferentKeys() throws InterruptedException, ExecutionException {
+        final var requestHandler = new DataServiceRequestHandler();
+        final var result1 = requestHandler.handleDebouncedRequest("foo", () -> "first");
+        final var result2 = requestHandler.handleDebouncedRequest("bar", () -> "second");
+
+        assertThat(result1.state()).isEqualTo(ResultState.SUCCESS);
+        assertThat(result1.result()).isEqualTo("first");
+        assertThat(result2.state()).isEqualTo(ResultState.SUCCESS);
+        assertThat(result2.result()).isEqualTo("second");
+    }
+
+    @Test
+    void collectErrorMessagesPerRequest() throws InterruptedException, ExecutionException {
+        final var executorService = Executors.newFixedThreadPool(2);
+        final var requestHandler = new DataServiceRequestHandler();
+        final var bothStarted = new CountDownLatch(2);
+        final Function<String, Callable<String>> addMessageConcurrently = message -> () -> {
+            bothStarted.countDown();
+            bothStarted.await();
+            RequestErrorContext.addErrorMessage(message);
+            return message;
+        };
+
+        final var future1 = executorService.submit(() -> requestHandler.handleRequest("foo",
+            addMessageConcurrently.apply("first")));
+        final var future2 = executorService.submit(() -> requestHandler.handleRequest("bar",
+            addMessageConcurrently.apply("second")));
+        final var result1 = future1.get();
+        final var result2 = future2.get();
+        executorService.shutdown();
+
+        assertThat(result1.message()).containsExactly("first");
+        assertThat(result2.message()).containsExactly("second");
+        assertThat(requestHandler.handleRequest("foo", () -> "third").message()).isEmpty();
+    }
+
 }
@@ -0,0 +1,173 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent): created
+ */
+package org.knime.core.webui.node.dialog.defaultdialog.dataservice;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.Test;
+import org.knime.core.webui.node.dialog.defaultdialog.dataservice.DialogRequestExecutor.Priority;
+
+/**
+ * Tests for {@link DialogRequestExecutor}.
+ *
+ * @author agent
+ */
+@SuppressWarnings("java:S2698") // we accept assertions without messages
+class DialogRequestExecutorTest {
+
+    @Test
+    void testQueuedRequestsAreStartedByPriority() throws InterruptedException, ExecutionException {
+        final var executor = new DialogRequestExecutor(1, 10);
+        final var dialog = executor.createDialogQueue();
+        final var blockingStarted = new CountDownLatch(1);
+        final var release = new CountDownLatch(1);
+        final List<Priority> started = new CopyOnWriteArrayList<>();
+
+        final var blocking = dialog.submit(Priority.INTERACTIVE, () -> {
+            blockingStarted.countDown();
+            return release.await(10, TimeUnit.SECONDS);
+        });
+        assertThat(blockingStarted.await(10, TimeUnit.SECONDS)).isTrue();
+        final var background = dialog.submit(Priority.BACKGROUND, () -> started.add(Priority.BACKGROUND));
+        final var interactive = dialog.submit(Priority.INTERACTIVE, () -> started.add(Priority.INTERACTIVE));
+        final var initial = dialog.submit(Priority.INITIAL, () -> started.add(Priority.INITIAL));
+        assertThat(executor.getQueuedRequestCount()).isEqualTo(3);
+        assertThat(executor.getQueuedInitialRequestCount()).isEqualTo(1);
+        assertThat(executor.getQueuedInteractiveRequestCount()).isEqualTo(1);
+        assertThat(executor.getQueuedBackgroundRequestCount()).isEqualTo(1);
+
+        release.countDown();
+        blocking.get();
+        background.get();
+        interactive.get();
+        initial.get();
+
+        assertThat(started).containsExactly(Priority.INITIAL, Priority.INTERACTIVE, Priority.BACKGROUND);
+        assertThat(executor.getQueuedRequestCount()).isZero();
+        assertThat(executor.getMaxQueuedRequestCount()).isEqualTo(3);
+        // futures are completed before they count as completed
+        await().untilAsserted(() -> assertThat(executor.getCompletedRequestCount()).isEqualTo(4));
+    }
+
+    @Test
+    void testRequestsOfOneDialogAreLimited() throws InterruptedException, ExecutionException {
+        final var executor = new DialogRequestExecutor(2, 1);
+        final var busyDialog = executor.createDialogQueue();
+        final var otherDialog = executor.createDialogQueue();
+        final var release = new CountDownLatch(1);
+        final var secondStarted = new AtomicBoolean();
+
+        final var first = busyDialog.submit(Priority.INTERACTIVE, () -> release.await(10, TimeUnit.SECONDS));
+        final var second = busyDialog.submit(Priority.INTERACTIVE, () -> secondStarted.getAndSet(true));
+
+        assertThat(otherDialog.submit(Priority.INTERACTIVE, () -> "other").get()).isEqualTo("other");
+        assertThat(secondStarted).isFalse();
+        await().untilAsserted(() -> assertThat(executor.getQueuedRequestCount()).isEqualTo(1));
+
+        release.countDown();
+        assertThat(first.get()).isTrue();
+        assertThat(second.get()).isFalse();
+        assertThat(secondStarted).isTrue();
+    }
+
+    @Test
+    void testCanceledRequestsFreeTheirSlot() throws InterruptedException, ExecutionException {
+        final var executor = new DialogRequestExecutor(2, 1);
+        final var dialog = executor.createDialogQueue();
+        final var blocking = dialog.submit(Priority.INTERACTIVE, () -> {
+            Thread.sleep(10_000);
+            return "blocking";
+        });
+        final var waiting = dialog.submit(Priority.INTERACTIVE, () -> "waiting");
+        final var next = dialog.submit(Priority.INTERACTIVE, () -> "next");
+
+        waiting.cancel(true);
+        blocking.cancel(true);
+
+        assertThat(next.get()).isEqualTo("next");
+        assertThat(executor.getQueuedRequestCount()).isZero();
+    }
+
+    @Test
+    void testCanceledRequestKeepsItsSlotUntilItReturns() throws InterruptedException, ExecutionException {
+        final var executor = new DialogRequestExecutor(2, 1);
+        final var dialog = executor.createDialogQueue();
+        final var started = new CountDownLatch(1);
+        final var release = new CountDownLatch(1);
+        final var ignoringInterrupts = dialog.submit(Priority.INTERACTIVE, () -> {
+            started.countDown();
+            while (true) {
+                try {
+                    return release.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) { // NOSONAR the request doesn't react to being canceled
+                }
+            }
+        });
+        assertThat(started.await(10, TimeUnit.SECONDS)).isTrue();
+        final var nextStarted = new AtomicBoolean();
+        final var next = dialog.submit(Priority.INTERACTIVE, () -> nextStarted.getAndSet(true));
+
+        ignoringInterrupts.cancel(true);
+        Thread.sleep(200);
+        assertThat(nextStarted).as("the canceled request still occupies a thread").isFalse();
+
+        release.countDown();
+        assertThat(next.get()).isFalse();
+        assertThat(nextStarted).isTrue();
+    }
+
+}
@@ -57,6 +57,7 @@ import static org.mockito.Mockito.when;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
 
 import org.junit.jupiter.api.AfterAll;
@@ -393,6 +394,127 @@ class DefaultNodeDialogDataServiceImplTest {
             }
         }
 
+        @Test
+        void testStateProviderResultsAreReusedForUnchangedDependencies()
+            throws ExecutionException, InterruptedException {
+
+            class UpdateSettings implements NodeParameters {
+
+                static final AtomicInteger PURE_INVOCATIONS = new AtomicInteger();
+
+                static final AtomicInteger TRIGGERED_INVOCATIONS = new AtomicInteger();
+
+                static final AtomicInteger UNDECLARED_INVOCATIONS = new AtomicInteger();
+
+                static final AtomicInteger FAILING_INVOCATIONS = new AtomicInteger();
+
+                static final class PureProvider implements StateProvider<String> {
+
+                    private Supplier<String> m_valueSupplier;
+
+                    @Override
+                    public void init(final StateProviderInitializer initializer) {
+                        m_valueSupplier = initializer.computeFromValueSupplier(MyValueRef.class);
+                        initializer.declarePure();
+                    }
+
+                    @Override
+                    public String computeState(final NodeParametersInput context) {
+                        PURE_INVOCATIONS.incrementAndGet();
+                        return m_valueSupplier.get() + "_pure";
+                    }
+
+                }
+
+                static final class UndeclaredProvider implements StateProvider<String> {
+
+                    private Supplier<String> m_valueSupplier;
+
+                    @Override
+                    public void init(final StateProviderInitializer initializer) {
+                        m_valueSupplier = initializer.computeFromValueSupplier(MyValueRef.class);
+                    }
+
+                    @Override
+                    public String computeState(final NodeParametersInput context) {
+                        UNDECLARED_INVOCATIONS.incrementAndGet();
+                        return m_valueSupplier.get() + "_undeclared";
+                    }
+
+                }
+
+                static final class FailingProvider implements StateProvider<String> {
+
+                    @Override
+                    public void init(final StateProviderInitializer initializer) {
+                        initializer.computeFromValueSupplier(MyValueRef.class);
+                        initializer.declarePure();
+                    }
+
+                    @Override
+                    public String computeState(final NodeParametersInput context)
+                        throws StateComputationFailureException {
+                        FAILING_INVOCATIONS.incrementAndGet();
+                        throw new StateComputationFailureException();
+                    }
+
+                }
+
+                static final class TriggeredProvider implements StateProvider<String> {
+
+                    @Override
+                    public void init(final StateProviderInitializer initializer) {
+                        initializer.computeOnValueChange(MyValueRef.class);
+                    }
+
+                    @Override
+                    public String computeState(final NodeParametersInput context) {
+                        return "invocation " + TRIGGERED_INVOCATIONS.incrementAndGet();
+                    }
+
+                }
+
+                @Widget(title = "", description = "")
+                @ValueReference(MyValueRef.class)
+                String m_dependency;
+
+                @Widget(title = "", description = "")
+                @ValueProvider(PureProvider.class)
+                String m_pure;
+
+                @Widget(title = "", description = "")
+                @ValueProvider(TriggeredProvider.class)
+                String m_triggered;
+
+                @Widget(title = "", description = "")
+                @ValueProvider(UndeclaredProvider.class)
+                String m_undeclared;
+
+                @Widget(title = "", description = "")
+                @ValueProvider(FailingProvider.class)
+                String m_failing;
+
+            }
+
+            final var dataService = getDataService(UpdateSettings.class);
+            final var valueRefScope = "#/properties/model/properties/dependency";
+            final var valueRefTrigger = new Trigger.ValueTrigger(valueRefScope);
+            final var foo = Map.of(valueRefScope, List.of(new IndexedValue<String>(List.of(), "foo")));
+            final var bar = Map.of(valueRefScope, List.of(new IndexedValue<String>(List.of(), "bar")));
+
+            dataService.update2("widgetId", valueRefTrigger, foo);
+            final var result = MAPPER.valueToTree(dataService.update2("widgetId", valueRefTrigger, foo).result());
+            assertThatJson(result).inPath("$[0].values[0].value").isEqualTo("foo_pure");
+            assertThatJson(result).inPath("$[1].values[0].value").isEqualTo("invocation 2");
+            assertThat(UpdateSettings.PURE_INVOCATIONS).hasValue(1);
+            assertThat(UpdateSettings.UNDECLARED_INVOCATIONS).hasValue(2);
+            assertThat(UpdateSettings.FAILING_INVOCATIONS).hasValue(2);
+
+            dataService.update2("widgetId", valueRefTrigger, bar);
+            assertThat(UpdateSettings.PURE_INVOCATIONS).hasValue(2);
+            assertThat(UpdateSettings.TRIGGERED_INVOCATIONS).hasValue(3);
+        }
+
         @Test
         void testMultipleUpdatesWithOneHandler() throws ExecutionException, InterruptedException {
 
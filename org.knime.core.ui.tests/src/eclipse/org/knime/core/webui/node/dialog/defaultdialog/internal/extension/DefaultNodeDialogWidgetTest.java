@@ -55,14 +55,19 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.knime.core.webui.node.dialog.defaultdialog.UpdatesUtilTest.buildUpdates;
 import static org.knime.core.webui.node.dialog.defaultdialog.jsonforms.uischema.JsonFormsUiSchemaUtilTest.buildTestUiSchema;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.util.Map;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.knime.core.node.workflow.WorkflowManager;
 import org.knime.core.webui.data.RpcDataService;
+import org.knime.core.webui.data.rpc.json.impl.JsonRpcDispatcher;
+import org.knime.core.webui.data.rpc.json.impl.JsonRpcEncoding;
+import org.knime.core.webui.data.rpc.json.impl.ObjectMapperUtil;
 import org.knime.core.webui.node.NodeWrapper;
 import org.knime.core.webui.node.dialog.NodeDialogManager;
 import org.knime.core.webui.node.dialog.NodeDialogManagerTest;
@@ -257,6 +262,28 @@ final class DefaultNodeDialogWidgetTest {
         assertThatJson(uischema).inPath("$.elements[0].options.rpcServiceName").isString().isEqualTo(serviceName);
     }
 
+    /**
+     * Tests that the rpc services of the node dialog, including the ones of extension widgets, are dispatched without
+     * reflection.
+     */
+    @Test
+    void testExtensionWidgetRpcServiceIsDispatchedViaPrecompiledDispatch() throws IOException {
+        var nc = NodeDialogManagerTest.createNodeWithNodeDialog(m_wfm,
+            () -> new DefaultNodeDialog(SettingsType.MODEL, RpcTestSettings.class));
+        var rpcDataService = NodeDialogManager.getInstance().getDataServiceManager()
+            .getDataServiceOfType(NodeWrapper.of(nc), RpcDataService.class).orElseThrow();
+        var serviceName = DefaultNodeDialog.toRpcServiceName(TestDefaultNodeDialogWidget.class);
+        var jsonRpcRequest = RpcDataService.jsonRpcRequest(serviceName + ".getTestValue");
+
+        var mapper = ObjectMapperUtil.getInstance().getRpcObjectMapper(JsonRpcEncoding.JSON);
+        var dispatched = new ByteArrayOutputStream();
+        assertThat(new JsonRpcDispatcher(Map.of(serviceName, rpcDataService.getHandler(serviceName)), mapper)
+            .handleRequest(jsonRpcRequest.getBytes(StandardCharsets.UTF_8), dispatched))
+                .as("the widget service is covered by the precompiled dispatch").isTrue();
+        assertThat(rpcDataService.handleRpcRequest(jsonRpcRequest))
+            .isEqualTo(dispatched.toString(StandardCharsets.UTF_8)).contains("\"result\":\"test-rpc-value\"");
+    }
+
     /**
      * Tests that extension widget renderers are registered as additional resources in the page.
      */
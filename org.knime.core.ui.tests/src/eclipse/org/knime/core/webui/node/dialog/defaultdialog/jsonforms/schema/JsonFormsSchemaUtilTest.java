@@ -69,6 +69,7 @@ import java.time.ZonedDateTime;
 
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.knime.core.data.DataTableSpec;
 import org.knime.core.node.port.PortObjectSpec;
 import org.knime.core.webui.node.dialog.defaultdialog.NodeParametersUtil;
 import org.knime.core.webui.node.dialog.defaultdialog.internal.file.MultiFileSelection;
@@ -77,6 +78,7 @@ import org.knime.core.webui.node.dialog.defaultdialog.internal.file.MultiFileSel
 import org.knime.core.webui.node.dialog.defaultdialog.internal.widget.WidgetInternal;
 import org.knime.core.webui.node.dialog.defaultdialog.jsonforms.JsonFormsDataUtil;
 import org.knime.core.webui.node.dialog.defaultdialog.widget.Modification;
+import org.knime.node.parameters.NodeParametersInput;
 import org.knime.node.parameters.Widget;
 import org.knime.node.parameters.WidgetGroup;
 import org.knime.node.parameters.persistence.Persistable;
@@ -446,6 +448,34 @@ class JsonFormsSchemaUtilTest {
         testSettings(DefaultSetting.class);
     }
 
+    private static class ContextDependentDefaultSetting implements WidgetGroup {
+
+        ContextDependentDefaultSetting() {
+        }
+
+        ContextDependentDefaultSetting(final NodeParametersInput context) {
+            m_numInputs = context.getInPortSpecs().length;
+        }
+
+        int m_numInputs;
+
+        String m_noDefault;
+    }
+
+    @Test
+    void testDefaultsAreResolvedPerContextForCachedSchema() {
+        final var withOneInput = getProperties(ContextDependentDefaultSetting.class, new DataTableSpec());
+        final var withTwoInputs =
+            getProperties(ContextDependentDefaultSetting.class, new DataTableSpec(), new DataTableSpec());
+
+        assertThatJson(withOneInput).inPath("$.numInputs.default").isEqualTo(1);
+        assertThatJson(withTwoInputs).inPath("$.numInputs.default").isEqualTo(2);
+        assertThatJson(withOneInput).inPath("$.noDefault").isObject().doesNotContainKey("default");
+        Assertions.assertThat(withTwoInputs).isNotSameAs(withOneInput);
+        assertThatJson(getProperties(ContextDependentDefaultSetting.class, new DataTableSpec()))
+            .isEqualTo(withOneInput);
+    }
+
     private static class IgnoreSetting implements WidgetGroup {
         private static String SNAPSHOT = "{\"testInt\":{\"type\":\"integer\",\"format\":\"int32\",\"default\":0}}";
 
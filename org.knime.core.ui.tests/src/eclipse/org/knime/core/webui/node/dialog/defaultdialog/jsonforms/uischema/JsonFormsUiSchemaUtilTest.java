@@ -180,6 +180,18 @@ public class JsonFormsUiSchemaUtilTest {
             .isEqualTo("#/properties/model/properties/customSetting");
     }
 
+    @Test
+    void testRepeatedGenerationYieldsIndependentEqualUiSchemas() {
+        final var first = buildTestUiSchema(DummySettings.class);
+        final var expected = first.deepCopy();
+        ((ObjectNode)first.at("/elements/0/elements/0")).putObject("options").put("format", "modified");
+
+        final var second = buildTestUiSchema(DummySettings.class);
+        assertThatJson(second).isEqualTo(expected);
+        assertThatJson(buildTestUiSchema(TestControlSettings.class)).isEqualTo(
+            buildTestUiSchema(TestControlSettings.class));
+    }
+
     @Test
     void testHiddenSettings() throws JsonProcessingException {
         @SuppressWarnings("unused")
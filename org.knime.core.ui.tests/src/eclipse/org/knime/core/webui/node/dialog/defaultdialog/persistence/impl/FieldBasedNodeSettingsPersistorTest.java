@@ -61,6 +61,7 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.apache.commons.lang3.NotImplementedException;
 import org.junit.jupiter.api.Test;
@@ -1770,4 +1771,61 @@ class FieldBasedNodeSettingsPersistorTest {
         testSaveLoad(settings);
     }
 
-}
\ No newline at end of file
+    static final class CountingPersistor implements NodeParametersPersistor<String> {
+
+        static final AtomicInteger INSTANCES = new AtomicInteger();
+
+        CountingPersistor() {
+            INSTANCES.incrementAndGet();
+        }
+
+        @Override
+        public String load(final NodeSettingsRO settings) throws InvalidSettingsException {
+            return settings.getString("counted");
+        }
+
+        @Override
+        public void save(final String obj, final NodeSettingsWO settings) {
+            settings.addString("counted", obj);
+        }
+
+        @Override
+        public String[][] getConfigPaths() {
+            return new String[][]{{"counted"}};
+        }
+    }
+
+    static final class SettingsWithCountingPersistor implements NodeParameters {
+
+        static final class Nested implements NodeParameters {
+            @Persistor(CountingPersistor.class)
+            String m_counted = "foo";
+        }
+
+        Nested m_nested = new Nested();
+
+        int m_plain = 1;
+    }
+
+    @Test
+    void testLoadersAndSaversAreCompiledOncePerClass() throws InvalidSettingsException {
+        assertThat(SettingsLoaderFactory.createSettingsLoader(SettingsWithCountingPersistor.class))
+            .isSameAs(SettingsLoaderFactory.createSettingsLoader(SettingsWithCountingPersistor.class));
+        assertThat(createSettingsSaver(SettingsWithCountingPersistor.class))
+            .isSameAs(createSettingsSaver(SettingsWithCountingPersistor.class));
+        final var instancesAfterCompilation = CountingPersistor.INSTANCES.get();
+
+        final var settings = new SettingsWithCountingPersistor();
+        settings.m_nested.m_counted = "bar";
+        settings.m_plain = 2;
+        for (int i = 0; i < 3; i++) {
+            final var nodeSettings = new NodeSettings(ROOT_KEY);
+            saveSettings(settings, nodeSettings);
+            final var loaded = loadSettings(SettingsWithCountingPersistor.class, nodeSettings);
+            assertThat(loaded.m_nested.m_counted).isEqualTo("bar");
+            assertThat(loaded.m_plain).isEqualTo(2);
+        }
+        assertThat(CountingPersistor.INSTANCES.get()).isEqualTo(instancesAfterCompilation);
+    }
+
+}
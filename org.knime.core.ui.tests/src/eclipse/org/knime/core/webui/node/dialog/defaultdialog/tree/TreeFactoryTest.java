@@ -0,0 +1,92 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent): created
+ */
+package org.knime.core.webui.node.dialog.defaultdialog.tree;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.knime.core.webui.node.dialog.SettingsType;
+import org.knime.core.webui.node.dialog.defaultdialog.persistence.persisttree.PersistTreeFactory;
+import org.knime.core.webui.node.dialog.defaultdialog.widgettree.WidgetTreeFactory;
+import org.knime.node.parameters.NodeParameters;
+
+/**
+ * Tests for the caching of trees in {@link TreeFactory}.
+ *
+ * @author agent
+ */
+class TreeFactoryTest {
+
+    static final class Settings implements NodeParameters {
+        String m_foo;
+
+        int m_bar;
+    }
+
+    @Test
+    void testTreesAreCachedPerClassAndSettingsType() {
+        final var modelTree = new WidgetTreeFactory().createTree(Settings.class, SettingsType.MODEL);
+        assertThat(new WidgetTreeFactory().createTree(Settings.class, SettingsType.MODEL)).isSameAs(modelTree);
+        assertThat(modelTree.getChildrenByName()).containsOnlyKeys("foo", "bar");
+
+        final var viewTree = new WidgetTreeFactory().createTree(Settings.class, SettingsType.VIEW);
+        assertThat(viewTree).isNotSameAs(modelTree);
+        assertThat(viewTree.getSettingsType()).isEqualTo(SettingsType.VIEW);
+        assertThat(new WidgetTreeFactory().createTree(Settings.class)).isNotSameAs(modelTree);
+    }
+
+    @Test
+    void testTreesAreCachedPerFactory() {
+        final var widgetTree = new WidgetTreeFactory().createTree(Settings.class, SettingsType.MODEL);
+        final var persistTree = new PersistTreeFactory().createTree(Settings.class, SettingsType.MODEL);
+        assertThat((Object)persistTree).isNotSameAs(widgetTree);
+        assertThat(new PersistTreeFactory().createTree(Settings.class, SettingsType.MODEL)).isSameAs(persistTree);
+    }
+
+}
@@ -64,7 +64,7 @@ import org.knime.core.node.port.PortObjectSpec;
 import org.knime.core.node.port.PortType;
 import org.knime.core.webui.node.dialog.defaultdialog.NodeParametersInputImpl;
 import org.knime.core.webui.node.dialog.defaultdialog.widget.DomainValuesProvider;
-import org.knime.core.webui.node.dialog.defaultdialog.widget.handler.ErrorHandlingSingleton;
+import org.knime.core.webui.node.dialog.defaultdialog.widget.handler.RequestErrorContext;
 import org.knime.core.webui.node.dialog.defaultdialog.widget.handler.WidgetHandlerException;
 
 /**
@@ -110,7 +110,7 @@ class DomainValuesProviderTest {
     }
 
     @Test
-    void testDomainValuesProviderThrowsException() {
+    void testDomainValuesProviderThrowsException() throws Exception {
 
         final var colSpecCreator = new DataColumnSpecCreator(testColumn, StringCell.TYPE);
         final var colSpec = colSpecCreator.createSpec();
@@ -122,9 +122,9 @@ class DomainValuesProviderTest {
 
         final var domainChoicesStateProviderTester = new DomainValuesProviderTester();
 
-        assertThat(domainChoicesStateProviderTester.computeState(context)).isEmpty();
-        ;
-        final var messages = ErrorHandlingSingleton.getErrorMessages();
+        final var errorContext = new RequestErrorContext();
+        assertThat(errorContext.wrap(() -> domainChoicesStateProviderTester.computeState(context)).call()).isEmpty();
+        final var messages = errorContext.getErrorMessages();
         assertThat(messages).hasSize(1);
         assertThat(messages.get(0)).contains(
             "No column domain values present for column \"colName\". Consider using a Domain Calculator node.");
@@ -0,0 +1,109 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (agent): created
+ */
+package org.knime.core.webui.node.dialog.scripting;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.knime.core.webui.data.RpcDataService.jsonRpcRequest;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.knime.core.node.workflow.NodeContext;
+import org.knime.core.webui.data.RpcDataService;
+import org.knime.core.webui.data.rpc.json.impl.JsonRpcDispatcher;
+import org.knime.core.webui.data.rpc.json.impl.JsonRpcEncoding;
+import org.knime.core.webui.data.rpc.json.impl.ObjectMapperUtil;
+import org.knime.node.parameters.NodeParameters;
+
+import com.fasterxml.jackson.databind.node.IntNode;
+import com.fasterxml.jackson.databind.node.TextNode;
+
+/**
+ * Tests the data service of the {@link AbstractDefaultScriptingNodeDialog}.
+ *
+ * @author agent
+ */
+class AbstractDefaultScriptingNodeDialogTest {
+
+    static final class TestSettings implements NodeParameters {
+    }
+
+    static final class TestScriptingNodeDialog extends AbstractDefaultScriptingNodeDialog {
+
+        TestScriptingNodeDialog() {
+            super(TestSettings.class);
+        }
+
+        @Override
+        protected GenericInitialDataBuilder getInitialData(final NodeContext context) {
+            return null;
+        }
+    }
+
+    @Test
+    void testScriptingServiceIsDispatchedViaPrecompiledDispatch() throws IOException {
+        var dataService = new TestScriptingNodeDialog().getDataServiceBuilder(null).build();
+        var request = jsonRpcRequest("ScriptingService.getInputOutputModelSubItems", TextNode.valueOf("unknown"),
+            IntNode.valueOf(0), IntNode.valueOf(10));
+
+        var mapper = ObjectMapperUtil.getInstance().getRpcObjectMapper(JsonRpcEncoding.JSON);
+        var dispatched = new ByteArrayOutputStream();
+        assertThat(new JsonRpcDispatcher(Map.of("ScriptingService", dataService.getHandler("ScriptingService")), mapper)
+            .handleRequest(request.getBytes(StandardCharsets.UTF_8), dispatched))
+                .as("the scripting service is covered by the precompiled dispatch").isTrue();
+        var response = dataService.handleRpcRequest(request);
+        assertThat(response).isEqualTo(dispatched.toString(StandardCharsets.UTF_8)).contains("\"result\":[]");
+        assertThat(RpcDataService.builder().addService("ScriptingService", dataService.getHandler("ScriptingService"))
+            .build().handleRpcRequest(request)).isEqualTo(response);
+    }
+
+}
@@ -0,0 +1,119 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent): created
+ */
+package org.knime.core.webui.node.dialog.scripting;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.knime.core.webui.node.dialog.scripting.ScriptingService.ConsoleOutputOverflowPolicy;
+import org.knime.core.webui.node.dialog.scripting.ScriptingService.ConsoleText;
+
+/**
+ * Tests for {@link ConsoleOutputBuffer}.
+ *
+ * @author agent
+ */
+class ConsoleOutputBufferTest {
+
+    @Test
+    void testMergesOutputOfSameStream() {
+        var buffer = new ConsoleOutputBuffer(1024, ConsoleOutputOverflowPolicy.KEEP_TAIL);
+        assertThat(buffer.append("a\n", false)).isTrue();
+        assertThat(buffer.append("b\n", false)).isFalse();
+        buffer.append("err\n", true);
+        buffer.append("\u00e4\u20ac\n", false);
+
+        assertThat(toStrings(buffer.drain())).containsExactly("out:a\nb\n", "err:err\n", "out:\u00e4\u20ac\n");
+        assertThat(buffer.drain()).isEmpty();
+        assertThat(buffer.append("c", false)).isTrue();
+    }
+
+    @Test
+    void testKeepTail() {
+        var buffer = new ConsoleOutputBuffer(100, ConsoleOutputOverflowPolicy.KEEP_TAIL);
+        for (var i = 0; i < 1000; i++) {
+            buffer.append("line " + i + "\n", i % 10 == 0);
+        }
+        var res = buffer.drain();
+        var text = res.stream().map(t -> t.text).collect(Collectors.joining());
+        assertThat(res.get(0).stderr).isTrue();
+        assertThat(res.get(0).text).contains("lines").contains("omitted");
+        assertThat(text).endsWith("line 998\nline 999\n");
+        assertThat(text).doesNotContain("line 0\n");
+        assertThat(text.length()).isLessThan(200);
+    }
+
+    @Test
+    void testKeepHeadAndTail() {
+        var buffer = new ConsoleOutputBuffer(100, ConsoleOutputOverflowPolicy.KEEP_HEAD_AND_TAIL);
+        for (var i = 0; i < 1000; i++) {
+            buffer.append("line " + i + "\n", false);
+        }
+        var text = buffer.drain().stream().map(t -> t.text).collect(Collectors.joining());
+        assertThat(text).startsWith("line 0\nline 1\n").endsWith("line 999\n").contains("omitted");
+    }
+
+    @Test
+    void testTextExceedingBudget() {
+        var buffer = new ConsoleOutputBuffer(64, ConsoleOutputOverflowPolicy.KEEP_TAIL);
+        buffer.append("\u20ac".repeat(100), false);
+        var res = buffer.drain();
+        assertThat(res).hasSize(2);
+        // the text is not cut within a multi-byte character
+        assertThat(res.get(1).text).matches("\u20ac+");
+    }
+
+    private static List<String> toStrings(final List<ConsoleText> texts) {
+        return texts.stream().map(t -> (t.stderr ? "err:" : "out:") + t.text).toList();
+    }
+
+}
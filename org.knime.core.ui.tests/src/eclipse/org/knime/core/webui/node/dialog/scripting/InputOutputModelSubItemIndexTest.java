@@ -0,0 +1,113 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent): created
+ */
+package org.knime.core.webui.node.dialog.scripting;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+import org.knime.core.webui.node.dialog.scripting.InputOutputModel.InputOutputModelSubItem;
+import org.knime.core.webui.node.dialog.scripting.InputOutputModel.InputOutputModelSubItemType;
+
+/**
+ * Tests for {@link InputOutputModelSubItemIndex} and the pagination of {@link InputOutputModel}s.
+ *
+ * @author agent
+ */
+class InputOutputModelSubItemIndexTest {
+
+    private static InputOutputModel createModel(final List<String> names) {
+        return InputOutputModel.table().name("Input table 1") //
+            .subItems(names.stream() //
+                .map(n -> new InputOutputModelSubItem(n, InputOutputModelSubItemType.fromDisplayName("String"), true,
+                    null)) //
+                .toList()) //
+            .build();
+    }
+
+    private static List<String> names(final InputOutputModelSubItem[] subItems) {
+        return Arrays.stream(subItems).map(InputOutputModelSubItem::name).toList();
+    }
+
+    @Test
+    void testFirstPage() {
+        var model = createModel(IntStream.range(0, 20_000).mapToObj(i -> "col" + i).toList());
+        assertThat(model.numSubItems()).isEqualTo(20_000);
+
+        var firstPage = model.withFirstSubItems(100);
+        assertThat(firstPage.subItems()).hasSize(100);
+        assertThat(firstPage.numSubItems()).isEqualTo(20_000);
+        assertThat(firstPage.name()).isEqualTo(model.name());
+        assertThat(model.withFirstSubItems(20_000)).isSameAs(model);
+    }
+
+    @Test
+    void testGetSubItems() {
+        var index = new InputOutputModelSubItemIndex(
+            createModel(IntStream.range(0, 1000).mapToObj(i -> "col" + i).toList()));
+        assertThat(names(index.getSubItems(998, 10))).containsExactly("col998", "col999");
+        assertThat(names(index.getSubItems(5, 2))).containsExactly("col5", "col6");
+        assertThat(index.getSubItems(2000, 10)).isEmpty();
+    }
+
+    @Test
+    void testSearchByPrefix() {
+        var index = new InputOutputModelSubItemIndex(
+            createModel(List.of("Zeta", "alpha", "Alphabet", "beta", "alp", "ALPHA", "gamma")));
+        assertThat(names(index.searchByPrefix("alp", 10))).containsExactly("alpha", "Alphabet", "alp", "ALPHA");
+        assertThat(names(index.searchByPrefix("ALPHA", 10))).containsExactly("alpha", "Alphabet", "ALPHA");
+        assertThat(index.searchByPrefix("alp", 2)).hasSize(2);
+        assertThat(names(index.searchByPrefix("", 2))).hasSize(2);
+        assertThat(index.searchByPrefix("delta", 10)).isEmpty();
+    }
+
+}
@@ -0,0 +1,128 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent): created
+ */
+package org.knime.core.webui.node.dialog.scripting;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link LanguageServerMessageChannel}.
+ *
+ * @author agent
+ */
+class LanguageServerMessageChannelTest {
+
+    @Test
+    void testTakeBatchesMessagesUpToMaxBytes() throws Exception {
+        var channel = new LanguageServerMessageChannel(100);
+        channel.put(new byte[10]);
+        channel.put(new byte[20]);
+        channel.put(new byte[30]);
+
+        assertThat(channel.take(0, TimeUnit.MILLISECONDS, 35)).extracting(m -> m.length).containsExactly(10, 20);
+        assertThat(channel.take(0, TimeUnit.MILLISECONDS, 10)).extracting(m -> m.length).containsExactly(30);
+        assertThat(channel.take(10, TimeUnit.MILLISECONDS, 10)).isEmpty();
+    }
+
+    @Test
+    void testPutBlocksWhenBudgetIsExceeded() throws Exception {
+        var channel = new LanguageServerMessageChannel(50);
+        channel.put(new byte[40]);
+
+        var blockedPut = CompletableFuture.runAsync(() -> {
+            try {
+                channel.put(new byte[20]);
+            } catch (InterruptedException e) { // NOSONAR
+                throw new IllegalStateException(e);
+            }
+        });
+        Thread.sleep(100);
+        assertThat(blockedPut).isNotDone();
+
+        assertThat(channel.take(1, TimeUnit.SECONDS, 100)).hasSize(1);
+        blockedPut.get(5, TimeUnit.SECONDS);
+        assertThat(channel.take(1, TimeUnit.SECONDS, 100)).extracting(m -> m.length).containsExactly(20);
+    }
+
+    @Test
+    void testCloseReleasesProducerAndDiscardsMessages() throws Exception {
+        var channel = new LanguageServerMessageChannel(10);
+        channel.put(new byte[10]);
+        var blockedPut = CompletableFuture.runAsync(() -> {
+            try {
+                channel.put(new byte[10]);
+            } catch (InterruptedException e) { // NOSONAR
+                throw new IllegalStateException(e);
+            }
+        });
+
+        channel.close();
+        blockedPut.get(5, TimeUnit.SECONDS);
+        assertThat(channel.take(0, TimeUnit.MILLISECONDS, 100)).as("closed channel").isNull();
+        assertThat(channel.take(1, TimeUnit.SECONDS, 100)).as("closed channel does not wait").isNull();
+
+        channel.open();
+        channel.put(new byte[5]);
+        assertThat(channel.take(0, TimeUnit.MILLISECONDS, 100)).hasSize(1);
+    }
+
+    @Test
+    void testClosesChannelIfProducerIsBlockedTooLong() throws Exception {
+        var channel = new LanguageServerMessageChannel(10, 10, TimeUnit.MILLISECONDS);
+        channel.put(new byte[10]);
+        // returns after the maximum wait time instead of blocking until the consumer catches up
+        channel.put(new byte[10]);
+        assertThat(channel.take(0, TimeUnit.MILLISECONDS, 100)).as("closed channel").isNull();
+    }
+
+}
@@ -0,0 +1,145 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent): created
+ */
+package org.knime.core.webui.node.dialog.scripting;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link ScriptingSessionExecutor}.
+ *
+ * @author agent
+ */
+class ScriptingSessionExecutorTest {
+
+    @Test
+    void testCancelAllInterruptsRunningTasks() throws Exception {
+        var executor = new ScriptingSessionExecutor();
+        var started = new CountDownLatch(2);
+        var interrupted = new CountDownLatch(2);
+        for (var i = 0; i < 2; i++) {
+            executor.submit(() -> {
+                started.countDown();
+                try {
+                    Thread.sleep(60_000);
+                } catch (InterruptedException e) { // NOSONAR
+                    interrupted.countDown();
+                }
+            });
+        }
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(executor.getNumberOfRunningTasks()).isEqualTo(2);
+
+        executor.cancelAll();
+        assertThat(interrupted.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(executor.getNumberOfRunningTasks()).isZero();
+
+        // the executor can still be used afterwards
+        assertThat(executor.submit(() -> "foo").get(5, TimeUnit.SECONDS)).isEqualTo("foo");
+    }
+
+    @Test
+    void testFinishedTasksAreNotTracked() throws Exception {
+        var executor = new ScriptingSessionExecutor();
+        var ran = new AtomicBoolean();
+        executor.submit(() -> ran.set(true)).get(5, TimeUnit.SECONDS);
+        assertThat(ran).isTrue();
+        await().atMost(5, TimeUnit.SECONDS).until(() -> executor.getNumberOfRunningTasks() == 0);
+    }
+
+    @Test
+    void testSerialTasksRunOneAfterAnother() throws Exception {
+        var executor = new ScriptingSessionExecutor();
+        var firstStarted = new CountDownLatch(1);
+        var releaseFirst = new CountDownLatch(1);
+        var order = new ConcurrentLinkedQueue<String>();
+        var first = executor.submitSerial(() -> {
+            firstStarted.countDown();
+            try {
+                releaseFirst.await();
+            } catch (InterruptedException e) { // NOSONAR
+                return;
+            }
+            order.add("first");
+        });
+        var cancelled = executor.submitSerial(() -> order.add("cancelled"));
+        var last = executor.submitSerial(() -> order.add("last"));
+        assertThat(firstStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        cancelled.cancel(true);
+        assertThat(last.isDone()).isFalse();
+
+        releaseFirst.countDown();
+        first.get(5, TimeUnit.SECONDS);
+        last.get(5, TimeUnit.SECONDS);
+        assertThat(order).containsExactly("first", "last");
+    }
+
+    @Test
+    void testBlockingTasksDontDelayOtherTasks() throws Exception {
+        var executor = new ScriptingSessionExecutor();
+        var blocking = executor.submitBlocking(() -> {
+            try {
+                Thread.sleep(60_000);
+            } catch (InterruptedException e) { // NOSONAR
+                // cancelled below
+            }
+        });
+        assertThat(executor.submit(() -> "foo").get(5, TimeUnit.SECONDS)).isEqualTo("foo");
+        executor.cancelAll();
+        assertThat(blocking.isCancelled()).isTrue();
+    }
+
+}
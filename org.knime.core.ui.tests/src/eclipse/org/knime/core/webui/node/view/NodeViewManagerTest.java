@@ -56,12 +56,17 @@ import static org.knime.testing.util.WorkflowManagerUtil.createAndAddNode;
 
 import java.io.IOException;
 import java.net.URISyntaxException;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BooleanSupplier;
 import java.util.function.Function;
@@ -87,6 +92,7 @@ import org.knime.core.node.workflow.NodeContext;
 import org.knime.core.node.workflow.WorkflowManager;
 import org.knime.core.node.workflow.virtual.subnode.VirtualSubNodeInputNodeFactory;
 import org.knime.core.webui.data.ApplyDataService;
+import org.knime.core.webui.data.DataServiceProvider;
 import org.knime.core.webui.data.InitialDataService;
 import org.knime.core.webui.data.RpcDataService;
 import org.knime.core.webui.node.DataServiceManager;
@@ -405,6 +411,50 @@ public class NodeViewManagerTest {
             assertRpcDataServiceCall(dataServiceManager, m_nc, "test param", 1);
         }
 
+        @Test
+        void testConcurrentDataServiceCreation() throws InterruptedException, ExecutionException {
+            var numCreations = new AtomicInteger();
+            var dataServiceProvider = new DataServiceProvider() {
+
+                @Override
+                public <D> Optional<InitialDataService<D>> createInitialDataService() {
+                    return Optional.empty();
+                }
+
+                @Override
+                public Optional<RpcDataService> createRpcDataService() {
+                    numCreations.incrementAndGet();
+                    try {
+                        Thread.sleep(100); // NOSONAR
+                    } catch (InterruptedException e) { // NOSONAR
+                        throw new IllegalStateException(e);
+                    }
+                    return Optional.of(RpcDataService.builder(new TestService()).build());
+                }
+
+                @Override
+                public <D> Optional<ApplyDataService<D>> createApplyDataService() {
+                    return Optional.empty();
+                }
+            };
+            var dataServiceManager = new DataServiceManager<NodeWrapper>(nw -> dataServiceProvider);
+            var executor = Executors.newFixedThreadPool(4);
+            try {
+                var futures = new ArrayList<Future<Optional<RpcDataService>>>();
+                for (var i = 0; i < 4; i++) {
+                    futures.add(executor
+                        .submit(() -> dataServiceManager.getDataServiceOfType(m_nc, RpcDataService.class)));
+                }
+                var dataService = futures.get(0).get().orElseThrow();
+                for (var future : futures) {
+                    assertThat(future.get()).containsSame(dataService);
+                }
+                assertThat(numCreations.get()).isOne();
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+
         private static void assertRpcDataServiceCall(final DataServiceManager<NodeWrapper> dataServiceManager,
             final NodeWrapper nc, final String param, final int expectedNumberOfCalls) {
             assertThat(dataServiceManager.callRpcDataService(nc, RpcDataService.jsonRpcRequest("method", param)))
@@ -66,6 +66,7 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 import java.awt.Color;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
@@ -117,6 +118,10 @@ import org.knime.core.node.workflow.virtual.DefaultVirtualPortObjectInNodeFactor
 import org.knime.core.node.workflow.virtual.DefaultVirtualPortObjectInNodeModel;
 import org.knime.core.node.workflow.virtual.VirtualNodeInput;
 import org.knime.core.webui.data.DataServiceContextTest;
+import org.knime.core.webui.data.RpcDataService;
+import org.knime.core.webui.data.rpc.json.impl.JsonRpcDispatcher;
+import org.knime.core.webui.data.rpc.json.impl.JsonRpcEncoding;
+import org.knime.core.webui.data.rpc.json.impl.ObjectMapperUtil;
 import org.knime.core.webui.node.NodeWrapper;
 import org.knime.core.webui.node.view.NodeViewManager;
 import org.knime.core.webui.node.view.PageFormat;
@@ -142,6 +147,10 @@ import org.knime.testing.util.WorkflowManagerUtil;
 import org.mockito.Mockito;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.BooleanNode;
+import com.fasterxml.jackson.databind.node.IntNode;
+import com.fasterxml.jackson.databind.node.LongNode;
+import com.fasterxml.jackson.databind.node.NullNode;
 
 /**
  * @author Konrad Amtenbrink, KNIME GmbH, Berlin, Germany
@@ -477,6 +486,25 @@ class TableViewTest {
         assertThat(result.getDisplayedColumns().length).isEqualTo(1000);
     }
 
+    @Test
+    void testRpcDataServiceDispatchesGetTableViaPrecompiledDispatch() throws IOException {
+        final var inputTable =
+            createTableFromColumns(new ObjectColumn("string", StringCell.TYPE, new String[]{"A", "B"}));
+        final var dataService = createTableViewDataServiceInstance(() -> inputTable);
+        final var mapper = ObjectMapperUtil.getInstance().getRpcObjectMapper(JsonRpcEncoding.JSON);
+        final var request = jsonRpcRequest("getTable", mapper.valueToTree(new String[]{"string"}), LongNode.valueOf(0),
+            IntNode.valueOf(2), NullNode.getInstance(), BooleanNode.FALSE, BooleanNode.FALSE, BooleanNode.FALSE,
+            BooleanNode.FALSE);
+
+        final var dispatched = new ByteArrayOutputStream();
+        assertThat(new JsonRpcDispatcher(dataService, mapper).handleRequest(request.getBytes(StandardCharsets.UTF_8),
+            dispatched)).as("getTable is covered by the precompiled dispatch").isTrue();
+        final var expected = RpcDataService.builder(dataService).build().handleRpcRequest(request);
+        assertThat(dispatched.toString(StandardCharsets.UTF_8)).isEqualTo(expected);
+        assertThat(TableViewUtil.createRpcDataService(dataService, "tableId").handleRpcRequest(request))
+            .isEqualTo(expected);
+    }
+
     @Test
     void testDataServiceGetCurrentRowKeys() {
         final var size = 3;
@@ -0,0 +1,135 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent): created
+ */
+package org.knime.node;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import java.lang.ref.WeakReference;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.knime.core.node.NodeSettings;
+import org.knime.node.parameters.NodeParameters;
+
+/**
+ * Tests for the {@link ValidatedParametersCache}.
+ *
+ * @author agent
+ */
+@SuppressWarnings("java:S2698") // We allow assertions without messages
+class ValidatedParametersCacheTest {
+
+    static final class Parameters implements NodeParameters {
+        String m_value = "foo";
+    }
+
+    static final class OtherParameters implements NodeParameters {
+    }
+
+    @Test
+    void testTakesParametersValidatedForTheSameSettingsOnlyOnce() {
+        final var cache = new ValidatedParametersCache();
+        final var settings = new NodeSettings("model");
+        final var parameters = new Parameters();
+        cache.put(settings, parameters);
+
+        assertThat(cache.take(settings, Parameters.class)).containsSame(parameters);
+        assertThat(cache.take(settings, Parameters.class)).isEmpty();
+    }
+
+    @Test
+    void testDoesNotTakeParametersForOtherSettings() {
+        final var cache = new ValidatedParametersCache();
+        final var settings = new NodeSettings("model");
+        cache.put(settings, new Parameters());
+
+        assertThat(cache.take(new NodeSettings("model"), Parameters.class)).isEmpty();
+        assertThat(cache.take(settings, Parameters.class)).as("A miss clears the cache").isEmpty();
+    }
+
+    @Test
+    void testDoesNotTakeParametersOfOtherClass() {
+        final var cache = new ValidatedParametersCache();
+        final var settings = new NodeSettings("model");
+        cache.put(settings, new Parameters());
+
+        assertThat(cache.take(settings, OtherParameters.class)).isEmpty();
+    }
+
+    @Test
+    void testKeepsParametersAcrossGarbageCollections() {
+        final var cache = new ValidatedParametersCache();
+        final var settings = new NodeSettings("model");
+        final var parametersRef = putNewParameters(cache, settings);
+
+        System.gc(); // NOSONAR
+        assertThat(cache.take(settings, Parameters.class)).containsSame(parametersRef.get());
+    }
+
+    @Test
+    void testNextValidationReleasesPreviousParameters() {
+        final var cache = new ValidatedParametersCache();
+        final var parametersRef = putNewParameters(cache, new NodeSettings("model"));
+        cache.put(new NodeSettings("model"), new Parameters());
+
+        await().atMost(10, TimeUnit.SECONDS).until(() -> {
+            System.gc(); // NOSONAR
+            return parametersRef.get() == null;
+        });
+    }
+
+    private static WeakReference<Parameters> putNewParameters(final ValidatedParametersCache cache,
+        final NodeSettings settings) {
+        final var parameters = new Parameters();
+        cache.put(settings, parameters);
+        return new WeakReference<>(parameters);
+    }
+
+}
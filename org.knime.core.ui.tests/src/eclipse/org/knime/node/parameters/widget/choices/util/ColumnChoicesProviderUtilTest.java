@@ -49,6 +49,8 @@
 package org.knime.node.parameters.widget.choices.util;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 
 import java.awt.Color;
 import java.util.List;
@@ -76,6 +78,8 @@ import org.knime.core.data.vector.bitvector.SparseBitVectorCell;
 import org.knime.core.node.port.PortObjectSpec;
 import org.knime.core.webui.node.dialog.defaultdialog.NodeParametersUtil;
 import org.knime.core.webui.node.dialog.defaultdialog.widget.choices.column.ColorColumnsProvider;
+import org.knime.node.parameters.updates.StateProvider.StateProviderInitializer;
+import org.knime.node.parameters.widget.choices.ColumnChoicesProvider;
 import org.knime.node.parameters.widget.choices.util.CompatibleColumnsProvider.DoubleColumnsProvider;
 import org.knime.node.parameters.widget.choices.util.CompatibleColumnsProvider.StringColumnsProvider;
 import org.knime.testing.util.TableTestUtil.SpecBuilder;
@@ -148,6 +152,17 @@ class ColumnChoicesProviderTest {
                 .isEqualTo(new String[]{"foo", "bar"});
     }
 
+    @Test
+    void testSpecBasedColumnChoicesProvidersAreDeclaredPure() {
+        for (var choicesProvider : List.<ColumnChoicesProvider> of(new AllColumnsProvider(),
+            new StringColumnsProvider())) {
+            final var initializer = mock(StateProviderInitializer.class);
+            choicesProvider.init(initializer);
+            verify(initializer).computeBeforeOpenDialog();
+            verify(initializer).declarePure();
+        }
+    }
+
     private static DataColumnSpec createDataColumnSpec(final ColorModel colorModel, final String name) {
         final var creator = new DataColumnSpecCreator(name, StringCell.TYPE);
         creator.setColorHandler(new ColorHandler(colorModel));
@@ -52,6 +52,7 @@ export const Uri = {
 export const languages = {
   registerHoverProvider: vi.fn(),
   registerCompletionItemProvider: vi.fn(),
+  CompletionItemKind: { Field: 3 },
 };
 
 export class Range {}
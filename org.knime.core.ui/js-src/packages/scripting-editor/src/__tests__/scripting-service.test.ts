@@ -7,7 +7,10 @@ import type {
   JsonDataService,
 } from "@knime/ui-extension-service";
 
-import { ScriptingService } from "../scripting-service";
+import {
+  LANGUAGE_SERVER_POLL_BACKOFF_MS,
+  ScriptingService,
+} from "../scripting-service";
 
 type MockBackend = {
   [key: string]: (options: any[]) => Promise<any> | undefined;
@@ -15,7 +18,7 @@ type MockBackend = {
 const dataFnMock = (backend: MockBackend) => {
   // By default we add a method that stops the event loop
   backend = {
-    getEvent: () => Promise.resolve({ type: "STOP" }),
+    getEvents: () => Promise.resolve([{ type: "STOP" }]),
     ...backend,
   };
 
@@ -58,13 +61,15 @@ describe("scripting-service", () => {
   describe("class EventHandler", () => {
     it("should call event handler on received events", async () => {
       type Event = { type: string; data: any };
-      const { promise: promiseA, resolve: resolveA } = lock<Event>();
-      const { promise: promiseB, resolve: resolveB } = lock<Event>();
+      const { promise: promiseA, resolve: resolveA } = lock<Event[]>();
+      const { promise: promiseB, resolve: resolveB } = lock<Event[]>();
 
-      const events = [promiseA, promiseB, Promise.resolve({ type: "STOP" })];
+      const events = [promiseA, promiseB, Promise.resolve([{ type: "STOP" }])];
 
       const service = new ScriptingService(
-        mockJsonDataService({ getEvent: () => events.shift() }),
+        mockJsonDataService({
+          getEvents: () => events.shift(),
+        }),
         MOCK_ALERTING_SERVICE,
       );
       await nextTick();
@@ -75,14 +80,14 @@ describe("scripting-service", () => {
       service.registerEventHandler("b", eventHandlerB);
 
       // Resolve the first event - expect eventHandlerA to be called
-      resolveA({ type: "a", data: "foo" });
+      resolveA([{ type: "a", data: "foo" }]);
 
       await nextTick();
       expect(eventHandlerA).toHaveBeenCalledWith("foo");
       expect(eventHandlerB).not.toHaveBeenCalled();
 
       // Resolve the second event - expect eventHandlerB to be called
-      resolveB({ type: "b", data: "bar" });
+      resolveB([{ type: "b", data: "bar" }]);
 
       await nextTick();
       expect(eventHandlerB).toHaveBeenCalledWith("bar");
@@ -91,18 +96,20 @@ describe("scripting-service", () => {
     it("should handle null events gracefully (no timeout)", async () => {
       type Event = { type: string; data: any };
       const { promise: realEventPromise, resolve: resolveRealEvent } =
-        lock<Event>();
+        lock<Event[]>();
 
-      // Mix null events with a real event, then stop
+      // Mix null and empty responses with a real event, then stop
       const events = [
         Promise.resolve(null),
-        Promise.resolve(null),
+        Promise.resolve([]),
         realEventPromise,
-        Promise.resolve({ type: "STOP" }),
+        Promise.resolve([{ type: "STOP" }]),
       ];
 
       const service = new ScriptingService(
-        mockJsonDataService({ getEvent: () => events.shift() }),
+        mockJsonDataService({
+          getEvents: () => events.shift(),
+        }),
         MOCK_ALERTING_SERVICE,
       );
       await nextTick();
@@ -111,7 +118,7 @@ describe("scripting-service", () => {
       service.registerEventHandler("test", eventHandler);
 
       // Resolve the real event after null events
-      resolveRealEvent({ type: "test", data: "after-nulls" });
+      resolveRealEvent([{ type: "test", data: "after-nulls" }]);
 
       // Wait multiple ticks for all async operations to complete
       await nextTick();
@@ -122,6 +129,32 @@ describe("scripting-service", () => {
       expect(eventHandler).toHaveBeenCalledWith("after-nulls");
       expect(eventHandler).toHaveBeenCalledTimes(1);
     });
+
+    it("should call event handlers for all events of a batch in order", async () => {
+      const events = [
+        Promise.resolve([
+          { type: "a", data: "foo" },
+          { type: "b", data: "bar" },
+          { type: "a", data: "baz" },
+        ]),
+        Promise.resolve([{ type: "STOP" }]),
+      ];
+      const calls: string[] = [];
+
+      const service = new ScriptingService(
+        mockJsonDataService({
+          getEvents: () => events.shift(),
+        }),
+        MOCK_ALERTING_SERVICE,
+      );
+      service.registerEventHandler("a", (data) => calls.push(`a:${data}`));
+      service.registerEventHandler("b", (data) => calls.push(`b:${data}`));
+
+      await nextTick();
+      await nextTick();
+
+      expect(calls).toStrictEqual(["a:foo", "b:bar", "a:baz"]);
+    });
   });
 
   describe("sendToService", () => {
@@ -151,6 +184,58 @@ describe("scripting-service", () => {
     });
   });
 
+  describe("language server messages", () => {
+    it("should stop polling once the backend signals a closed channel", async () => {
+      const responses: any[] = [[{ id: 1 }], [], [{ id: 2 }, { id: 3 }], null];
+      const getLanguageServerMessages = vi.fn(() =>
+        Promise.resolve(responses.shift()),
+      );
+      const service = new ScriptingService(
+        mockJsonDataService({ getLanguageServerMessages }),
+        MOCK_ALERTING_SERVICE,
+      );
+      const handler = vi.fn();
+
+      await (service as any).pollLanguageServerMessages(handler);
+
+      expect(getLanguageServerMessages).toHaveBeenCalledTimes(4);
+      expect(handler.mock.calls.map((call) => call[0])).toStrictEqual([
+        { id: 1 },
+        { id: 2 },
+        { id: 3 },
+      ]);
+    });
+
+    it("should retry with an increasing delay if fetching the messages fails", async () => {
+      vi.useFakeTimers();
+      try {
+        const responses: any[] = [undefined, undefined, [{ id: 1 }], null];
+        const getLanguageServerMessages = vi.fn(() =>
+          Promise.resolve(responses.shift()),
+        );
+        const service = new ScriptingService(
+          mockJsonDataService({ getLanguageServerMessages }),
+          MOCK_ALERTING_SERVICE,
+        );
+        const handler = vi.fn();
+
+        const polling = (service as any).pollLanguageServerMessages(handler);
+        await vi.advanceTimersByTimeAsync(LANGUAGE_SERVER_POLL_BACKOFF_MS);
+        expect(getLanguageServerMessages).toHaveBeenCalledTimes(2);
+        // the delay doubles after the second failure
+        await vi.advanceTimersByTimeAsync(LANGUAGE_SERVER_POLL_BACKOFF_MS);
+        expect(getLanguageServerMessages).toHaveBeenCalledTimes(2);
+        await vi.advanceTimersByTimeAsync(LANGUAGE_SERVER_POLL_BACKOFF_MS);
+        await polling;
+
+        expect(getLanguageServerMessages).toHaveBeenCalledTimes(4);
+        expect(handler).toHaveBeenCalledExactlyOnceWith({ id: 1 });
+      } finally {
+        vi.useRealTimers();
+      }
+    });
+  });
+
   describe("service methods", () => {
     it("isKaiEnabled should call backend correctly", async () => {
       const isKaiEnabledSpy = vi.fn(() => Promise.resolve(true));
@@ -8,17 +8,19 @@ import {
   vi,
 } from "vitest";
 import { nextTick, ref } from "vue";
-import { mount } from "@vue/test-utils";
+import { flushPromises, mount } from "@vue/test-utils";
 import Handlebars from "handlebars";
 
 import { useMultiSelection } from "@knime/components";
 import { KdsDataType } from "@knime/kds-components";
 
+import { getScriptingService } from "../../init";
 import { useInputOutputSelectionStore } from "../../store/io-selection";
 import InputOutputItem, {
   COLUMN_INSERTION_EVENT,
   INPUT_OUTPUT_DRAG_EVENT_ID,
   type InputOutputModel,
+  SUBITEMS_PAGE_SIZE,
 } from "../InputOutputItem.vue";
 import { createDragGhost, removeDragGhost } from "../utils/dragGhost";
 import { insertionEventHelper } from "../utils/insertionEventHelper";
@@ -506,4 +508,38 @@ describe("InputOutputItem", () => {
       },
     );
   });
+  describe("with more sub items than sent", () => {
+    const truncatedItem: InputOutputModel = {
+      ...inputOutputItemWithRowsAndAlias,
+      numSubItems: 5,
+    };
+
+    it("does not show the button if all sub items have been sent", () => {
+      const wrapper = doMount();
+      expect(wrapper.find(".show-more").exists()).toBeFalsy();
+    });
+
+    it("fetches and renders the remaining sub items", async () => {
+      vi.mocked(
+        getScriptingService().getInputOutputModelSubItems,
+      ).mockResolvedValueOnce([
+        { name: "row 4", type: { displayName: "String" }, supported: true },
+        { name: "row 5", type: { displayName: "String" }, supported: true },
+      ]);
+      const wrapper = doMount(truncatedItem);
+      const showMore = wrapper.find(".show-more");
+      expect(showMore.text()).toBe("Show 2 more (2 remaining)");
+
+      await showMore.trigger("click");
+      await flushPromises();
+
+      expect(
+        getScriptingService().getInputOutputModelSubItems,
+      ).toHaveBeenCalledWith("supermock", 3, SUBITEMS_PAGE_SIZE);
+      expect(
+        wrapper.findAll(".sub-item-name").map((name) => name.text()),
+      ).toStrictEqual(["row 1", "row 2", "row 3", "row 4", "row 5"]);
+      expect(wrapper.find(".show-more").exists()).toBeFalsy();
+    });
+  });
 });
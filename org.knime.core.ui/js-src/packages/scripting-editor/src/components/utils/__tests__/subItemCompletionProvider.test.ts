@@ -0,0 +1,102 @@
+import { beforeEach, describe, expect, it, vi } from "vitest";
+import * as monaco from "monaco-editor";
+
+import { getScriptingService } from "../../../init";
+import type { InputOutputModel } from "../../InputOutputItem.vue";
+import {
+  MAX_SUB_ITEM_SUGGESTIONS,
+  registerSubItemCompletionProvider,
+} from "../subItemCompletionProvider";
+
+vi.mock("monaco-editor");
+
+describe("subItemCompletionProvider", () => {
+  const completeModel: InputOutputModel = {
+    name: "complete",
+    subItems: [{ name: "a", type: { displayName: "String" }, supported: true }],
+    numSubItems: 1,
+  };
+
+  const truncatedModel: InputOutputModel = {
+    name: "truncated",
+    subItems: [{ name: "a", type: { displayName: "String" }, supported: true }],
+    numSubItems: 1000,
+  };
+
+  const editorModel = (word: string) =>
+    ({
+      getWordUntilPosition: () => ({ word, startColumn: 1, endColumn: 3 }),
+    }) as any;
+
+  const position = { lineNumber: 1, column: 3 } as any;
+
+  const getProvider = (models: InputOutputModel[]) => {
+    registerSubItemCompletionProvider("python", () => models);
+    return vi.mocked(monaco.languages.registerCompletionItemProvider).mock
+      .calls[0][1] as any;
+  };
+
+  beforeEach(() => {
+    vi.clearAllMocks();
+  });
+
+  it("searches the sub items of truncated models only", async () => {
+    vi.mocked(
+      getScriptingService().searchInputOutputModelSubItems,
+    ).mockResolvedValueOnce([
+      { name: "column", type: { displayName: "Double" }, supported: true },
+    ]);
+    const provider = getProvider([completeModel, truncatedModel]);
+
+    const result = await provider.provideCompletionItems(
+      editorModel("co"),
+      position,
+    );
+
+    expect(
+      getScriptingService().searchInputOutputModelSubItems,
+    ).toHaveBeenCalledExactlyOnceWith(
+      "truncated",
+      "co",
+      MAX_SUB_ITEM_SUGGESTIONS,
+    );
+    expect(result.suggestions).toStrictEqual([
+      {
+        label: "column",
+        kind: monaco.languages.CompletionItemKind.Field,
+        detail: "truncated: Double",
+        insertText: "column",
+        range: {
+          startLineNumber: 1,
+          startColumn: 1,
+          endLineNumber: 1,
+          endColumn: 3,
+        },
+      },
+    ]);
+    expect(result.incomplete).toBe(true);
+  });
+
+  it("does not search without a prefix or truncated models", async () => {
+    expect(
+      (
+        await getProvider([truncatedModel]).provideCompletionItems(
+          editorModel(""),
+          position,
+        )
+      ).suggestions,
+    ).toStrictEqual([]);
+    vi.clearAllMocks();
+    expect(
+      (
+        await getProvider([completeModel]).provideCompletionItems(
+          editorModel("co"),
+          position,
+        )
+      ).suggestions,
+    ).toStrictEqual([]);
+    expect(
+      getScriptingService().searchInputOutputModelSubItems,
+    ).not.toHaveBeenCalled();
+  });
+});
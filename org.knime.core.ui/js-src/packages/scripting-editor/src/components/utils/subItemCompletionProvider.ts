@@ -0,0 +1,69 @@
+import * as monaco from "monaco-editor";
+
+import { getScriptingService } from "../../init";
+import type { InputOutputModel } from "../InputOutputItem.vue";
+
+/**
+ * Maximum number of sub items that are requested per model and completion.
+ */
+export const MAX_SUB_ITEM_SUGGESTIONS = 50;
+
+/**
+ * @returns true if not all sub items of the model have been sent with it, i.e.
+ *   the remaining ones are only available via the scripting service
+ */
+export const hasRemainingSubItems = (model: InputOutputModel) =>
+  (model.numSubItems ?? 0) > (model.subItems?.length ?? 0);
+
+/**
+ * Registers a completion item provider with Monaco that suggests the names of
+ * sub items (e.g. columns) which have not been sent to the frontend. They are
+ * searched on the backend by the prefix typed so far. Models that contain all
+ * of their sub items are skipped.
+ *
+ * @param language The programming language identifier for the provider
+ * @param getModels Supplies the current input/output models
+ * @returns Disposable to unregister the provider
+ */
+export const registerSubItemCompletionProvider = (
+  language: string,
+  getModels: () => InputOutputModel[],
+): monaco.IDisposable =>
+  monaco.languages.registerCompletionItemProvider(language, {
+    provideCompletionItems: async (model, position) => {
+      const word = model.getWordUntilPosition(position);
+      const truncatedModels = getModels().filter(hasRemainingSubItems);
+      if (word.word.length === 0 || truncatedModels.length === 0) {
+        return { suggestions: [] };
+      }
+      const range = {
+        startLineNumber: position.lineNumber,
+        startColumn: word.startColumn,
+        endLineNumber: position.lineNumber,
+        endColumn: word.endColumn,
+      };
+      const subItemsPerModel = await Promise.all(
+        truncatedModels.map((ioModel) =>
+          getScriptingService().searchInputOutputModelSubItems(
+            ioModel.name,
+            word.word,
+            MAX_SUB_ITEM_SUGGESTIONS,
+          ),
+        ),
+      );
+      const suggestions = subItemsPerModel.flatMap((subItems, index) =>
+        subItems.map((subItem) => ({
+          label: subItem.name,
+          kind: monaco.languages.CompletionItemKind.Field,
+          detail: `${truncatedModels[index].name}: ${subItem.type.displayName}`,
+          insertText: subItem.name,
+          range,
+        })),
+      );
+      return {
+        suggestions,
+        // other sub items match once more characters have been typed
+        incomplete: true,
+      };
+    },
+  });
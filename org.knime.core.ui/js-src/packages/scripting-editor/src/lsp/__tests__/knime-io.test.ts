@@ -31,6 +31,21 @@ describe("knime-io", () => {
       expect(callback).toHaveBeenCalledWith(message1);
     });
 
+    it("calls callback with already parsed messages", () => {
+      const { reader, eventHandler } = newMessageReader();
+      const callback = vi.fn();
+
+      const message0 = { foo: "myMessage" };
+      eventHandler(message0);
+
+      reader.listen(callback);
+      expect(callback).toHaveBeenCalledWith(message0);
+
+      const message1 = { bar: "myMessage 2" };
+      eventHandler(message1);
+      expect(callback).toHaveBeenCalledWith(message1);
+    });
+
     it("collects message before starting listening", () => {
       const { reader, eventHandler } = newMessageReader();
 
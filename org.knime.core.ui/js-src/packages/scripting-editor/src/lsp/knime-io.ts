@@ -8,6 +8,12 @@ import {
   MessageWriter,
 } from "vscode-languageserver-protocol";
 
+/**
+ * A message from the language server. Either the JSON-RPC message as a string
+ * or the already parsed message.
+ */
+export type LanguageServerMessage = string | Message;
+
 /**
  * This class is used to read messages from the language server. The callback
  * is registered by the connection and called each time a message from the
@@ -17,11 +23,13 @@ export class KnimeMessageReader
   extends AbstractMessageReader
   implements MessageReader
 {
-  protected messageCache: string[] = [];
+  protected messageCache: LanguageServerMessage[] = [];
   protected callback: DataCallback | null;
 
   constructor(
-    registerEventHandler: (eventHandler: (message: string) => void) => void,
+    registerEventHandler: (
+      eventHandler: (message: LanguageServerMessage) => void,
+    ) => void,
   ) {
     super();
     registerEventHandler((message) => this.readMessage(message));
@@ -51,9 +59,10 @@ export class KnimeMessageReader
     }
   }
 
-  readMessage(message: string) {
+  readMessage(message: LanguageServerMessage) {
     if (this.callback) {
-      const data = JSON.parse(message);
+      const data =
+        typeof message === "string" ? JSON.parse(message) : message;
       this.callback(data);
     } else {
       this.messageCache.push(message);
@@ -115,6 +115,26 @@ export const createScriptingServiceMock = (
       return Promise.resolve(false);
     },
 
+    getInputOutputModelSubItems(modelName, offset, limit) {
+      log(
+        "Called scriptingService.getInputOutputModelSubItems",
+        modelName,
+        offset,
+        limit,
+      );
+      return Promise.resolve([]);
+    },
+
+    searchInputOutputModelSubItems(modelName, namePrefix, limit) {
+      log(
+        "Called scriptingService.searchInputOutputModelSubItems",
+        modelName,
+        namePrefix,
+        limit,
+      );
+      return Promise.resolve([]);
+    },
+
     isKaiEnabled() {
       log("Called scriptingService.isKaiEnabled");
       return Promise.resolve(true);
@@ -5,14 +5,26 @@ import type {
   JsonDataService,
 } from "@knime/ui-extension-service";
 
+import type { SubItem } from "./components/InputOutputItem.vue";
 import { useMainCodeEditorStore } from "./editor";
 import type { PortConfig } from "./initial-data-service";
+import { log } from "./log";
 import { MonacoLSPConnection } from "./lsp/connection";
-import { KnimeMessageReader, KnimeMessageWriter } from "./lsp/knime-io";
+import {
+  KnimeMessageReader,
+  KnimeMessageWriter,
+  type LanguageServerMessage,
+} from "./lsp/knime-io";
 import type { PublicAPI } from "./types/public-api";
 
 type LanguageServerStatus = { status: "RUNNING" | "ERROR"; message?: string };
 
+/** Initial delay before fetching language server messages again after a failure */
+export const LANGUAGE_SERVER_POLL_BACKOFF_MS = 100;
+
+/** Maximum delay before fetching language server messages again after failures */
+export const LANGUAGE_SERVER_POLL_MAX_BACKOFF_MS = 5000;
+
 type UnknownUsageData = { type: "UNKNOWN" };
 type LimitedUsageData = { type: "LIMITED"; limit: number; used: number };
 type UnlimitedUsageData = { type: "UNLIMITED" };
@@ -44,16 +56,19 @@ class EventPoller {
 
   private async startPolling() {
     while (true) {
-      const res = await this.jsonDataService.data<{ type: string; data: any }>({
-        method: "ScriptingService.getEvent",
+      // all pending events are delivered at once (long-polling)
+      const res = await this.jsonDataService.data<
+        { type: string; data: any }[]
+      >({
+        method: "ScriptingService.getEvents",
       });
 
-      if (res) {
-        if (res.type in this._eventHandlers) {
-          this._eventHandlers[res.type](res.data);
+      for (const event of res ?? []) {
+        if (event.type in this._eventHandlers) {
+          this._eventHandlers[event.type](event.data);
         } else {
           throw new Error(
-            `Got unexpected event from Java with type ${res.type}`,
+            `Got unexpected event from Java with type ${event.type}`,
           );
         }
       }
@@ -116,15 +131,18 @@ export class ScriptingService {
     if (typeof editorModel === "undefined") {
       throw Error("Editor model has not yet been initialized");
     }
-    const status = (await this.sendToService(
-      "connectToLanguageServer",
-    )) as LanguageServerStatus;
+    // the messages of the language server are fetched via a dedicated channel
+    const status = (await this.sendToService("connectToLanguageServer", [
+      true,
+    ])) as LanguageServerStatus;
     if (status.status === "RUNNING") {
       return MonacoLSPConnection.create(
         editorModel,
-        new KnimeMessageReader((handler) =>
-          this.registerEventHandler("language-server", handler),
-        ),
+        new KnimeMessageReader((handler) => {
+          this.pollLanguageServerMessages(handler).catch((error) => {
+            log("Stopped fetching language server messages", error);
+          });
+        }),
         new KnimeMessageWriter((message) =>
           this.sendToService("sendLanguageServerMessage", [message]),
         ),
@@ -134,6 +152,48 @@ export class ScriptingService {
     }
   }
 
+  private async pollLanguageServerMessages(
+    handler: (message: LanguageServerMessage) => void,
+  ) {
+    let failedAttempts = 0;
+    while (true) {
+      // all pending messages are delivered at once (long-polling)
+      let messages: LanguageServerMessage[] | null | undefined;
+      try {
+        messages = (await this.sendToService("getLanguageServerMessages")) as
+          | LanguageServerMessage[]
+          | null
+          | undefined;
+      } catch (error) {
+        log("Fetching language server messages failed", error);
+        messages = undefined;
+      }
+      if (messages === null) {
+        // the channel was closed (the dialog was closed or the language
+        // server was stopped)
+        return;
+      }
+      if (typeof messages === "undefined") {
+        // the request failed - retry with an increasing delay
+        failedAttempts++;
+        await new Promise((resolve) =>
+          setTimeout(
+            resolve,
+            Math.min(
+              LANGUAGE_SERVER_POLL_MAX_BACKOFF_MS,
+              LANGUAGE_SERVER_POLL_BACKOFF_MS * 2 ** (failedAttempts - 1),
+            ),
+          ),
+        );
+        continue;
+      }
+      failedAttempts = 0;
+      for (const message of messages) {
+        handler(message);
+      }
+    }
+  }
+
   // Parameters need to be a valid port config, otherwise the call will fail
   // even when callKnimeUiApi is available
   async isCallKnimeUiApiAvailable(portToTestFor: PortConfig): Promise<boolean> {
@@ -151,6 +211,30 @@ export class ScriptingService {
     ).isSome;
   }
 
+  getInputOutputModelSubItems(
+    modelName: string,
+    offset: number,
+    limit: number,
+  ): Promise<SubItem<Record<string, any>>[]> {
+    return this.sendToService("getInputOutputModelSubItems", [
+      modelName,
+      offset,
+      limit,
+    ]);
+  }
+
+  searchInputOutputModelSubItems(
+    modelName: string,
+    namePrefix: string,
+    limit: number,
+  ): Promise<SubItem<Record<string, any>>[]> {
+    return this.sendToService("searchInputOutputModelSubItems", [
+      modelName,
+      namePrefix,
+      limit,
+    ]);
+  }
+
   isKaiEnabled(): Promise<boolean> {
     return this.sendToService("isKaiEnabled");
   }
@@ -36,6 +36,8 @@ initMocked({
     registerEventHandler: vi.fn(),
     connectToLanguageServer: vi.fn(),
     isCallKnimeUiApiAvailable: vi.fn(() => Promise.resolve(true)),
+    getInputOutputModelSubItems: vi.fn(() => Promise.resolve([])),
+    searchInputOutputModelSubItems: vi.fn(() => Promise.resolve([])),
     isKaiEnabled: vi.fn(() => Promise.resolve(true)),
     isLoggedIntoHub: vi.fn(() => Promise.resolve(true)),
     getAiDisclaimer: vi.fn(() => Promise.resolve("AI Disclaimer")),
@@ -50,6 +50,8 @@ package org.knime.core.ui;
 
 import org.knime.core.node.workflow.NodeContext;
 import org.knime.core.ui.node.workflow.ContextObjectSupplierUI;
+import org.knime.core.webui.data.DataServiceInstrumentation;
+import org.knime.core.webui.node.dialog.defaultdialog.dataservice.DialogRequestExecutor;
 import org.osgi.framework.BundleActivator;
 import org.osgi.framework.BundleContext;
 
@@ -60,14 +62,24 @@ import org.osgi.framework.BundleContext;
  */
 public class CoreUIPlugin implements BundleActivator {
 
+    /**
+     * System property to collect data service latency statistics from the start on (they can also be enabled at
+     * runtime via JMX).
+     */
+    private static final String DATA_SERVICE_STATISTICS_PROPERTY = "knime.ui.dataservice.statistics";
+
     @Override
     public void start(final BundleContext context) throws Exception {
         NodeContext.addContextObjectSupplier(new ContextObjectSupplierUI());
+        DataServiceInstrumentation.setStatisticsEnabled(Boolean.getBoolean(DATA_SERVICE_STATISTICS_PROPERTY));
+        DataServiceInstrumentation.registerMBean();
+        DialogRequestExecutor.registerMBean();
     }
 
     @Override
     public void stop(final BundleContext context) throws Exception {
-        //
+        DataServiceInstrumentation.unregisterMBean();
+        DialogRequestExecutor.unregisterMBean();
     }
 
 }
@@ -59,6 +59,7 @@ import org.knime.core.node.interactive.ReExecutable;
 import org.knime.core.node.workflow.NodeContainer;
 import org.knime.core.node.workflow.NodeContext;
 import org.knime.core.node.workflow.WorkflowManager;
+import org.knime.core.webui.data.DataServiceInvocation.ServiceType;
 import org.knime.core.webui.data.rpc.json.impl.ObjectMapperUtil;
 
 import com.fasterxml.jackson.core.JacksonException;
@@ -151,7 +152,21 @@ public final class ApplyDataService<D> extends AbstractDataService {
      *         signal warnings or an error.
      */
     public String applyData(final String dataString) {
-        return applyDataAndListWarningsAndErrors(dataString).toString();
+        final var invocation = DataServiceInstrumentation.start(m_nc, ServiceType.APPLY_DATA, () -> "applyData",
+            dataString == null ? 0 : dataString.length());
+        if (invocation == null) {
+            return applyDataAndListWarningsAndErrors(dataString).toString();
+        }
+        String response = null;
+        var failed = true;
+        try {
+            final var root = applyDataAndListWarningsAndErrors(dataString);
+            failed = !root.get(IS_APPLIED).asBoolean();
+            response = root.toString();
+            return response;
+        } finally {
+            invocation.finish(response == null ? 0 : response.length(), failed);
+        }
     }
 
     private static final String IS_APPLIED = "isApplied";
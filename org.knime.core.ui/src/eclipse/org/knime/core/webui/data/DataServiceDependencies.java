@@ -162,6 +162,13 @@ public final class DataServiceDependencies {
         }
     }
 
+    /**
+     * @return the dependencies of the current thread, e.g., to propagate them to another thread
+     */
+    static Map<Class<?>, Object> getDependencies() {
+        return DEPENDENCIES.get();
+    }
+
     @SuppressWarnings("unchecked")
     static <T> T getDependency(final Class<T> clazz) {
         // Note that `DEPENDENCIES.get()` will never be null because we set an initial value
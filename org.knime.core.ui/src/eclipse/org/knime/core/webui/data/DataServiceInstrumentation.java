@@ -0,0 +1,238 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent): created
+ */
+package org.knime.core.webui.data;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Supplier;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+import org.knime.core.node.NodeLogger;
+import org.knime.core.node.workflow.NativeNodeContainer;
+import org.knime.core.node.workflow.NodeContainer;
+import org.knime.core.webui.data.DataServiceInvocation.ServiceType;
+
+/**
+ * Entry point to observe data service invocations. Listeners can be registered to be notified about every invocation
+ * (e.g. for tracing) and per-method latency statistics can be collected and are exposed via JMX (see
+ * {@link DataServiceStatisticsMXBean}).
+ *
+ * As long as no listener is registered and the statistics aren't enabled, the instrumentation doesn't add any overhead
+ * to the data service invocations (besides a single volatile read).
+ *
+ * @author agent
+ * @since 5.12
+ */
+public final class DataServiceInstrumentation {
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(DataServiceInstrumentation.class);
+
+    /**
+     * The name the {@link DataServiceStatisticsMXBean} is registered under.
+     */
+    public static final String MBEAN_NAME = "org.knime.core.ui:type=DataServiceStatistics";
+
+    private static final List<DataServiceInvocationListener> LISTENERS = new CopyOnWriteArrayList<>();
+
+    private static final DataServiceStatistics STATISTICS = new DataServiceStatistics();
+
+    private DataServiceInstrumentation() {
+        // utility class
+    }
+
+    /**
+     * @param listener the listener to add
+     */
+    public static void addListener(final DataServiceInvocationListener listener) {
+        LISTENERS.add(listener); // NOSONAR
+    }
+
+    /**
+     * @param listener the listener to remove
+     */
+    public static void removeListener(final DataServiceInvocationListener listener) {
+        LISTENERS.remove(listener); // NOSONAR
+    }
+
+    /**
+     * Enables or disables the collection of per-method latency statistics. Disabling doesn't reset the statistics
+     * collected so far.
+     *
+     * @param enabled whether to collect statistics
+     */
+    public static synchronized void setStatisticsEnabled(final boolean enabled) {
+        if (enabled && !isStatisticsEnabled()) {
+            addListener(STATISTICS);
+        } else if (!enabled) {
+            removeListener(STATISTICS);
+        }
+    }
+
+    /**
+     * @return whether per-method latency statistics are being collected
+     */
+    public static boolean isStatisticsEnabled() {
+        return LISTENERS.contains(STATISTICS);
+    }
+
+    /**
+     * @return the collected statistics
+     */
+    public static DataServiceStatisticsMXBean getStatistics() {
+        return STATISTICS;
+    }
+
+    /**
+     * Registers the {@link DataServiceStatisticsMXBean} with the platform MBean server (if not registered already).
+     */
+    public static synchronized void registerMBean() {
+        try {
+            final var server = ManagementFactory.getPlatformMBeanServer();
+            final var name = new ObjectName(MBEAN_NAME);
+            if (!server.isRegistered(name)) {
+                server.registerMBean(STATISTICS, name);
+            }
+        } catch (JMException e) {
+            LOGGER.debug("Data service statistics couldn't be registered via JMX", e);
+        }
+    }
+
+    /**
+     * Unregisters the {@link DataServiceStatisticsMXBean} from the platform MBean server (if registered).
+     */
+    public static synchronized void unregisterMBean() {
+        try {
+            final var server = ManagementFactory.getPlatformMBeanServer();
+            final var name = new ObjectName(MBEAN_NAME);
+            if (server.isRegistered(name)) {
+                server.unregisterMBean(name);
+            }
+        } catch (JMException e) {
+            LOGGER.debug("Data service statistics couldn't be unregistered from JMX", e);
+        }
+    }
+
+    /**
+     * Marks the start of a data service invocation.
+     *
+     * @param nc the node the data service belongs to; can be {@code null}
+     * @param serviceType
+     * @param method supplies the method name; only called if the instrumentation is active
+     * @param requestSize
+     * @return the started invocation which needs to be {@link Invocation#finish(long, boolean) finished} or
+     *         {@code null} if the instrumentation is inactive
+     */
+    static Invocation start(final NodeContainer nc, final ServiceType serviceType, final Supplier<String> method,
+        final long requestSize) {
+        if (LISTENERS.isEmpty()) {
+            return null;
+        }
+        // the same listeners are notified about start and end - even if listeners are added or removed in between
+        final var listeners = LISTENERS.toArray(DataServiceInvocationListener[]::new);
+        final var invocation =
+            new DataServiceInvocation(getNodeFactoryName(nc), serviceType, String.valueOf(method.get()), requestSize);
+        for (var l : listeners) {
+            try {
+                l.invocationStarted(invocation);
+            } catch (RuntimeException e) { // NOSONAR
+                LOGGER.debug("Data service invocation listener failed", e);
+            }
+        }
+        return new Invocation(invocation, listeners, System.nanoTime());
+    }
+
+    private static String getNodeFactoryName(final NodeContainer nc) {
+        if (nc instanceof NativeNodeContainer nnc) {
+            return nnc.getNode().getFactory().getClass().getName();
+        } else {
+            return nc == null ? "" : nc.getClass().getSimpleName();
+        }
+    }
+
+    /**
+     * A started data service invocation.
+     */
+    static final class Invocation {
+
+        private final DataServiceInvocation m_invocation;
+
+        private final DataServiceInvocationListener[] m_listeners;
+
+        private final long m_startNanos;
+
+        private Invocation(final DataServiceInvocation invocation, final DataServiceInvocationListener[] listeners,
+            final long startNanos) {
+            m_invocation = invocation;
+            m_listeners = listeners;
+            m_startNanos = startNanos;
+        }
+
+        /**
+         * Marks the end of the invocation and notifies the listeners.
+         *
+         * @param responseSize
+         * @param failed
+         */
+        void finish(final long responseSize, final boolean failed) {
+            final var duration = System.nanoTime() - m_startNanos;
+            for (var l : m_listeners) {
+                try {
+                    l.invocationFinished(m_invocation, duration, responseSize, failed);
+                } catch (RuntimeException e) { // NOSONAR
+                    LOGGER.debug("Data service invocation listener failed", e);
+                }
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,88 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent): created
+ */
+package org.knime.core.webui.data;
+
+/**
+ * Describes a single invocation of a data service as reported to {@link DataServiceInvocationListener
+ * DataServiceInvocationListeners}.
+ *
+ * @param nodeFactory the class name of the factory of the node the data service belongs to, or the simple class name
+ *            of the node container if it's not a native node; an empty string if there is no node
+ * @param serviceType the type of the data service invoked
+ * @param method the name of the invoked method; for rpc requests it's the json-rpc method name
+ * @param requestSize the size of the request (in bytes or characters, depending on the transport)
+ *
+ * @author agent
+ * @since 5.12
+ */
+public record DataServiceInvocation(String nodeFactory, ServiceType serviceType, String method, long requestSize) {
+
+    /**
+     * The types of data services.
+     */
+    public enum ServiceType {
+
+            /**
+             * See {@link InitialDataService}.
+             */
+            INITIAL_DATA,
+
+            /**
+             * See {@link RpcDataService}.
+             */
+            RPC,
+
+            /**
+             * See {@link ApplyDataService}.
+             */
+            APPLY_DATA;
+
+    }
+
+}
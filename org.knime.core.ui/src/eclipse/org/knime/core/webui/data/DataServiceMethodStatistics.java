@@ -0,0 +1,205 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent): created
+ */
+package org.knime.core.webui.data;
+
+/**
+ * Snapshot of the statistics collected for a single data service method of a particular node type.
+ *
+ * @author agent
+ * @since 5.12
+ */
+public final class DataServiceMethodStatistics {
+
+    private final String m_nodeFactory;
+
+    private final String m_serviceType;
+
+    private final String m_method;
+
+    private final long m_count;
+
+    private final long m_errorCount;
+
+    private final int m_activeCount;
+
+    private final int m_maxActiveCount;
+
+    private final long m_requestBytes;
+
+    private final long m_responseBytes;
+
+    private final double m_meanMillis;
+
+    private final double m_p50Millis;
+
+    private final double m_p90Millis;
+
+    private final double m_p99Millis;
+
+    private final double m_maxMillis;
+
+    DataServiceMethodStatistics(final DataServiceInvocation key, final long count, final long errorCount, // NOSONAR
+        final int activeCount, final int maxActiveCount, final long requestBytes, final long responseBytes,
+        final double meanMillis, final double p50Millis, final double p90Millis, final double p99Millis,
+        final double maxMillis) {
+        m_nodeFactory = key.nodeFactory();
+        m_serviceType = key.serviceType().name();
+        m_method = key.method();
+        m_count = count;
+        m_errorCount = errorCount;
+        m_activeCount = activeCount;
+        m_maxActiveCount = maxActiveCount;
+        m_requestBytes = requestBytes;
+        m_responseBytes = responseBytes;
+        m_meanMillis = meanMillis;
+        m_p50Millis = p50Millis;
+        m_p90Millis = p90Millis;
+        m_p99Millis = p99Millis;
+        m_maxMillis = maxMillis;
+    }
+
+    /**
+     * @return see {@link DataServiceInvocation#nodeFactory()}
+     */
+    public String getNodeFactory() {
+        return m_nodeFactory;
+    }
+
+    /**
+     * @return the name of the {@link DataServiceInvocation.ServiceType}
+     */
+    public String getServiceType() {
+        return m_serviceType;
+    }
+
+    /**
+     * @return the method name
+     */
+    public String getMethod() {
+        return m_method;
+    }
+
+    /**
+     * @return the number of finished invocations
+     */
+    public long getCount() {
+        return m_count;
+    }
+
+    /**
+     * @return the number of finished invocations that resulted in an error
+     */
+    public long getErrorCount() {
+        return m_errorCount;
+    }
+
+    /**
+     * @return the number of currently running invocations
+     */
+    public int getActiveCount() {
+        return m_activeCount;
+    }
+
+    /**
+     * @return the maximum number of invocations that ran concurrently
+     */
+    public int getMaxActiveCount() {
+        return m_maxActiveCount;
+    }
+
+    /**
+     * @return the total size of all requests
+     */
+    public long getRequestBytes() {
+        return m_requestBytes;
+    }
+
+    /**
+     * @return the total size of all responses
+     */
+    public long getResponseBytes() {
+        return m_responseBytes;
+    }
+
+    /**
+     * @return the mean latency in milliseconds
+     */
+    public double getMeanMillis() {
+        return m_meanMillis;
+    }
+
+    /**
+     * @return the median latency in milliseconds (upper bound of the respective histogram bucket)
+     */
+    public double getP50Millis() {
+        return m_p50Millis;
+    }
+
+    /**
+     * @return the 90th percentile latency in milliseconds (upper bound of the respective histogram bucket)
+     */
+    public double getP90Millis() {
+        return m_p90Millis;
+    }
+
+    /**
+     * @return the 99th percentile latency in milliseconds (upper bound of the respective histogram bucket)
+     */
+    public double getP99Millis() {
+        return m_p99Millis;
+    }
+
+    /**
+     * @return the maximum latency in milliseconds
+     */
+    public double getMaxMillis() {
+        return m_maxMillis;
+    }
+
+}
@@ -0,0 +1,198 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent): created
+ */
+package org.knime.core.webui.data;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Collects per-method latency statistics of data service invocations. The latencies are recorded in a histogram with
+ * exponentially growing buckets (powers of two in microseconds), i.e. the reported percentiles are upper bounds with a
+ * relative error of at most factor two - which is sufficient to spot slow methods while keeping the recording cheap
+ * and lock-free.
+ *
+ * @author agent
+ */
+final class DataServiceStatistics implements DataServiceStatisticsMXBean, DataServiceInvocationListener {
+
+    private static final int NUM_BUCKETS = 40;
+
+    private final Map<DataServiceInvocation, MethodStatistics> m_statistics = new ConcurrentHashMap<>();
+
+    @Override
+    public boolean isEnabled() {
+        return DataServiceInstrumentation.isStatisticsEnabled();
+    }
+
+    @Override
+    public void setEnabled(final boolean enabled) {
+        DataServiceInstrumentation.setStatisticsEnabled(enabled);
+    }
+
+    @Override
+    public List<DataServiceMethodStatistics> getMethodStatistics() {
+        final var res = new ArrayList<DataServiceMethodStatistics>(m_statistics.size());
+        m_statistics.forEach((key, stats) -> res.add(stats.snapshot(key)));
+        return res;
+    }
+
+    @Override
+    public void reset() {
+        m_statistics.clear();
+    }
+
+    @Override
+    public void invocationStarted(final DataServiceInvocation invocation) {
+        getMethodStatistics(invocation).started();
+    }
+
+    @Override
+    public void invocationFinished(final DataServiceInvocation invocation, final long durationNanos,
+        final long responseSize, final boolean failed) {
+        getMethodStatistics(invocation).finished(invocation.requestSize(), durationNanos, responseSize, failed);
+    }
+
+    private MethodStatistics getMethodStatistics(final DataServiceInvocation invocation) {
+        // the request size is not part of the key
+        final var key = new DataServiceInvocation(invocation.nodeFactory(), invocation.serviceType(),
+            invocation.method(), 0);
+        return m_statistics.computeIfAbsent(key, k -> new MethodStatistics());
+    }
+
+    private static final class MethodStatistics {
+
+        private final LongAdder m_count = new LongAdder();
+
+        private final LongAdder m_errorCount = new LongAdder();
+
+        private final AtomicInteger m_activeCount = new AtomicInteger();
+
+        private final AtomicInteger m_maxActiveCount = new AtomicInteger();
+
+        private final LongAdder m_requestBytes = new LongAdder();
+
+        private final LongAdder m_responseBytes = new LongAdder();
+
+        private final LongAdder m_totalNanos = new LongAdder();
+
+        private final LongAccumulator m_maxNanos = new LongAccumulator(Math::max, 0);
+
+        private final AtomicLongArray m_histogram = new AtomicLongArray(NUM_BUCKETS);
+
+        void started() {
+            final var active = m_activeCount.incrementAndGet();
+            m_maxActiveCount.accumulateAndGet(active, Math::max);
+        }
+
+        void finished(final long requestSize, final long durationNanos, final long responseSize,
+            final boolean failed) {
+            // clamped since the statistics might have been reset while the invocation was running
+            m_activeCount.updateAndGet(a -> Math.max(0, a - 1));
+            m_count.increment();
+            if (failed) {
+                m_errorCount.increment();
+            }
+            m_requestBytes.add(requestSize);
+            m_responseBytes.add(responseSize);
+            m_totalNanos.add(durationNanos);
+            m_maxNanos.accumulate(durationNanos);
+            m_histogram.incrementAndGet(bucket(durationNanos));
+        }
+
+        private static int bucket(final long durationNanos) {
+            final var micros = TimeUnit.NANOSECONDS.toMicros(durationNanos);
+            return Math.min(NUM_BUCKETS - 1, Long.SIZE - Long.numberOfLeadingZeros(micros));
+        }
+
+        DataServiceMethodStatistics snapshot(final DataServiceInvocation key) {
+            final var count = m_count.sum();
+            final var histogram = new long[NUM_BUCKETS];
+            for (var i = 0; i < NUM_BUCKETS; i++) {
+                histogram[i] = m_histogram.get(i);
+            }
+            return new DataServiceMethodStatistics(key, count, m_errorCount.sum(), m_activeCount.get(),
+                m_maxActiveCount.get(), m_requestBytes.sum(), m_responseBytes.sum(),
+                count == 0 ? 0 : toMillis(m_totalNanos.sum()) / count, percentile(histogram, 0.5),
+                percentile(histogram, 0.9), percentile(histogram, 0.99), toMillis(m_maxNanos.get()));
+        }
+
+        private static double percentile(final long[] histogram, final double p) {
+            var total = 0L;
+            for (var c : histogram) {
+                total += c;
+            }
+            if (total == 0) {
+                return 0;
+            }
+            final var rank = Math.ceil(total * p);
+            var cumulated = 0L;
+            for (var i = 0; i < histogram.length; i++) {
+                cumulated += histogram[i];
+                if (cumulated >= rank) {
+                    // upper bound of the bucket in milliseconds
+                    return (1L << i) / 1000d;
+                }
+            }
+            return (1L << (histogram.length - 1)) / 1000d;
+        }
+
+        private static double toMillis(final long nanos) {
+            return nanos / 1_000_000d;
+        }
+
+    }
+
+}
@@ -44,48 +44,39 @@
  * ---------------------------------------------------------------------
  *
  * History
- *   Apr 8, 2024 (Paul Bärnreuther): created
+ *   Oct 18, 2026 (agent): created
  */
-package org.knime.core.webui.node.dialog.defaultdialog.widget.handler;
+package org.knime.core.webui.data;
 
-import java.util.ArrayList;
 import java.util.List;
 
 /**
- * This class was created for update handlers to have an effect even when an error occurs.
- * TODO Remove with UIEXT-1842
- * @author Paul Bärnreuther
+ * Management interface exposing per-method latency statistics of data service invocations (see
+ * {@link DataServiceInstrumentation}).
+ *
+ * @author agent
+ * @since 5.12
  */
-public final class ErrorHandlingSingleton {
-
-    private ErrorHandlingSingleton() {
-
-    }
-
-    static final List<String> MESSAGES = new ArrayList<>(0);
+public interface DataServiceStatisticsMXBean {
 
     /**
-     *
-     * @return all added error messages
+     * @return whether statistics are being collected
      */
-    public static List<String> getErrorMessages() {
-        return MESSAGES;
-    }
+    boolean isEnabled();
 
     /**
-     *
-     * @param errorMessage
+     * @param enabled whether to collect statistics
      */
-    public static void addErrorMessage(final String errorMessage) {
-        MESSAGES.add(errorMessage);
-    }
+    void setEnabled(boolean enabled);
 
     /**
-     *
+     * @return a snapshot of the statistics per node factory, service type and method
      */
-    public static void reset() {
-        MESSAGES.clear();
+    List<DataServiceMethodStatistics> getMethodStatistics();
 
-    }
+    /**
+     * Discards all statistics collected so far.
+     */
+    void reset();
 
 }
@@ -54,6 +54,7 @@ import java.util.function.Supplier;
 import org.knime.core.node.NodeLogger;
 import org.knime.core.node.workflow.NodeContainer;
 import org.knime.core.node.workflow.NodeContext;
+import org.knime.core.webui.data.DataServiceInvocation.ServiceType;
 import org.knime.core.webui.data.rpc.json.impl.ObjectMapperUtil;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
@@ -105,6 +106,28 @@ public final class InitialDataService<D> extends AbstractDataService {
      * @return the initial data serialized into a string
      */
     public String getInitialData() {
+        final var invocation =
+            DataServiceInstrumentation.start(m_nc, ServiceType.INITIAL_DATA, () -> "getInitialData", 0);
+        if (invocation == null) {
+            return getInitialDataUninstrumented().json();
+        }
+        InitialDataResponse response = null;
+        try {
+            response = getInitialDataUninstrumented();
+            return response.json();
+        } finally {
+            invocation.finish(response == null ? 0 : response.json().length(), response == null || response.failed());
+        }
+    }
+
+    /**
+     * @param json the serialized response
+     * @param failed whether the response is a user or internal error
+     */
+    private record InitialDataResponse(String json, boolean failed) {
+    }
+
+    private InitialDataResponse getInitialDataUninstrumented() {
         if (m_nc != null) {
             NodeContext.pushContext(m_nc);
         }
@@ -118,14 +141,14 @@ public final class InitialDataService<D> extends AbstractDataService {
                 root.set("result", m_mapper.readTree(dataString));
             } catch (StreamConstraintsException ex) {
                 LOGGER.error(ex);
-                return m_mapper.createObjectNode()
+                return new InitialDataResponse(m_mapper.createObjectNode()
                     .set("internalError",
                         m_mapper.valueToTree(
                             new InitialDataInternalError(new IOException(
                                 "The initial value for this view is too large to process. "
                                 + "Please verify if the output is expected to be this large.",
                                 ex))))
-                    .toString();
+                    .toString(), true);
             } catch (JsonProcessingException ex) { // NOSONAR
                 // if it couldn't be parsed as a json, just return the string itself
                 root.put("result", dataString);
@@ -136,14 +159,15 @@ public final class InitialDataService<D> extends AbstractDataService {
             if (warningMessages != null && warningMessages.length > 0) {
                 root.set("warningMessages", m_mapper.valueToTree(warningMessages));
             }
-            return root.toString();
+            return new InitialDataResponse(root.toString(), false);
         } catch (DataServiceException e) {
-            return m_mapper.createObjectNode().set("userError", m_mapper.valueToTree(new InitialDataUserError(e)))
-                .toString();
+            return new InitialDataResponse(m_mapper.createObjectNode()
+                .set("userError", m_mapper.valueToTree(new InitialDataUserError(e))).toString(), true);
         } catch (Throwable t) { // NOSONAR
             final var err = new InitialDataInternalError(t);
             LOGGER.error(err.getMessage(), t);
-            return m_mapper.createObjectNode().set("internalError", m_mapper.valueToTree(err)).toString();
+            return new InitialDataResponse(
+                m_mapper.createObjectNode().set("internalError", m_mapper.valueToTree(err)).toString(), true);
         } finally {
             DataServiceContext.remove();
             if (m_nc != null) {
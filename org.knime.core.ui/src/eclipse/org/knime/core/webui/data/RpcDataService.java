@@ -48,25 +48,57 @@
  */
 package org.knime.core.webui.data;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FilterOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiPredicate;
 import java.util.function.Function;
+import java.util.stream.Stream;
 
-import org.apache.commons.lang3.function.FailableFunction;
 import org.knime.core.node.workflow.NodeContainer;
 import org.knime.core.node.workflow.NodeContext;
+import org.knime.core.webui.data.DataServiceInvocation.ServiceType;
 import org.knime.core.webui.data.RpcDataService.WildcardHandler.RequestException;
-import org.knime.core.webui.data.rpc.RpcServerManager;
+import org.knime.core.webui.data.rpc.json.impl.DeferredResults;
+import org.knime.core.webui.data.rpc.json.impl.JsonRpcDispatcher;
+import org.knime.core.webui.data.rpc.json.impl.JsonRpcEncoding;
 import org.knime.core.webui.data.rpc.json.impl.JsonRpcServer;
 import org.knime.core.webui.data.rpc.json.impl.JsonRpcSingleServer;
 import org.knime.core.webui.data.rpc.json.impl.ObjectMapperUtil;
+import org.knime.core.webui.data.util.VirtualThreadExecutors;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 
 /**
  * A {@link RpcDataService} where the requests result in actual method-calls of registered handler(s) (aka remote
@@ -80,14 +112,26 @@ public final class RpcDataService extends AbstractDataService {
 
     private static final ObjectMapper MAPPER = ObjectMapperUtil.getInstance().getObjectMapper();
 
-    private final FailableFunction<String, String, IOException> m_rpcServer;
+    private final Function<JsonRpcEncoding, RpcRequestHandler> m_createRpcServer;
+
+    private final Map<JsonRpcEncoding, RpcRequestHandler> m_rpcServers = new EnumMap<>(JsonRpcEncoding.class);
 
     private final Function<String, Object> m_getHandler;
 
     private final NodeContainer m_nc;
 
+    private final boolean m_parallelBatchExecution;
+
+    private final boolean m_asynchronousExecution;
+
+    private final RpcRequestCoalescer m_coalescer;
+
     private RpcDataService(final RpcDataServiceBuilder builder) {
         super(builder);
+        m_parallelBatchExecution = builder.m_parallelBatchExecution;
+        m_asynchronousExecution = builder.m_asynchronousExecution;
+        m_coalescer = builder.m_coalescingTtl == null ? null
+            : new RpcRequestCoalescer(getIdempotentMethodPredicate(builder), builder.m_coalescingTtl);
         final var hasUnnamedHandler = builder.m_unnamedHandler != null;
         final var hasNamedHandlers = !builder.m_namedHandlers.isEmpty();
         if (hasUnnamedHandler) {
@@ -96,33 +140,135 @@ public final class RpcDataService extends AbstractDataService {
                     "Having named and unnamed handlers at the same time is not supported at the moment.");
             }
             if (builder.m_unnamedHandler instanceof WildcardHandler handler) {
-                m_rpcServer = createWildcardRpcServer(handler);
+                m_createRpcServer = encoding -> createWildcardRpcServer(handler, getMapper(encoding));
                 m_getHandler = name -> handler;
             } else {
-                var rpcServer = new JsonRpcSingleServer<>(builder.m_unnamedHandler);
-                m_rpcServer = request -> RpcServerManager.doRpc(rpcServer, request);
-                m_getHandler = name -> rpcServer.getHandler();
+                final var handler = builder.m_unnamedHandler;
+                final var precompiledDispatch = builder.m_precompiledDispatch;
+                m_createRpcServer = encoding -> {
+                    final var mapper = getMapper(encoding);
+                    final var jsonRpcServer = new JsonRpcSingleServer<>(handler, mapper);
+                    return createJsonRpcServer(jsonRpcServer::handleRequest,
+                        precompiledDispatch ? new JsonRpcDispatcher(handler, mapper) : null, encoding);
+                };
+                m_getHandler = name -> handler;
             }
         } else if (hasNamedHandlers) {
-            final var jsonRpcServer = new JsonRpcServer();
-            builder.m_namedHandlers.forEach(jsonRpcServer::addService);
-            var rpcServer = jsonRpcServer;
-            m_rpcServer = request -> RpcServerManager.doRpc(rpcServer, request);
-            m_getHandler = rpcServer::getHandler;
+            final var namedHandlers = new HashMap<>(builder.m_namedHandlers);
+            final var precompiledDispatch = builder.m_precompiledDispatch;
+            m_createRpcServer = encoding -> {
+                final var mapper = getMapper(encoding);
+                final var jsonRpcServer = new JsonRpcServer(mapper);
+                namedHandlers.forEach(jsonRpcServer::addService);
+                return createJsonRpcServer(jsonRpcServer::handleRequest,
+                    precompiledDispatch ? new JsonRpcDispatcher(namedHandlers, mapper) : null, encoding);
+            };
+            m_getHandler = namedHandlers::get;
         } else {
             throw new IllegalStateException("No handler was supplied to this RPCDataService");
         }
+        // the json-server is always needed - the others are created on demand
+        m_rpcServers.put(JsonRpcEncoding.JSON, m_createRpcServer.apply(JsonRpcEncoding.JSON));
         m_nc = DataServiceUtil.getNodeContainerFromContext();
     }
 
-    private static FailableFunction<String, String, IOException>
-        createWildcardRpcServer(final WildcardHandler handler) {
-        return request -> {
+    private static BiPredicate<String, JsonNode> getIdempotentMethodPredicate(final RpcDataServiceBuilder builder) {
+        if (builder.m_unnamedHandler instanceof WildcardHandler handler) {
+            return (method, params) -> handler.isIdempotent(method);
+        }
+        final var idempotentMethods = new HashMap<String, Idempotent>();
+        if (builder.m_unnamedHandler != null) {
+            idempotentMethods.putAll(getIdempotentMethods(builder.m_unnamedHandler));
+        }
+        builder.m_namedHandlers.forEach((name, handler) -> getIdempotentMethods(handler)
+            .forEach((method, idempotent) -> idempotentMethods.put(name + "." + method, idempotent)));
+        return (method, params) -> {
+            final var idempotent = idempotentMethods.get(method);
+            return idempotent != null && !isAnyParameterTrue(params, idempotent.unlessTrue());
+        };
+    }
+
+    private static Map<String, Idempotent> getIdempotentMethods(final Object handler) {
+        final var idempotentMethods = new HashMap<String, Idempotent>();
+        for (var method : handler.getClass().getMethods()) {
+            final var idempotent = getIdempotentAnnotation(handler.getClass(), method);
+            if (idempotent != null) {
+                idempotentMethods.put(method.getName(), idempotent);
+            }
+        }
+        return idempotentMethods;
+    }
+
+    /**
+     * The annotation is usually placed on the method of the data service interface which isn't inherited by the
+     * implementing method.
+     */
+    private static Idempotent getIdempotentAnnotation(final Class<?> type, final Method method) {
+        if (type == null) {
+            return null;
+        }
+        try {
+            final var idempotent =
+                type.getMethod(method.getName(), method.getParameterTypes()).getAnnotation(Idempotent.class);
+            if (idempotent != null) {
+                return idempotent;
+            }
+        } catch (NoSuchMethodException e) { // NOSONAR
+            return null;
+        }
+        return Stream.concat(Arrays.stream(type.getInterfaces()), Stream.of(type.getSuperclass())) //
+            .map(t -> getIdempotentAnnotation(t, method)) //
+            .filter(Objects::nonNull) //
+            .findFirst().orElse(null);
+    }
+
+    private static boolean isAnyParameterTrue(final JsonNode params, final int[] indices) {
+        if (indices.length == 0) {
+            return false;
+        }
+        if (!(params instanceof ArrayNode paramsArray)) {
+            // named (or missing) parameters can't be matched with the parameter indices
+            return true;
+        }
+        return Arrays.stream(indices).mapToObj(paramsArray::get).anyMatch(p -> p != null && p.asBoolean());
+    }
+
+    private static ObjectMapper getMapper(final JsonRpcEncoding encoding) {
+        return ObjectMapperUtil.getInstance().getRpcObjectMapper(encoding);
+    }
+
+    private synchronized RpcRequestHandler getRpcServer(final JsonRpcEncoding encoding) {
+        return m_rpcServers.computeIfAbsent(encoding, m_createRpcServer);
+    }
+
+    private static RpcRequestHandler createJsonRpcServer(final StreamRpcServer rpcServer,
+        final JsonRpcDispatcher dispatcher, final JsonRpcEncoding encoding) {
+        final RpcRequestHandler genericRpcServer;
+        if (encoding == JsonRpcEncoding.JSON) {
+            genericRpcServer = (request, out) -> rpcServer.handleRequest(new ByteArrayInputStream(request), out);
+        } else {
+            genericRpcServer = (request, out) -> rpcServer.handleRequest(new ByteArrayInputStream(request),
+                new NewlineSuffixDroppingOutputStream(out));
+        }
+        if (dispatcher == null) {
+            return genericRpcServer;
+        }
+        return (request, out) -> {
+            if (!dispatcher.handleRequest(request, out)) {
+                genericRpcServer.handle(request, out);
+            }
+        };
+    }
+
+    private static RpcRequestHandler createWildcardRpcServer(final WildcardHandler handler,
+        final ObjectMapper mapper) {
+        return (request, out) -> {
             Map<String, Object> root;
             try {
-                root = MAPPER.readValue(request, Map.class);
+                root = mapper.readValue(request, Map.class);
             } catch (IOException e) {
-                return createJsonRpcErrorResponse(-32600 /* invalid request */, e.getMessage(), null, 0);
+                writeJsonRpcErrorResponse(-32600 /* invalid request */, e.getMessage(), null, 0, mapper, out);
+                return;
             }
 
             final var method = root.get("method").toString();
@@ -132,9 +278,10 @@ public final class RpcDataService extends AbstractDataService {
             try {
                 result = handleRequest(handler, method, paramsObj);
             } catch (RequestException ex) {
-                return createJsonRpcErrorResponse(ex.getErrorCode(), ex.getMessage(), null, id);
+                writeJsonRpcErrorResponse(ex.getErrorCode(), ex.getMessage(), null, id, mapper, out);
+                return;
             }
-            return createJsonRpcReponse(result, id);
+            writeJsonRpcReponse(result, id, mapper, out);
         };
     }
 
@@ -149,45 +296,292 @@ public final class RpcDataService extends AbstractDataService {
         }
     }
 
-    private static String createJsonRpcReponse(final Object result, final int id) {
-        var jsonRpc = MAPPER.createObjectNode().put("jsonrpc", "2.0").put("id", id);
-        jsonRpc.set("result", MAPPER.convertValue(result, JsonNode.class));
-        return jsonRpc.toString();
+    /*
+     * The result is directly serialized into the output stream, i.e. without creating an intermediate json-tree.
+     */
+    private static void writeJsonRpcReponse(final Object result, final int id, final ObjectMapper mapper,
+        final OutputStream out) throws IOException {
+        final var generator = mapper.createGenerator(out);
+        generator.writeStartObject();
+        generator.writeStringField("jsonrpc", "2.0");
+        generator.writeNumberField("id", id);
+        generator.writeFieldName("result");
+        generator.writeObject(result);
+        generator.writeEndObject();
+        // flushes, but doesn't close the generator since that would close the output stream, too
+        generator.flush();
     }
 
-    private static String createJsonRpcErrorResponse(final int errorCode, final String message, final Object data,
-        final int id) {
-        ObjectNode jsonRpc = MAPPER.createObjectNode().put("jsonrpc", "2.0").put("id", id);
+    private static void writeJsonRpcErrorResponse(final int errorCode, final String message, final Object data,
+        final Integer id, final ObjectMapper mapper, final OutputStream out) throws IOException {
+        ObjectNode jsonRpc = mapper.createObjectNode().put("jsonrpc", "2.0").put("id", id);
         var res = jsonRpc.putObject("error").put("code", errorCode).put("message", message);
         if (data != null) {
-            res.set("data", MAPPER.convertValue(data, JsonNode.class));
+            res.set("data", mapper.convertValue(data, JsonNode.class));
         }
-        return jsonRpc.toString();
+        out.write(mapper.writeValueAsBytes(jsonRpc));
     }
 
     /**
+     * Handles a single rpc request or a batch of requests. A batch (i.e. a json-array of json-rpc requests, see the
+     * JSON-RPC 2.0 specification) is processed under a single context set-up and answered with a single json-array
+     * containing the responses of all the requests which aren't notifications.
+     *
      * @param request the rpc request (e.g. encoded in json-rpc)
      * @return the rpc-response (e.g. a json-rpc response)
      */
     public String handleRpcRequest(final String request) {
+        final var out = new ByteArrayOutputStream();
+        try {
+            handleRpcRequest(request, out);
+        } catch (IOException ex) {
+            throw new IllegalStateException("A problem occurred while making a rpc call.", ex);
+        }
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Asynchronous variant of {@link #handleRpcRequest(String)}. If the data service has been configured for
+     * {@link RpcDataServiceBuilder#asynchronousExecution() asynchronous execution}, the request is processed on a
+     * separate thread (a virtual thread, if supported by the runtime) and the calling thread is not blocked. The node-
+     * and data-service-context as well as the {@link DataServiceDependencies} are propagated to that thread. Otherwise
+     * the request is processed by the calling thread.
+     *
+     * Handler methods may return a {@link CompletableFuture}; the returned future is completed with the response once
+     * that future completes, i.e. no thread waits for it (in contrast to {@link #handleRpcRequest(String)}).
+     *
+     * @param request the rpc request (e.g. encoded in json-rpc)
+     * @return a future of the rpc-response
+     * @since 5.12
+     */
+    public CompletableFuture<String> handleRpcRequestAsync(final String request) {
+        final var mapper = getMapper(JsonRpcEncoding.JSON);
+        if (!m_asynchronousExecution) {
+            return DeferredResults.handle(() -> handleRpcRequest(request), mapper);
+        }
+        final var dependencies = DataServiceDependencies.getDependencies();
+        return CompletableFuture.supplyAsync(() -> DataServiceDependencies.runWithDependencies(dependencies,
+            () -> DeferredResults.handle(() -> handleRpcRequest(request), mapper)), AsyncExecutorHolder.EXECUTOR)
+            .thenCompose(response -> response);
+    }
+
+    /**
+     * Same as {@link #handleRpcRequest(String)} but the response is directly written into the given output stream
+     * (UTF-8 encoded) such that large responses never need to be materialized as a single string. Warning messages
+     * reported via the {@link DataServiceContext} are appended as trailing {@code warningMessages}-field to the
+     * response.
+     *
+     * @param request the rpc request (e.g. encoded in json-rpc)
+     * @param out the stream to write the rpc-response to; it's flushed but not closed
+     * @throws IOException if the response couldn't be written to the output stream
+     * @since 5.12
+     */
+    public void handleRpcRequest(final String request, final OutputStream out) throws IOException {
+        handleRpcRequest(request.getBytes(StandardCharsets.UTF_8), JsonRpcEncoding.JSON, out);
+    }
+
+    /**
+     * Same as {@link #handleRpcRequest(String, OutputStream)} but the request and response are framed in the given
+     * encoding (e.g. a binary json format). The structure of request and response is the same for all encodings.
+     *
+     * @param request the encoded rpc request
+     * @param encoding the encoding of the request and the response
+     * @param out the stream to write the encoded rpc-response to; it's flushed but not closed
+     * @throws IOException if the request couldn't be read or the response couldn't be written to the output stream
+     * @throws UnsupportedOperationException if the encoding is not available
+     * @since 5.12
+     */
+    public void handleRpcRequest(final byte[] request, final JsonRpcEncoding encoding, final OutputStream out)
+        throws IOException {
+        final var mapper = getMapper(encoding);
+        if (isBatchRequest(request, mapper)) {
+            if (m_coalescer != null) {
+                m_coalescer.invalidate();
+            }
+            handleBatchRpcRequest(request, encoding, out);
+            return;
+        }
+        if (m_coalescer != null && encoding == JsonRpcEncoding.JSON) {
+            m_coalescer.handle(request, out, (r, o) -> handleSingleRpcRequest(r, encoding, o));
+        } else {
+            handleSingleRpcRequest(request, encoding, out);
+        }
+    }
+
+    private void handleSingleRpcRequest(final byte[] request, final JsonRpcEncoding encoding, final OutputStream out)
+        throws IOException {
         if (m_nc != null) {
             NodeContext.pushContext(m_nc);
         }
         try {
             DataServiceContext.init(m_nc);
-            final var response = m_rpcServer.apply(request);
+            handleRpcRequestWithinContext(request, encoding, out);
+        } finally {
+            DataServiceContext.remove();
+            if (m_nc != null) {
+                NodeContext.removeLastContext();
+            }
+        }
+    }
+
+    private void handleRpcRequestWithinContext(final byte[] request, final JsonRpcEncoding encoding,
+        final OutputStream out) throws IOException {
+        final var invocation = DataServiceInstrumentation.start(m_nc, ServiceType.RPC,
+            () -> getMethodName(request, getMapper(encoding)), request.length);
+        if (invocation == null) {
+            handleRpcRequestWithinContextUninstrumented(request, encoding, out);
+            return;
+        }
+        final var instrumentedOut = new InstrumentedOutputStream(out);
+        var failed = true;
+        try {
+            handleRpcRequestWithinContextUninstrumented(request, encoding, instrumentedOut);
+            failed = instrumentedOut.m_count > 0 && !WarningMessagesAppendingOutputStream
+                .isResultResponse(instrumentedOut.getHead(), getMapper(encoding).getFactory());
+        } finally {
+            invocation.finish(instrumentedOut.m_count, failed);
+        }
+    }
+
+    private static String getMethodName(final byte[] request, final ObjectMapper mapper) {
+        try (var parser = mapper.createParser(request)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return null;
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                final var name = parser.getCurrentName();
+                parser.nextToken();
+                if ("method".equals(name)) {
+                    return parser.getValueAsString();
+                }
+                parser.skipChildren();
+            }
+        } catch (IOException e) { // NOSONAR
+            // invalid request - reported as error response by the rpc server
+        }
+        return null;
+    }
+
+    private void handleRpcRequestWithinContextUninstrumented(final byte[] request, final JsonRpcEncoding encoding,
+        final OutputStream out) throws IOException {
+        final var rpcServer = getRpcServer(encoding);
+        if (encoding == JsonRpcEncoding.JSON) {
+            final var responseOut = new WarningMessagesAppendingOutputStream(out);
+            rpcServer.handle(request, responseOut);
             // We have to get the DataServiceContext again here, since the context may have changed since (or as a
             // consequence of) clearing it
             final var warningMessages = DataServiceContext.get().getWarningMessages();
-            if (warningMessages != null && warningMessages.length > 0) {
-                final var root = (ObjectNode)MAPPER.readTree(response);
-                if (root.has("result")) {
-                    return root.set("warningMessages", MAPPER.valueToTree(warningMessages)).toString();
+            responseOut.finish(warningMessages != null && warningMessages.length > 0
+                ? MAPPER.writeValueAsBytes(warningMessages) : null);
+        } else {
+            // binary formats can't be amended in place - hence the response is re-encoded in case of warnings
+            final var response = new ByteArrayOutputStream();
+            rpcServer.handle(request, response);
+            final var warningMessages = DataServiceContext.get().getWarningMessages();
+            if (warningMessages != null && warningMessages.length > 0 && response.size() > 0) {
+                final var mapper = getMapper(encoding);
+                final var root = mapper.readTree(response.toByteArray());
+                if (root instanceof ObjectNode objectNode && root.has("result")) {
+                    objectNode.set("warningMessages", mapper.valueToTree(warningMessages));
+                    out.write(mapper.writeValueAsBytes(objectNode));
+                    out.flush();
+                    return;
                 }
             }
-            return response;
-        } catch (IOException ex) {
-            throw new IllegalStateException("A problem occurred while making a rpc call.", ex);
+            response.writeTo(out);
+            out.flush();
+        }
+    }
+
+    private static boolean isBatchRequest(final byte[] request, final ObjectMapper mapper) throws IOException {
+        try (var parser = mapper.createParser(request)) {
+            return parser.nextToken() == JsonToken.START_ARRAY;
+        } catch (JsonProcessingException e) { // NOSONAR
+            // will be reported as error response by the rpc server
+            return false;
+        }
+    }
+
+    private void handleBatchRpcRequest(final byte[] request, final JsonRpcEncoding encoding, final OutputStream out)
+        throws IOException {
+        final var mapper = getMapper(encoding);
+        final JsonNode batch;
+        try {
+            batch = mapper.readTree(request);
+        } catch (IOException e) {
+            writeJsonRpcErrorResponse(-32700 /* parse error */, e.getMessage(), null, null, mapper, out);
+            return;
+        }
+        if (batch.isEmpty()) {
+            writeJsonRpcErrorResponse(-32600 /* invalid request */, "Empty batch request", null, null, mapper, out);
+            return;
+        }
+        final var requests = new ArrayList<byte[]>(batch.size());
+        for (var r : batch) {
+            requests.add(mapper.writeValueAsBytes(r));
+        }
+        final var responses = m_parallelBatchExecution ? handleRequestsInParallel(requests, encoding)
+            : handleRequestsSequentially(requests, encoding);
+        if (encoding == JsonRpcEncoding.JSON) {
+            writeJsonBatchResponse(responses, out);
+        } else {
+            final var responseArray = mapper.createArrayNode();
+            for (var response : responses) {
+                if (response.length > 0) {
+                    responseArray.add(mapper.readTree(response));
+                }
+            }
+            if (!responseArray.isEmpty()) {
+                out.write(mapper.writeValueAsBytes(responseArray));
+            }
+        }
+        out.flush();
+    }
+
+    private static void writeJsonBatchResponse(final List<byte[]> responses, final OutputStream out)
+        throws IOException {
+        // the responses are joined as they are in order to avoid another (de-)serialization round-trip
+        var isFirst = true;
+        for (var response : responses) {
+            final var length = lengthWithoutTrailingWhitespace(response);
+            if (length == 0) {
+                // notifications (or void methods) don't produce a response
+                continue;
+            }
+            out.write(isFirst ? '[' : ',');
+            out.write(response, 0, length);
+            isFirst = false;
+        }
+        // according to the specification nothing is returned if all requests of the batch are notifications
+        if (!isFirst) {
+            out.write(']');
+        }
+    }
+
+    private static int lengthWithoutTrailingWhitespace(final byte[] bytes) {
+        var length = bytes.length;
+        while (length > 0 && Character.isWhitespace(bytes[length - 1])) {
+            length--;
+        }
+        return length;
+    }
+
+    private List<byte[]> handleRequestsSequentially(final List<byte[]> requests, final JsonRpcEncoding encoding)
+        throws IOException {
+        if (m_nc != null) {
+            NodeContext.pushContext(m_nc);
+        }
+        try {
+            DataServiceContext.init(m_nc);
+            final var responses = new ArrayList<byte[]>(requests.size());
+            for (var request : requests) {
+                // warning messages are reported per request
+                DataServiceContext.get().clearWarningMessages();
+                final var out = new ByteArrayOutputStream();
+                handleRpcRequestWithinContext(request, encoding, out);
+                responses.add(out.toByteArray());
+            }
+            return responses;
         } finally {
             DataServiceContext.remove();
             if (m_nc != null) {
@@ -196,6 +590,161 @@ public final class RpcDataService extends AbstractDataService {
         }
     }
 
+    /**
+     * The requests are processed on a dedicated pool. The calling thread doesn't just wait but processes the requests
+     * that have not been picked up by the pool yet itself. Hence, a batch completes even if the pool is saturated (e.g.
+     * by nested batches).
+     */
+    private List<byte[]> handleRequestsInParallel(final List<byte[]> requests, final JsonRpcEncoding encoding) {
+        final var tasks = new ArrayList<FutureTask<byte[]>>(requests.size());
+        final var dependencies = DataServiceDependencies.getDependencies();
+        final var caller = Thread.currentThread();
+        for (var request : requests) {
+            // every request sets up its own node- and data-service-context on the respective thread
+            final Callable<byte[]> handleRequest = () -> {
+                final var out = new ByteArrayOutputStream();
+                handleRpcRequest(request, encoding, out);
+                return out.toByteArray();
+            };
+            tasks.add(new FutureTask<>(() -> Thread.currentThread() == caller ? handleRequest.call()
+                : DataServiceDependencies.runWithDependencies(dependencies, handleRequest::call)));
+        }
+        // the first request is processed by the calling thread in any case
+        tasks.stream().skip(1).forEach(BatchExecutorHolder.EXECUTOR::execute);
+        final var responses = new ArrayList<byte[]>(requests.size());
+        for (var task : tasks) {
+            // no-op if the task has already been started by the pool
+            task.run();
+            try {
+                responses.add(task.get());
+            } catch (InterruptedException ex) { // NOSONAR the interrupt is re-set
+                tasks.forEach(t -> t.cancel(true));
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while processing a batch of rpc requests.", ex);
+            } catch (ExecutionException ex) {
+                throw new IllegalStateException("A problem occurred while making a rpc call.", ex.getCause());
+            }
+        }
+        return responses;
+    }
+
+    /**
+     * Counts the bytes written and keeps the head of the response to determine whether it's an error response.
+     */
+    private static final class InstrumentedOutputStream extends FilterOutputStream {
+
+        private static final int HEAD_SIZE = 256;
+
+        private final byte[] m_head = new byte[HEAD_SIZE];
+
+        private long m_count;
+
+        InstrumentedOutputStream(final OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(final int b) throws IOException {
+            if (m_count < HEAD_SIZE) {
+                m_head[(int)m_count] = (byte)b;
+            }
+            m_count++;
+            out.write(b);
+        }
+
+        @Override
+        public void write(final byte[] b, final int off, final int len) throws IOException {
+            if (m_count < HEAD_SIZE) {
+                System.arraycopy(b, off, m_head, (int)m_count, (int)Math.min(len, HEAD_SIZE - m_count));
+            }
+            m_count += len;
+            out.write(b, off, len);
+        }
+
+        byte[] getHead() {
+            return Arrays.copyOf(m_head, (int)Math.min(m_count, HEAD_SIZE));
+        }
+
+    }
+
+    private static final class BatchExecutorHolder {
+
+        private static final int MAX_THREADS = Math.max(2, Runtime.getRuntime().availableProcessors());
+
+        private static final ThreadPoolExecutor EXECUTOR = createExecutor();
+
+        private static ThreadPoolExecutor createExecutor() {
+            final var pool = new ThreadPoolExecutor(MAX_THREADS, MAX_THREADS, 60, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(),
+                new ThreadFactoryBuilder().setNameFormat("KNIME-RpcDataService-Batch-%d").setDaemon(true).build());
+            pool.allowCoreThreadTimeOut(true);
+            return pool;
+        }
+
+    }
+
+    private static final class AsyncExecutorHolder {
+
+        private static final int MAX_PLATFORM_THREADS = Math.max(4, 2 * Runtime.getRuntime().availableProcessors());
+
+        private static final Executor EXECUTOR = VirtualThreadExecutors
+            .newVirtualThreadOrDaemonPoolExecutor("KNIME-RpcDataService-%d", MAX_PLATFORM_THREADS);
+
+    }
+
+    @FunctionalInterface
+    private interface StreamRpcServer {
+
+        void handleRequest(InputStream in, OutputStream out) throws IOException;
+
+    }
+
+    /**
+     * The jsonrpc4j-server terminates every response with a single newline-character (written separately from the
+     * actual response). That's fine for json but corrupts binary formats - hence it's dropped. A newline written on its
+     * own is held back until more bytes follow, such that only the final one is dropped and newline-bytes which are
+     * part of the (binary) response are kept.
+     */
+    private static final class NewlineSuffixDroppingOutputStream extends FilterOutputStream {
+
+        private boolean m_newlinePending;
+
+        NewlineSuffixDroppingOutputStream(final OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(final int b) throws IOException {
+            writePendingNewline();
+            if (b == '\n') {
+                m_newlinePending = true;
+            } else {
+                out.write(b);
+            }
+        }
+
+        @Override
+        public void write(final byte[] b, final int off, final int len) throws IOException {
+            writePendingNewline();
+            out.write(b, off, len);
+        }
+
+        private void writePendingNewline() throws IOException {
+            if (m_newlinePending) {
+                m_newlinePending = false;
+                out.write('\n');
+            }
+        }
+
+    }
+
+    @FunctionalInterface
+    private interface RpcRequestHandler {
+
+        void handle(byte[] request, OutputStream out) throws IOException;
+
+    }
+
     /**
      * -
      *
@@ -277,6 +826,14 @@ public final class RpcDataService extends AbstractDataService {
 
         private Map<String, Object> m_namedHandlers = new HashMap<>();
 
+        private boolean m_parallelBatchExecution;
+
+        private boolean m_asynchronousExecution;
+
+        private Duration m_coalescingTtl;
+
+        private boolean m_precompiledDispatch;
+
         private RpcDataServiceBuilder(final Object handler) {
             m_unnamedHandler = handler;
         }
@@ -299,6 +856,60 @@ public final class RpcDataService extends AbstractDataService {
             return this;
         }
 
+        /**
+         * Lets the requests of a batch request (i.e. a json-array of json-rpc requests) be processed in parallel. Only
+         * enable it if the handler methods are thread-safe and the requests of a batch don't depend on each other.
+         * Otherwise (default) the requests of a batch are processed one after another in the given order. The requests
+         * are processed on a dedicated pool together with the calling thread, such that nested batches can't starve.
+         *
+         * @return the builder
+         */
+        public RpcDataServiceBuilder parallelBatchExecution() {
+            m_parallelBatchExecution = true;
+            return this;
+        }
+
+        /**
+         * Lets {@link RpcDataService#handleRpcRequestAsync(String)} process every request on its own thread (a
+         * virtual thread, if supported by the runtime) such that the calling thread is freed immediately and many
+         * slow requests can be in flight at the same time. Only enable it if the handler methods are thread-safe.
+         *
+         * @return the builder
+         */
+        public RpcDataServiceBuilder asynchronousExecution() {
+            m_asynchronousExecution = true;
+            return this;
+        }
+
+        /**
+         * Lets concurrent requests for {@link Idempotent idempotent} methods with identical parameters share a single
+         * computation and response. Responses are additionally kept for the given amount of time in order to absorb
+         * bursts of identical requests; they're dropped as soon as any non-idempotent method is called. Only applies
+         * to json-encoded, non-batch requests.
+         *
+         * @param ttl how long a response is kept once it has been computed; {@link Duration#ZERO} to only share
+         *            computations in flight
+         * @return the builder
+         */
+        public RpcDataServiceBuilder coalesceIdempotentRequests(final Duration ttl) {
+            m_coalescingTtl = ttl;
+            return this;
+        }
+
+        /**
+         * Lets the requests be dispatched to the handler methods via a table of method handles and parameter readers
+         * which is built once per handler (see {@link JsonRpcDispatcher}), instead of resolving the methods and
+         * converting the parameters reflectively on every request. Requests which can't be dispatched that way (e.g.
+         * named parameters or overloaded methods) are still handled by the generic json-rpc server. Has no effect for
+         * {@link WildcardHandler WildcardHandlers}.
+         *
+         * @return the builder
+         */
+        public RpcDataServiceBuilder precompiledDispatch() {
+            m_precompiledDispatch = true;
+            return this;
+        }
+
         @Override
         public RpcDataServiceBuilder onDispose(final Runnable dispose) {
             super.onDispose(dispose);
@@ -320,6 +931,25 @@ public final class RpcDataService extends AbstractDataService {
 
     }
 
+    /**
+     * Marks a handler method as idempotent, i.e. calling it multiple times with the same parameters has the same effect
+     * and result as calling it once. Only relevant if the data service has been configured to
+     * {@link RpcDataServiceBuilder#coalesceIdempotentRequests(Duration) coalesce idempotent requests}. The annotation
+     * can also be placed on the method of an interface implemented by the handler.
+     */
+    @Retention(RetentionPolicy.RUNTIME)
+    @Target(ElementType.METHOD)
+    public @interface Idempotent {
+
+        /**
+         * @return the (zero-based) indices of boolean parameters which, if {@code true}, make a call non-idempotent,
+         *         e.g. because the result depends on state the data service isn't notified about (such as the
+         *         selection) or because the call changes the state (such as clearing a cache); such calls are neither
+         *         shared nor is their response kept
+         */
+        int[] unlessTrue() default {};
+    }
+
     /**
      * Handler which can handle any rpc-request, independent from the method name and parameters.
      */
@@ -345,6 +975,14 @@ public final class RpcDataService extends AbstractDataService {
          */
         Object handleRequest(String method, Map<String, Object> params) throws RequestException;
 
+        /**
+         * @param method the rpc method name
+         * @return whether the method is idempotent (see {@link Idempotent})
+         */
+        default boolean isIdempotent(final String method) {
+            return false;
+        }
+
         @SuppressWarnings("javadoc")
         class RequestException extends Exception {
 
@@ -0,0 +1,238 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent): created
+ */
+package org.knime.core.webui.data;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiPredicate;
+
+import org.knime.core.webui.data.rpc.json.impl.DeferredResults;
+import org.knime.core.webui.data.rpc.json.impl.ObjectMapperUtil;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Lets concurrent json-rpc requests for idempotent methods with identical parameters share a single computation (and
+ * response). Optionally, responses are kept for a short period of time to also absorb bursts of identical requests.
+ *
+ * Responses are shared independent of the request-id: the shared computation is carried out with a normalized
+ * request-id which is replaced by the actual request-id of each caller when writing the response. Any request for a
+ * non-idempotent method invalidates all the kept responses since it might change the state the responses depend on.
+ * Computations which are still in flight at that point are detached, i.e. they only serve the requests which already
+ * joined them while subsequent requests start a new computation.
+ *
+ * @author agent
+ */
+final class RpcRequestCoalescer {
+
+    private static final ObjectMapper MAPPER = ObjectMapperUtil.getInstance().getObjectMapper();
+
+    private static final int NORMALIZED_ID = 0;
+
+    private static final byte[] RESPONSE_PREFIX = "{\"jsonrpc\":\"2.0\",\"id\":".getBytes(StandardCharsets.UTF_8);
+
+    private static final byte[] NORMALIZED_RESPONSE_PREFIX =
+        ("{\"jsonrpc\":\"2.0\",\"id\":" + NORMALIZED_ID).getBytes(StandardCharsets.UTF_8);
+
+    private static final byte[] ERROR_FIELD = ",\"error\"".getBytes(StandardCharsets.UTF_8);
+
+    private final Map<String, Entry> m_entries = new ConcurrentHashMap<>();
+
+    private final BiPredicate<String, JsonNode> m_isIdempotent;
+
+    private final long m_ttlNanos;
+
+    @FunctionalInterface
+    interface RequestProcessor {
+
+        void process(byte[] request, OutputStream out) throws IOException;
+
+    }
+
+    /**
+     * @param isIdempotent determines whether a call of a method (given by its name) with the given parameters (possibly
+     *            {@code null}) is idempotent
+     * @param ttl how long responses are kept after the computation finished; {@link Duration#ZERO} to only share
+     *            in-flight computations
+     */
+    RpcRequestCoalescer(final BiPredicate<String, JsonNode> isIdempotent, final Duration ttl) {
+        m_isIdempotent = isIdempotent;
+        m_ttlNanos = ttl.toNanos();
+    }
+
+    /**
+     * Processes the given json-rpc request, possibly sharing the computation with other requests.
+     *
+     * @param request the json-rpc request (not a batch request)
+     * @param out receives the response
+     * @param processor carries out the actual processing of a request
+     * @throws IOException
+     */
+    void handle(final byte[] request, final OutputStream out, final RequestProcessor processor) throws IOException {
+        final var root = parseRequest(request);
+        final var method = root == null ? null : root.get("method");
+        final var id = root == null ? null : root.get("id");
+        final var params = root == null ? null : root.get("params");
+        if (method == null || !m_isIdempotent.test(method.asText(), params)) {
+            invalidate();
+            processor.process(request, out);
+            return;
+        }
+        if (id == null || id.isNull()) {
+            // notifications don't have a response to share
+            processor.process(request, out);
+            return;
+        }
+        final var key = method.asText() + '\0' + (params == null ? "" : params.toString());
+        final var newEntry = new Entry();
+        final var now = System.nanoTime();
+        final var entry = m_entries.compute(key, (k, e) -> e == null || e.isExpired(now, m_ttlNanos) ? newEntry : e);
+        if (entry == newEntry) {
+            compute(key, newEntry, root, processor);
+        }
+        final var response = entry.await();
+        if (response.length == 0) {
+            return;
+        }
+        if (!startsWith(response, NORMALIZED_RESPONSE_PREFIX, 0)) {
+            // unexpected response format - the id can't be replaced
+            processor.process(request, out);
+            return;
+        }
+        out.write(RESPONSE_PREFIX);
+        out.write(MAPPER.writeValueAsBytes(id));
+        out.write(response, NORMALIZED_RESPONSE_PREFIX.length, response.length - NORMALIZED_RESPONSE_PREFIX.length);
+        out.flush();
+    }
+
+    private void compute(final String key, final Entry entry, final ObjectNode root, final RequestProcessor processor)
+        throws IOException {
+        try {
+            root.put("id", NORMALIZED_ID);
+            final var response = new ByteArrayOutputStream();
+            // the response is shared, i.e. it must not contain results which are only completed for this request
+            try (var suspension = DeferredResults.suspend()) {
+                processor.process(MAPPER.writeValueAsBytes(root), response);
+            }
+            final var responseBytes = response.toByteArray();
+            entry.complete(responseBytes);
+            if (m_ttlNanos == 0 || startsWith(responseBytes, ERROR_FIELD, NORMALIZED_RESPONSE_PREFIX.length)) {
+                // errors are only shared with the requests in flight
+                m_entries.remove(key, entry);
+            }
+        } catch (IOException | RuntimeException e) { // NOSONAR
+            entry.m_future.completeExceptionally(e);
+            m_entries.remove(key, entry);
+            throw e;
+        }
+    }
+
+    private static ObjectNode parseRequest(final byte[] request) {
+        try {
+            return MAPPER.readTree(request) instanceof ObjectNode objectNode ? objectNode : null;
+        } catch (IOException e) { // NOSONAR
+            // reported by the actual rpc server
+            return null;
+        }
+    }
+
+    private static boolean startsWith(final byte[] bytes, final byte[] prefix, final int offset) {
+        return bytes.length >= offset + prefix.length
+            && Arrays.equals(bytes, offset, offset + prefix.length, prefix, 0, prefix.length);
+    }
+
+    /**
+     * Drops all kept responses and detaches the computations in flight such that subsequent requests don't join them
+     * anymore (they might already be based on outdated state).
+     */
+    void invalidate() {
+        m_entries.clear();
+    }
+
+    private static final class Entry {
+
+        private final CompletableFuture<byte[]> m_future = new CompletableFuture<>();
+
+        private volatile long m_completedAt;
+
+        void complete(final byte[] response) {
+            m_completedAt = System.nanoTime();
+            m_future.complete(response);
+        }
+
+        boolean isExpired(final long now, final long ttlNanos) {
+            return m_future.isDone() && now - m_completedAt > ttlNanos;
+        }
+
+        byte[] await() throws IOException {
+            try {
+                return m_future.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof IOException ioe) {
+                    throw ioe;
+                } else if (e.getCause() instanceof RuntimeException re) {
+                    throw re;
+                }
+                throw e;
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,191 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent): created
+ */
+package org.knime.core.webui.data;
+
+import java.io.ByteArrayOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.knime.core.webui.data.rpc.json.impl.ObjectMapperUtil;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonToken;
+
+/**
+ * Passes a json-rpc response through to the underlying stream while holding back the closing curly bracket (and
+ * trailing whitespace) of the response object. This allows one to append the warning messages as a trailing field to
+ * the response once it has been written completely - without the need to re-parse and re-serialize the entire
+ * response.
+ *
+ * @author agent
+ */
+final class WarningMessagesAppendingOutputStream extends FilterOutputStream {
+
+    /**
+     * The number of leading bytes kept to determine whether the response is a result- or an error-response. The
+     * 'result' or 'error' field directly follows the (small) 'jsonrpc' and 'id' fields.
+     */
+    private static final int HEAD_SIZE = 1024;
+
+    private static final byte[] WARNING_MESSAGES_FIELD = ",\"warningMessages\":".getBytes(StandardCharsets.UTF_8);
+
+    private final ByteArrayOutputStream m_head = new ByteArrayOutputStream();
+
+    private final ByteArrayOutputStream m_pendingTail = new ByteArrayOutputStream();
+
+    WarningMessagesAppendingOutputStream(final OutputStream out) {
+        super(out);
+    }
+
+    @Override
+    public void write(final int b) throws IOException {
+        recordHead(new byte[]{(byte)b}, 0, 1);
+        if (b == '}') {
+            flushPendingTail();
+            m_pendingTail.write(b);
+        } else if (m_pendingTail.size() > 0 && isWhitespace(b)) {
+            m_pendingTail.write(b);
+        } else {
+            flushPendingTail();
+            out.write(b);
+        }
+    }
+
+    @Override
+    public void write(final byte[] b, final int off, final int len) throws IOException {
+        if (len == 0) {
+            return;
+        }
+        recordHead(b, off, len);
+        var i = off + len - 1;
+        while (i >= off && isWhitespace(b[i])) {
+            i--;
+        }
+        if (i < off) {
+            // whitespace only
+            if (m_pendingTail.size() > 0) {
+                m_pendingTail.write(b, off, len);
+            } else {
+                out.write(b, off, len);
+            }
+            return;
+        }
+        flushPendingTail();
+        if (b[i] == '}') {
+            out.write(b, off, i - off);
+            m_pendingTail.write(b, i, off + len - i);
+        } else {
+            out.write(b, off, len);
+        }
+    }
+
+    /**
+     * Completes the response. Must be called exactly once after the response has been written. The underlying stream
+     * is flushed but not closed.
+     *
+     * @param warningMessagesJson the warning messages as serialized json-array or {@code null} if there are none
+     * @throws IOException
+     */
+    void finish(final byte[] warningMessagesJson) throws IOException {
+        if (warningMessagesJson != null && m_pendingTail.size() > 0 && isResultResponse(m_head.toByteArray(),
+            ObjectMapperUtil.getInstance().getObjectMapper().getFactory())) {
+            out.write(WARNING_MESSAGES_FIELD);
+            out.write(warningMessagesJson);
+        }
+        flushPendingTail();
+        out.flush();
+    }
+
+    private void recordHead(final byte[] b, final int off, final int len) {
+        final var remaining = HEAD_SIZE - m_head.size();
+        if (remaining > 0) {
+            m_head.write(b, off, Math.min(remaining, len));
+        }
+    }
+
+    private void flushPendingTail() throws IOException {
+        if (m_pendingTail.size() > 0) {
+            m_pendingTail.writeTo(out);
+            m_pendingTail.reset();
+        }
+    }
+
+    private static boolean isWhitespace(final int b) {
+        return b == ' ' || b == '\n' || b == '\r' || b == '\t';
+    }
+
+    /**
+     * @param head the leading bytes of a json-rpc response
+     * @param factory the factory for the format the response is encoded in
+     * @return {@code true} if the 'result' field appears before the 'error' field in the given response head
+     */
+    static boolean isResultResponse(final byte[] head, final JsonFactory factory) {
+        try (var parser = factory.createParser(head)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return false;
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                final var name = parser.getCurrentName();
+                if ("result".equals(name)) {
+                    return true;
+                } else if ("error".equals(name)) {
+                    return false;
+                }
+                parser.nextToken();
+                parser.skipChildren();
+            }
+        } catch (IOException e) { // NOSONAR
+            // the head is truncated before the 'result' or 'error' field - not supported
+        }
+        return false;
+    }
+
+}
@@ -48,6 +48,11 @@
  */
 package org.knime.core.webui.data.rpc;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
 /**
  * To deliver remote procedure calls to a remote (different machine and/or language) rpc server provided by a node
  * factory, different mechanisms can be used. This interface abstracts from the mechanism used, to deliver the remote
@@ -74,4 +79,23 @@ public interface RpcTransport { // NOSONAR
      */
     String sendAndReceive(String rpc);
 
+    /**
+     * Stream-based variant of {@link #sendAndReceive(String)} which allows implementations to deliver large responses
+     * without materializing them as a single string. The default implementation delegates to
+     * {@link #sendAndReceive(String)}.
+     *
+     * @param rpc a remote procedure call, UTF-8 encoded
+     * @param response receives the serialized return of the remotely invoked method, UTF-8 encoded; the stream is
+     *            flushed but not closed
+     * @throws IOException if the request couldn't be read or the response couldn't be written
+     * @since 5.12
+     */
+    default void sendAndReceive(final InputStream rpc, final OutputStream response) throws IOException {
+        final var responseString = sendAndReceive(new String(rpc.readAllBytes(), StandardCharsets.UTF_8));
+        if (responseString != null) {
+            response.write(responseString.getBytes(StandardCharsets.UTF_8));
+        }
+        response.flush();
+    }
+
 }
@@ -0,0 +1,113 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent): created
+ */
+package org.knime.core.webui.data.rpc.json.impl;
+
+import java.io.IOException;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+/**
+ * Serializes the (eventual) value of a {@link CompletionStage}. It allows data service handler methods to return a
+ * {@link java.util.concurrent.CompletableFuture}. If the request is handled via
+ * {@link DeferredResults#handle(java.util.function.Supplier, com.fasterxml.jackson.databind.ObjectMapper)}, a
+ * placeholder is written for an unfinished future and the response is completed once the future completed. Otherwise
+ * the serializer waits for the future.
+ *
+ * If the future completes exceptionally, an {@link AsyncResultException} is thrown which carries the original failure
+ * such that it can be turned into a proper json-rpc error (see {@link JsonRpcServer#resolveError(Throwable)}).
+ *
+ * @author agent
+ */
+@SuppressWarnings("rawtypes")
+final class CompletionStageSerializer extends StdSerializer<CompletionStage> {
+
+    private static final long serialVersionUID = 1L;
+
+    CompletionStageSerializer() {
+        super(CompletionStage.class);
+    }
+
+    @Override
+    public void serialize(final CompletionStage value, final JsonGenerator gen, final SerializerProvider provider)
+        throws IOException {
+        final var future = value.toCompletableFuture();
+        if (!future.isDone()) {
+            final var placeholder = DeferredResults.defer(future);
+            if (placeholder != null) {
+                gen.writeString(placeholder);
+                return;
+            }
+        }
+        Object result;
+        try {
+            result = future.join();
+        } catch (CompletionException e) {
+            throw new AsyncResultException(e.getCause() == null ? e : e.getCause());
+        }
+        provider.defaultSerializeValue(result, gen);
+    }
+
+    /**
+     * Wraps the failure of an asynchronously computed result.
+     */
+    static final class AsyncResultException extends RuntimeException {
+
+        private static final long serialVersionUID = 1L;
+
+        AsyncResultException(final Throwable cause) {
+            super(cause.getMessage(), cause);
+        }
+
+    }
+
+}
@@ -0,0 +1,205 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 19, 2026 (agent): created
+ */
+package org.knime.core.webui.data.rpc.json.impl;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Allows json-rpc handler methods to return unfinished {@link java.util.concurrent.CompletionStage CompletionStages}
+ * without blocking the thread handling the request. While a request is {@link #handle(Supplier, ObjectMapper) handled},
+ * the {@link CompletionStageSerializer} writes a placeholder for every unfinished result instead of waiting for it.
+ * The placeholders of the response are replaced once all the results completed.
+ *
+ * @author agent
+ *
+ * @noreference This class is not intended to be referenced by clients.
+ *
+ * @since 5.12
+ */
+public final class DeferredResults {
+
+    private static final ThreadLocal<DeferredResults> CURRENT = new ThreadLocal<>();
+
+    private final String m_placeholderPrefix = "deferred-result-" + UUID.randomUUID() + "-";
+
+    private final Map<String, CompletableFuture<?>> m_results = new HashMap<>();
+
+    private DeferredResults() {
+    }
+
+    /**
+     * Handles a json-encoded json-rpc request such that unfinished results of handler methods don't block the calling
+     * thread.
+     *
+     * @param handler handles the request on the calling thread and returns the json-rpc response
+     * @param mapper the mapper the response has been written with
+     * @return the response which is completed once all the results of the handler methods completed
+     */
+    public static CompletableFuture<String> handle(final Supplier<String> handler, final ObjectMapper mapper) {
+        final var deferredResults = new DeferredResults();
+        final String response;
+        CURRENT.set(deferredResults);
+        try {
+            response = handler.get();
+        } finally {
+            CURRENT.remove();
+        }
+        if (deferredResults.m_results.isEmpty()) {
+            return CompletableFuture.completedFuture(response);
+        }
+        return CompletableFuture.allOf(deferredResults.m_results.values().toArray(CompletableFuture[]::new))
+            .handle((v, t) -> deferredResults.complete(response, mapper));
+    }
+
+    /**
+     * Suspends deferring results on the current thread until the returned suspension is closed, e.g. while a response
+     * is computed which is shared with other requests.
+     *
+     * @return the suspension to be closed once results may be deferred again
+     */
+    public static Suspension suspend() {
+        final var deferredResults = CURRENT.get();
+        CURRENT.remove();
+        return () -> {
+            if (deferredResults != null) {
+                CURRENT.set(deferredResults);
+            }
+        };
+    }
+
+    /**
+     * See {@link DeferredResults#suspend()}.
+     */
+    @FunctionalInterface
+    public interface Suspension extends AutoCloseable {
+
+        @Override
+        void close();
+
+    }
+
+    /**
+     * @param result an unfinished result
+     * @return the placeholder to be written instead of the result or {@code null} if results can't be deferred on the
+     *         current thread
+     */
+    static String defer(final CompletableFuture<?> result) {
+        final var deferredResults = CURRENT.get();
+        if (deferredResults == null) {
+            return null;
+        }
+        final var placeholder = deferredResults.m_placeholderPrefix + deferredResults.m_results.size();
+        deferredResults.m_results.put(placeholder, result);
+        return placeholder;
+    }
+
+    private String complete(final String response, final ObjectMapper mapper) {
+        try {
+            final var root = mapper.readTree(response);
+            if (root instanceof ArrayNode batch) {
+                batch.forEach(singleResponse -> completeResponse(singleResponse, mapper));
+            } else {
+                completeResponse(root, mapper);
+            }
+            // json-responses are terminated by a newline (as done by jsonrpc4j)
+            return mapper.writeValueAsString(root) + "\n";
+        } catch (IOException e) {
+            throw new CompletionException(e);
+        }
+    }
+
+    private void completeResponse(final JsonNode response, final ObjectMapper mapper) {
+        if (!(response instanceof ObjectNode responseObject) || !responseObject.has("result")) {
+            return;
+        }
+        try {
+            responseObject.set("result", replacePlaceholders(responseObject.get("result"), mapper));
+        } catch (CompletionException e) { // NOSONAR the failure of a result is turned into an error response
+            final var error = JsonRpcServer.resolveError(e.getCause() == null ? e : e.getCause());
+            responseObject.remove("result");
+            final var errorNode = responseObject.putObject("error");
+            errorNode.put("code", error.getCode());
+            errorNode.put("message", error.getMessage());
+            if (error.getData() != null) {
+                errorNode.set("data", mapper.valueToTree(error.getData()));
+            }
+        }
+    }
+
+    private JsonNode replacePlaceholders(final JsonNode node, final ObjectMapper mapper) {
+        if (node.isTextual()) {
+            final var result = m_results.get(node.textValue());
+            return result == null ? node : mapper.valueToTree(result.join());
+        }
+        if (node instanceof ObjectNode objectNode) {
+            final List<String> fieldNames = new ArrayList<>();
+            objectNode.fieldNames().forEachRemaining(fieldNames::add);
+            fieldNames.forEach(name -> objectNode.set(name, replacePlaceholders(objectNode.get(name), mapper)));
+        } else if (node instanceof ArrayNode arrayNode) {
+            for (var i = 0; i < arrayNode.size(); i++) {
+                arrayNode.set(i, replacePlaceholders(arrayNode.get(i), mapper));
+            }
+        }
+        return node;
+    }
+
+}
@@ -0,0 +1,369 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent): created
+ */
+package org.knime.core.webui.data.rpc.json.impl;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.knime.core.node.NodeLogger;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+
+/**
+ * Dispatches json-rpc requests to handler methods via a table of {@link MethodHandle MethodHandles} which is built once
+ * per handler class and mapper (instead of resolving the methods and converting the parameters reflectively on every
+ * call). The parameters are deserialized straight into the typed arguments using pre-resolved {@link ObjectReader
+ * ObjectReaders}, i.e. without creating an intermediate json-tree. The result is serialized completely before the
+ * response is written, such that a failing serialization results in an error response instead of a truncated one.
+ *
+ * Only the common case is dispatched: positional parameters, a single non-void method for the given name and number
+ * of parameters and a request-id. Everything else (named parameters, overloaded methods, notifications, parameters
+ * which can't be deserialized, unknown methods) is rejected such that it can be handled by the generic json-rpc server
+ * (see {@link #handleRequest(byte[], OutputStream)}).
+ *
+ * @author agent
+ *
+ * @noreference This class is not intended to be referenced by clients.
+ *
+ * @since 5.12
+ */
+public final class JsonRpcDispatcher {
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(JsonRpcDispatcher.class);
+
+    private static final Invoker AMBIGUOUS = new Invoker(null, null);
+
+    /**
+     * Handler class -> mapper -> method name -> number of parameters -> invoker.
+     */
+    private static final ClassValue<Map<ObjectMapper, Map<String, Map<Integer, Invoker>>>> INVOKERS =
+        new ClassValue<>() {
+            @Override
+            protected Map<ObjectMapper, Map<String, Map<Integer, Invoker>>> computeValue(final Class<?> type) {
+                return new ConcurrentHashMap<>();
+            }
+        };
+
+    /**
+     * Handler name -> handler and its invokers.
+     */
+    private final Map<String, BoundHandler> m_handlers = new HashMap<>();
+
+    private final ObjectMapper m_mapper;
+
+    private final boolean m_newlineTerminated;
+
+    /**
+     * Creates a dispatcher for a single (unnamed) handler, i.e. the methods are addressed by their name only.
+     *
+     * @param handler the handler
+     * @param mapper the mapper used to deserialize the parameters and to serialize the results
+     */
+    public JsonRpcDispatcher(final Object handler, final ObjectMapper mapper) {
+        this(Map.of("", handler), mapper);
+    }
+
+    /**
+     * Creates a dispatcher for named handlers, i.e. the methods are addressed by {@code <handler-name>.<method-name>}.
+     * The empty handler name refers to an unnamed handler.
+     *
+     * @param handlers the handlers by name
+     * @param mapper the mapper used to deserialize the parameters and to serialize the results
+     */
+    public JsonRpcDispatcher(final Map<String, Object> handlers, final ObjectMapper mapper) {
+        m_mapper = mapper;
+        // json-responses are terminated by a newline (as done by jsonrpc4j)
+        m_newlineTerminated = JsonFactory.FORMAT_NAME_JSON.equals(mapper.getFactory().getFormatName());
+        handlers.forEach((name, handler) -> m_handlers.put(name,
+            new BoundHandler(handler, INVOKERS.get(handler.getClass()).computeIfAbsent(mapper,
+                m -> createInvokers(handler.getClass(), m)))));
+    }
+
+    private static Map<String, Map<Integer, Invoker>> createInvokers(final Class<?> handlerClass,
+        final ObjectMapper mapper) {
+        final Map<String, Map<Integer, Invoker>> invokers = new HashMap<>();
+        for (var method : handlerClass.getMethods()) {
+            if (method.getDeclaringClass() == Object.class || Modifier.isStatic(method.getModifiers())) {
+                continue;
+            }
+            final var invokersByParamCount = invokers.computeIfAbsent(method.getName(), k -> new HashMap<>());
+            final var paramCount = method.getParameterCount();
+            if (invokersByParamCount.containsKey(paramCount) || method.getReturnType() == void.class) {
+                // overloaded or void methods are left to the generic json-rpc server
+                invokersByParamCount.put(paramCount, AMBIGUOUS);
+            } else {
+                invokersByParamCount.put(paramCount, createInvoker(method, mapper));
+            }
+        }
+        return invokers;
+    }
+
+    private static Invoker createInvoker(final Method method, final ObjectMapper mapper) {
+        MethodHandle methodHandle;
+        try {
+            method.trySetAccessible(); // NOSONAR
+            methodHandle = MethodHandles.lookup().unreflect(method);
+        } catch (IllegalAccessException e) { // NOSONAR
+            LOGGER.debug("Method '" + method + "' can't be accessed via method handle.");
+            return AMBIGUOUS;
+        }
+        final var paramCount = method.getParameterCount();
+        methodHandle = methodHandle.asSpreader(Object[].class, paramCount) //
+            .asType(MethodType.methodType(Object.class, Object.class, Object[].class));
+        final var readers = new ObjectReader[paramCount];
+        final var paramTypes = method.getGenericParameterTypes();
+        for (var i = 0; i < paramCount; i++) {
+            readers[i] = mapper.readerFor(mapper.getTypeFactory().constructType(paramTypes[i]));
+        }
+        return new Invoker(methodHandle, readers);
+    }
+
+    /**
+     * Dispatches the given request if possible.
+     *
+     * @param request the json-rpc request
+     * @param out the output stream the response is written to; nothing is written if the request is not dispatched
+     * @return {@code true} if the request has been dispatched, {@code false} if it needs to be handled by the generic
+     *         json-rpc server
+     * @throws IOException if the response couldn't be written
+     */
+    public boolean handleRequest(final byte[] request, final OutputStream out) throws IOException {
+        final ParsedRequest parsedRequest;
+        try {
+            parsedRequest = parseRequest(request);
+        } catch (IOException e) { // NOSONAR
+            return false;
+        }
+        if (parsedRequest == null) {
+            return false;
+        }
+        final var handler = getHandler(parsedRequest.method);
+        if (handler == null) {
+            return false;
+        }
+        final var invokersByParamCount = handler.invokers().get(getMethodName(parsedRequest.method));
+        if (invokersByParamCount == null) {
+            return false;
+        }
+        final var paramCount = countParams(parsedRequest.params);
+        final var invoker = paramCount < 0 ? null : invokersByParamCount.get(paramCount);
+        if (invoker == null || invoker == AMBIGUOUS) {
+            return false;
+        }
+        final Object[] args;
+        try {
+            args = invoker.readArguments(parsedRequest.params, m_mapper);
+        } catch (IOException e) { // NOSONAR
+            return false;
+        }
+        Object result;
+        try {
+            result = invoker.m_methodHandle.invokeExact(handler.handler(), args);
+        } catch (Throwable t) { // NOSONAR any exception thrown by the handler method is turned into an error response
+            writeErrorResponse(parsedRequest.id, t, out);
+            return true;
+        }
+        writeResultResponse(parsedRequest.id, result, out);
+        return true;
+    }
+
+    private BoundHandler getHandler(final String method) {
+        final var separatorIndex = method.lastIndexOf('.');
+        return m_handlers.get(separatorIndex < 0 ? "" : method.substring(0, separatorIndex));
+    }
+
+    private static String getMethodName(final String method) {
+        return method.substring(method.lastIndexOf('.') + 1);
+    }
+
+    private ParsedRequest parseRequest(final byte[] request) throws IOException {
+        try (var parser = m_mapper.createParser(request)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return null;
+            }
+            String method = null;
+            JsonNode id = null;
+            TokenBuffer params = null;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                final var fieldName = parser.getCurrentName();
+                parser.nextToken();
+                switch (fieldName) {
+                    case "method" -> method = parser.getValueAsString();
+                    case "id" -> id = m_mapper.readTree(parser);
+                    case "params" -> {
+                        // the params are buffered as tokens since the method might not be known yet
+                        params = new TokenBuffer(parser);
+                        params.copyCurrentStructure(parser);
+                    }
+                    default -> parser.skipChildren();
+                }
+            }
+            if (method == null || id == null || id.isNull()) {
+                return null;
+            }
+            return new ParsedRequest(method, id, params);
+        }
+    }
+
+    /**
+     * @return the number of positional parameters or -1 if the parameters are not given as an array
+     */
+    private static int countParams(final TokenBuffer params) throws IOException {
+        if (params == null) {
+            return 0;
+        }
+        try (var parser = params.asParser()) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                return -1;
+            }
+            var count = 0;
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                parser.skipChildren();
+                count++;
+            }
+            return count;
+        }
+    }
+
+    private void writeResultResponse(final JsonNode id, final Object result, final OutputStream out)
+        throws IOException {
+        final var serializedResult = new TokenBuffer(m_mapper, false);
+        try {
+            m_mapper.writeValue(serializedResult, result);
+        } catch (IOException | RuntimeException e) { // NOSONAR a result that can't be serialized is an error response
+            writeErrorResponse(id, e, out);
+            return;
+        }
+        final var generator = m_mapper.createGenerator(out);
+        generator.writeStartObject();
+        generator.writeStringField("jsonrpc", "2.0");
+        generator.writeFieldName("id");
+        generator.writeTree(id);
+        generator.writeFieldName("result");
+        serializedResult.serialize(generator);
+        generator.writeEndObject();
+        generator.flush();
+        terminate(out);
+    }
+
+    private void writeErrorResponse(final JsonNode id, final Throwable t, final OutputStream out) throws IOException {
+        final var error = JsonRpcServer.resolveError(t);
+        final var generator = m_mapper.createGenerator(out);
+        generator.writeStartObject();
+        generator.writeStringField("jsonrpc", "2.0");
+        generator.writeFieldName("id");
+        generator.writeTree(id);
+        generator.writeObjectFieldStart("error");
+        generator.writeNumberField("code", error.getCode());
+        generator.writeStringField("message", error.getMessage());
+        if (error.getData() != null) {
+            generator.writeObjectField("data", error.getData());
+        }
+        generator.writeEndObject();
+        generator.writeEndObject();
+        generator.flush();
+        terminate(out);
+    }
+
+    private void terminate(final OutputStream out) throws IOException {
+        if (m_newlineTerminated) {
+            out.write('\n');
+        }
+        out.flush();
+    }
+
+    private record ParsedRequest(String method, JsonNode id, TokenBuffer params) {
+    }
+
+    private record BoundHandler(Object handler, Map<String, Map<Integer, Invoker>> invokers) {
+    }
+
+    private static final class Invoker {
+
+        private final MethodHandle m_methodHandle;
+
+        private final ObjectReader[] m_readers;
+
+        Invoker(final MethodHandle methodHandle, final ObjectReader[] readers) {
+            m_methodHandle = methodHandle;
+            m_readers = readers;
+        }
+
+        Object[] readArguments(final TokenBuffer params, final ObjectMapper mapper) throws IOException {
+            final var args = new Object[m_readers.length];
+            if (params == null) {
+                return args;
+            }
+            try (JsonParser parser = params.asParser(mapper)) {
+                parser.nextToken(); // start array
+                for (var i = 0; i < m_readers.length; i++) {
+                    parser.nextToken();
+                    args[i] = m_readers[i].readValue(parser);
+                }
+            }
+            return args;
+        }
+
+    }
+
+}
@@ -0,0 +1,149 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent): created
+ */
+package org.knime.core.webui.data.rpc.json.impl;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+import com.fasterxml.jackson.core.JsonFactory;
+
+/**
+ * The encodings a JSON-RPC request and response can be framed in. The structure of the requests and responses is the
+ * same for all encodings - only the data format differs. The binary encodings (Smile and CBOR) are only available if
+ * the respective jackson data format bundle is installed (see {@link #isAvailable()}); otherwise clients need to fall
+ * back to {@link #JSON}.
+ *
+ * @author agent
+ *
+ * @noreference This enum is not intended to be referenced by clients.
+ *
+ * @since 5.12
+ */
+public enum JsonRpcEncoding {
+
+        /**
+         * Plain (UTF-8 encoded) json - the default.
+         */
+        JSON("application/json", JsonFactory.class.getName()),
+
+        /**
+         * Jackson's binary json format Smile.
+         */
+        SMILE("application/x-jackson-smile", "com.fasterxml.jackson.dataformat.smile.SmileFactory"),
+
+        /**
+         * Concise Binary Object Representation (RFC 8949).
+         */
+        CBOR("application/cbor", "com.fasterxml.jackson.dataformat.cbor.CBORFactory");
+
+    private final String m_mediaType;
+
+    private final String m_factoryClassName;
+
+    JsonRpcEncoding(final String mediaType, final String factoryClassName) {
+        m_mediaType = mediaType;
+        m_factoryClassName = factoryClassName;
+    }
+
+    /**
+     * @return the media type (aka mime type) identifying the encoding
+     */
+    public String getMediaType() {
+        return m_mediaType;
+    }
+
+    /**
+     * @return whether the encoding can be used, i.e. whether the respective jackson data format is available
+     */
+    public boolean isAvailable() {
+        try {
+            loadFactoryClass();
+            return true;
+        } catch (ClassNotFoundException | LinkageError e) { // NOSONAR
+            return false;
+        }
+    }
+
+    /**
+     * @return a new json factory for the encoding
+     * @throws UnsupportedOperationException if the encoding is not available
+     */
+    JsonFactory createFactory() {
+        try {
+            return (JsonFactory)loadFactoryClass().getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError e) {
+            throw new UnsupportedOperationException("The encoding '" + m_mediaType + "' is not available.", e);
+        }
+    }
+
+    private Class<?> loadFactoryClass() throws ClassNotFoundException {
+        // the binary data formats are optional dependencies - hence they are loaded reflectively
+        return Class.forName(m_factoryClassName, true, JsonRpcEncoding.class.getClassLoader());
+    }
+
+    /**
+     * Determines the encoding for the given media type, e.g., as requested by a frontend.
+     *
+     * @param mediaType the media type, possibly with parameters (e.g. {@code application/json; charset=utf-8}); can be
+     *            {@code null}
+     * @return the matching encoding if it's available, {@link #JSON} otherwise
+     */
+    public static JsonRpcEncoding fromMediaType(final String mediaType) {
+        if (mediaType == null) {
+            return JSON;
+        }
+        final var type = mediaType.split(";", 2)[0].trim().toLowerCase(Locale.ROOT);
+        return Arrays.stream(values()) //
+            .filter(e -> e.m_mediaType.equals(type)) //
+            .filter(JsonRpcEncoding::isAvailable) //
+            .findFirst() //
+            .orElse(JSON);
+    }
+
+}
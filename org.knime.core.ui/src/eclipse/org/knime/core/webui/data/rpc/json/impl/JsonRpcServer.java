@@ -59,6 +59,7 @@ import java.util.Map;
 import org.knime.core.node.util.CheckUtils;
 import org.knime.core.webui.data.DataServiceException;
 import org.knime.core.webui.data.rpc.RpcServer;
+import org.knime.core.webui.data.rpc.json.impl.CompletionStageSerializer.AsyncResultException;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.googlecode.jsonrpc4j.ErrorResolver.JsonError;
@@ -108,9 +109,33 @@ public class JsonRpcServer implements RpcServer {
     public JsonRpcServer(final ObjectMapper mapper) {
         CheckUtils.checkNotNull(mapper, "Object mapper passed to JSON-RPC server must not be null.");
         m_jsonRpcServer = new JsonRpcMultiServer(mapper);
-        m_jsonRpcServer.setErrorResolver((t, method, arguments) -> t instanceof DataServiceException
-            ? new JsonError(USER_ERROR_CODE, t.getMessage(), new JsonRpcUserErrorData((DataServiceException)t))
-            : new JsonError(INTERNAL_ERROR_CODE, t.getMessage(), new JsonRpcInternalErrorData(t)));
+        m_jsonRpcServer.setErrorResolver((t, method, arguments) -> resolveError(t));
+    }
+
+    /**
+     * Turns an exception thrown by a handler method into a json-rpc error. The exception might have been thrown
+     * asynchronously, i.e. when completing the future returned by the handler method.
+     *
+     * @param t the exception thrown
+     * @return the json-rpc error
+     */
+    static JsonError resolveError(final Throwable t) {
+        final var cause = unwrapAsyncResultException(t);
+        return cause instanceof DataServiceException dse
+            ? new JsonError(USER_ERROR_CODE, dse.getMessage(), new JsonRpcUserErrorData(dse))
+            : new JsonError(INTERNAL_ERROR_CODE, cause.getMessage(), new JsonRpcInternalErrorData(cause));
+    }
+
+    private static Throwable unwrapAsyncResultException(final Throwable t) {
+        // the exception thrown by the serializer is wrapped by jackson (potentially multiple times)
+        var cause = t;
+        while (cause != null) {
+            if (cause instanceof AsyncResultException) {
+                return cause.getCause();
+            }
+            cause = cause.getCause();
+        }
+        return t;
     }
 
     /**
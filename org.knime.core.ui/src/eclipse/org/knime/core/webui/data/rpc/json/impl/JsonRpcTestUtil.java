@@ -51,6 +51,8 @@ package org.knime.core.webui.data.rpc.json.impl;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.charset.StandardCharsets;
 
 import org.knime.core.util.Pair;
@@ -154,5 +156,11 @@ public final class JsonRpcTestUtil {
             }
         }
 
+        @Override
+        public void sendAndReceive(final InputStream rpc, final OutputStream response) throws IOException {
+            m_server.handleRequest(rpc, response);
+            response.flush();
+        }
+
     }
 }
@@ -1,7 +1,11 @@
 package org.knime.core.webui.data.rpc.json.impl;
 
+import java.util.EnumMap;
+import java.util.Map;
+
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
 import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
 
 /**
@@ -26,6 +30,10 @@ public final class ObjectMapperUtil {
 
     private ObjectMapper m_mapper = null;
 
+    private final Map<JsonRpcEncoding, ObjectMapper> m_encodingMappers = new EnumMap<>(JsonRpcEncoding.class);
+
+    private final Map<JsonRpcEncoding, ObjectMapper> m_rpcMappers = new EnumMap<>(JsonRpcEncoding.class);
+
     private ObjectMapperUtil() {
         //utility class
     }
@@ -47,6 +55,44 @@ public final class ObjectMapperUtil {
         return m_mapper;
     }
 
+    /**
+     * Returns the shared object mapper for the given encoding. The mappers for all the encodings are configured the
+     * same way, i.e. they only differ in the data format they read and write.
+     *
+     * @param encoding the encoding
+     * @return an object mapper
+     * @throws UnsupportedOperationException if the given encoding is not available
+     * @since 5.12
+     */
+    public synchronized ObjectMapper getObjectMapper(final JsonRpcEncoding encoding) {
+        if (encoding == JsonRpcEncoding.JSON) {
+            return getObjectMapper();
+        }
+        return m_encodingMappers.computeIfAbsent(encoding, e -> {
+            var mapper = new ObjectMapper(e.createFactory());
+            configureObjectMapper(mapper);
+            return mapper;
+        });
+    }
+
+    /**
+     * Returns the shared object mapper used by the rpc servers for the given encoding. In addition to the
+     * {@link #getObjectMapper(JsonRpcEncoding) mapper of the encoding}, it serializes the value of
+     * {@link java.util.concurrent.CompletionStage CompletionStages} returned by handler methods.
+     *
+     * @param encoding the encoding
+     * @return an object mapper
+     * @throws UnsupportedOperationException if the given encoding is not available
+     * @since 5.12
+     */
+    public synchronized ObjectMapper getRpcObjectMapper(final JsonRpcEncoding encoding) {
+        return m_rpcMappers.computeIfAbsent(encoding, e -> {
+            var mapper = getObjectMapper(e).copy();
+            mapper.registerModule(new SimpleModule().addSerializer(new CompletionStageSerializer()));
+            return mapper;
+        });
+    }
+
     private static ObjectMapper createObjectMapper() {
         var mapper = new ObjectMapper();
         configureObjectMapper(mapper);
@@ -48,10 +48,16 @@
  */
 package org.knime.core.webui.node;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Collections;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.WeakHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.stream.Stream;
 
@@ -61,21 +67,38 @@ import org.knime.core.webui.data.DataServiceProvider;
 import org.knime.core.webui.data.DisposeDataServicesOnNodeStateChange;
 import org.knime.core.webui.data.InitialDataService;
 import org.knime.core.webui.data.RpcDataService;
+import org.knime.core.webui.data.rpc.json.impl.JsonRpcEncoding;
 import org.knime.core.webui.node.util.NodeCleanUpCallback;
 
 /**
- * Manages data service instances created by {@link DataServiceProvider}-implementations.
+ * Manages data service instances created by {@link DataServiceProvider}-implementations. This class is thread-safe;
+ * concurrent requests for a data service which doesn't exist yet result in a single data service instance.
  *
  * @author Martin Horn, KNIME GmbH, Konstanz, Germany
  * @param <N> the node wrapper this manager operates on
  */
 public final class DataServiceManager<N extends NodeWrapper> {
 
-    private final Map<N, InitialDataService<Object>> m_initialDataServices = new WeakHashMap<>();
+    /*
+     * The data service maps are accessed concurrently (e.g. initial data and first rpc request being received at the
+     * same time) - hence they're synchronized. They need to remain weak-keyed maps based on equality (rather than
+     * identity), though.
+     */
+    private final Map<N, InitialDataService<Object>> m_initialDataServices =
+        Collections.synchronizedMap(new WeakHashMap<>());
+
+    private final Map<N, RpcDataService> m_dataServices = Collections.synchronizedMap(new WeakHashMap<>());
 
-    private final Map<N, RpcDataService> m_dataServices = new WeakHashMap<>();
+    private final Map<N, ApplyDataService<Object>> m_applyDataServices =
+        Collections.synchronizedMap(new WeakHashMap<>());
 
-    private final Map<N, ApplyDataService<Object>> m_applyDataServices = new WeakHashMap<>();
+    /**
+     * Data service creations in progress, keyed by the node wrapper and the map the created data service is put into.
+     * Concurrent requests for a data service that is being created wait for (and share) the result of the creation
+     * instead of creating (and registering clean-up callbacks for) another data service instance.
+     */
+    private final Map<PendingCreationKey, CompletableFuture<Optional<? extends DataService>>> m_pendingCreations =
+        new ConcurrentHashMap<>();
 
     private final Function<N, DataServiceProvider> m_getDataServiceProvider;
 
@@ -153,6 +176,72 @@ public final class DataServiceManager<N extends NodeWrapper> {
         }
     }
 
+    /**
+     * Helper to call the {@link RpcDataService} asynchronously (see
+     * {@link RpcDataService#handleRpcRequestAsync(String)}).
+     *
+     * @param nodeWrapper the node to call the data service for
+     * @param request the data service request
+     * @return a future of the data service response
+     * @throws IllegalStateException if there is no text data service
+     * @since 5.12
+     */
+    public CompletableFuture<String> callRpcDataServiceAsync(final N nodeWrapper, final String request) {
+        var service = getRpcDataService(nodeWrapper).filter(RpcDataService.class::isInstance).orElse(null);
+        if (service != null) {
+            return service.handleRpcRequestAsync(request);
+        } else {
+            throw new IllegalStateException(String.format("No rpc data service available: %s; \nRequest: %s",
+                wrapperToString(nodeWrapper), request));
+        }
+    }
+
+    /**
+     * Helper to call the {@link RpcDataService} and to directly write the response into the given output stream (see
+     * {@link RpcDataService#handleRpcRequest(String, OutputStream)}).
+     *
+     * @param nodeWrapper the node to call the data service for
+     * @param request the data service request
+     * @param out the stream the data service response is written to (UTF-8 encoded)
+     * @throws IOException if the response couldn't be written
+     * @throws IllegalStateException if there is no text data service
+     * @since 5.12
+     */
+    public void callRpcDataService(final N nodeWrapper, final String request, final OutputStream out)
+        throws IOException {
+        var service = getRpcDataService(nodeWrapper).filter(RpcDataService.class::isInstance).orElse(null);
+        if (service != null) {
+            service.handleRpcRequest(request, out);
+        } else {
+            throw new IllegalStateException(String.format("No rpc data service available: %s; \nRequest: %s",
+                wrapperToString(nodeWrapper), request));
+        }
+    }
+
+    /**
+     * Helper to call the {@link RpcDataService} with a request (and response) framed in the given encoding (see
+     * {@link RpcDataService#handleRpcRequest(byte[], JsonRpcEncoding, OutputStream)}). The encoding is usually
+     * negotiated with the frontend via {@link JsonRpcEncoding#fromMediaType(String)}.
+     *
+     * @param nodeWrapper the node to call the data service for
+     * @param request the encoded data service request
+     * @param encoding the encoding of the request and response
+     * @param out the stream the encoded data service response is written to
+     * @throws IOException if the response couldn't be written
+     * @throws IllegalStateException if there is no text data service
+     * @since 5.12
+     */
+    public void callRpcDataService(final N nodeWrapper, final byte[] request, final JsonRpcEncoding encoding,
+        final OutputStream out) throws IOException {
+        var service = getRpcDataService(nodeWrapper).filter(RpcDataService.class::isInstance).orElse(null);
+        if (service != null) {
+            service.handleRpcRequest(request, encoding, out);
+        } else {
+            throw new IllegalStateException(String.format("No rpc data service available: %s; \nEncoding: %s",
+                wrapperToString(nodeWrapper), encoding.getMediaType()));
+        }
+    }
+
     private static String wrapperToString(final NodeWrapper nodeWrapper) {
         if (nodeWrapper instanceof NodePortWrapper portWrapper) {
             return String.format("Node %s; port %s; view index %s", portWrapper.get(), portWrapper.getPortIdx(),
@@ -191,30 +280,86 @@ public final class DataServiceManager<N extends NodeWrapper> {
         return getOrCreateDataService(nodeWrapper, m_applyDataServices, DataServiceProvider::createApplyDataService);
     }
 
+    @SuppressWarnings("unchecked")
     private <S extends DataService> Optional<S> getOrCreateDataService(final N nodeWrapper,
         final Map<N, S> dataServices, final Function<DataServiceProvider, Optional<S>> createNewService) {
-        if (!dataServices.containsKey(nodeWrapper)) {
-            final var dataServiceCreationResult = nodeWrapper.getWithContext(() -> {
-                var dataServiceProvider = m_getDataServiceProvider.apply(nodeWrapper);
-                return new DataServiceCreationResult<>(createNewService.apply(dataServiceProvider),
-                    dataServiceProvider instanceof DisposeDataServicesOnNodeStateChange);
-            });
-            dataServiceCreationResult.dataService().ifPresent(dataService -> {
-                dataServices.put(nodeWrapper, dataService);
-                NodeCleanUpCallback.builder(nodeWrapper.get(), () -> {
-                    final var removedDataService = dataServices.remove(nodeWrapper);
-                    if (removedDataService != null) {
-                        removedDataService.disposeRunnable().ifPresent(Runnable::run);
-                    }
-
-                }).cleanUpOnNodeStateChange(dataServiceCreationResult.disposeOnNodeStateChange).build();
-            });
-            return dataServiceCreationResult.dataService();
-        } else {
-            return Optional.of(dataServices.get(nodeWrapper));
+        var dataService = dataServices.get(nodeWrapper);
+        if (dataService != null) {
+            return Optional.of(dataService);
+        }
+        final var key = new PendingCreationKey(nodeWrapper, dataServices);
+        final var creation = new CompletableFuture<Optional<? extends DataService>>();
+        final var pendingCreation = m_pendingCreations.putIfAbsent(key, creation);
+        if (pendingCreation != null) {
+            return (Optional<S>)awaitCreation(pendingCreation);
+        }
+        try {
+            final var result = createDataService(nodeWrapper, dataServices, createNewService);
+            creation.complete(result);
+            return result;
+        } catch (RuntimeException e) {
+            creation.completeExceptionally(e);
+            throw e;
+        } finally {
+            m_pendingCreations.remove(key, creation);
         }
     }
 
+    private static Optional<? extends DataService>
+        awaitCreation(final CompletableFuture<Optional<? extends DataService>> pendingCreation) {
+        try {
+            return pendingCreation.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException re) {
+                throw re;
+            }
+            throw e;
+        }
+    }
+
+    private <S extends DataService> Optional<S> createDataService(final N nodeWrapper, final Map<N, S> dataServices,
+        final Function<DataServiceProvider, Optional<S>> createNewService) {
+        // another thread might have completed the creation in the meantime
+        final var existingDataService = dataServices.get(nodeWrapper);
+        if (existingDataService != null) {
+            return Optional.of(existingDataService);
+        }
+        final var dataServiceCreationResult = nodeWrapper.getWithContext(() -> {
+            var dataServiceProvider = m_getDataServiceProvider.apply(nodeWrapper);
+            return new DataServiceCreationResult<>(createNewService.apply(dataServiceProvider),
+                dataServiceProvider instanceof DisposeDataServicesOnNodeStateChange);
+        });
+        dataServiceCreationResult.dataService().ifPresent(dataService -> {
+            dataServices.put(nodeWrapper, dataService);
+            NodeCleanUpCallback.builder(nodeWrapper.get(), () -> {
+                final var removedDataService = dataServices.remove(nodeWrapper);
+                if (removedDataService != null) {
+                    removedDataService.disposeRunnable().ifPresent(Runnable::run);
+                }
+
+            }).cleanUpOnNodeStateChange(dataServiceCreationResult.disposeOnNodeStateChange).build();
+        });
+        return dataServiceCreationResult.dataService();
+    }
+
+    /*
+     * The data service map is compared by identity since there is one map per data service type.
+     */
+    private record PendingCreationKey(NodeWrapper nodeWrapper, Map<?, ?> dataServices) {
+
+        @Override
+        public boolean equals(final Object obj) {
+            return obj instanceof PendingCreationKey other && nodeWrapper.equals(other.nodeWrapper)
+                && dataServices == other.dataServices;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * nodeWrapper.hashCode() + System.identityHashCode(dataServices);
+        }
+
+    }
+
     private static record DataServiceCreationResult<S extends DataService>(Optional<S> dataService,
         boolean disposeOnNodeStateChange) {
     }
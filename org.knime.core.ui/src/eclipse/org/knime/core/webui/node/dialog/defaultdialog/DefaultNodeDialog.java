@@ -207,6 +207,7 @@ public final class DefaultNodeDialog implements NodeDialog, DefaultNodeDialogUIE
 
         return Optional.of( //
             serviceBuilder //
+                .precompiledDispatch() //
                 .onDeactivate(m_serviceRegistry::onDeactivateRpc) //
                 .build() //
         );
@@ -51,12 +51,19 @@ package org.knime.core.webui.node.dialog.defaultdialog;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 import org.knime.core.node.util.CheckUtils;
+import org.knime.core.node.workflow.NodeContext;
 import org.knime.core.util.Pair;
+import org.knime.core.util.ThreadUtils;
 import org.knime.core.webui.data.rpc.json.impl.ObjectMapperUtil;
 import org.knime.core.webui.node.dialog.SettingsType;
+import org.knime.core.webui.node.dialog.defaultdialog.dataservice.DialogRequestExecutor;
 import org.knime.core.webui.node.dialog.defaultdialog.dataservice.NodeDialogServiceRegistry;
 import org.knime.core.webui.node.dialog.defaultdialog.jsonforms.JsonFormsDataUtil;
 import org.knime.core.webui.node.dialog.defaultdialog.jsonforms.JsonFormsScopeUtil;
@@ -72,6 +79,7 @@ import org.knime.core.webui.node.dialog.defaultdialog.util.updates.TriggerAndDep
 import org.knime.core.webui.node.dialog.defaultdialog.util.updates.TriggerAndDependencies.TriggerResolutionTime;
 import org.knime.core.webui.node.dialog.defaultdialog.util.updates.TriggerInvocationHandler;
 import org.knime.core.webui.node.dialog.defaultdialog.util.updates.WidgetTreesToDependencyTreeUtil;
+import org.knime.core.webui.node.dialog.defaultdialog.widget.handler.RequestErrorContext;
 import org.knime.core.webui.node.dialog.defaultdialog.widgettree.WidgetTreeFactory;
 import org.knime.node.parameters.NodeParameters;
 import org.knime.node.parameters.NodeParametersInput;
@@ -82,6 +90,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 
 /**
  * Utility class to resolve updates given by {@link StateProvider}s
@@ -261,8 +270,8 @@ public final class UpdatesUtil {
     private static void addInitialUpdates(final ObjectNode rootNode,
         final TriggerAndDependencies triggerWithDependencies, final TriggerInvocationHandler<Integer> invocationHandler,
         final ObjectNode jsonData, final NodeParametersInput context, final NodeDialogServiceRegistry serviceRegistry) {
-        final var updateResults =
-            getUpdateResults(triggerWithDependencies, invocationHandler, jsonData, context, serviceRegistry);
+        final var updateResults = getUpdateResults(triggerWithDependencies, invocationHandler, jsonData, context,
+            serviceRegistry, InitialUpdatesExecutor.get());
 
         final var initialUpdates = rootNode.putArray("initialUpdates");
         updateResults.toList().forEach(updateResult -> addInitialUpdate(updateResult, initialUpdates));
@@ -271,12 +280,68 @@ public final class UpdatesUtil {
     private static UpdateResults<Integer> getUpdateResults(final TriggerAndDependencies triggerWithDependencies,
         final TriggerInvocationHandler<Integer> invocationHandler, final ObjectNode jsonData,
         final NodeParametersInput context, final NodeDialogServiceRegistry serviceRegistry) {
+        return getUpdateResults(triggerWithDependencies, invocationHandler, jsonData, context, serviceRegistry, null);
+    }
+
+    private static UpdateResults<Integer> getUpdateResults(final TriggerAndDependencies triggerWithDependencies,
+        final TriggerInvocationHandler<Integer> invocationHandler, final ObjectNode jsonData,
+        final NodeParametersInput context, final NodeDialogServiceRegistry serviceRegistry, final Executor executor) {
         final var dependencyValues = triggerWithDependencies.extractDependencyValues(jsonData);
-        final var triggerResult =
-            invocationHandler.invokeTrigger(triggerWithDependencies.getTrigger(), dependencyValues::get, context);
+        final var triggerResult = invocationHandler.invokeTrigger(triggerWithDependencies.getTrigger(),
+            dependencyValues::get, context, executor);
         return UpdateResultsUtil.toUpdateResults(triggerResult, serviceRegistry);
     }
 
+    /**
+     * Runs the state providers of the initial updates that do not depend on each other concurrently, since some of
+     * them (e.g. domain lookups or file system listings) are slow. The tasks keep the {@link NodeContext} and the
+     * {@link RequestErrorContext} of the thread opening the dialog.
+     *
+     * The tasks run on their own threads and not on the ones of the {@link DialogRequestExecutor}: the initial updates
+     * are themselves computed within a dialog request, which must not wait for tasks queued behind it.
+     *
+     * The thread computing the initial updates waits for these tasks. A state provider might itself compute initial
+     * updates (e.g. the one of dynamic parameters), so the initial updates requested from within such a task are
+     * computed on the calling thread. Otherwise all threads could end up waiting for tasks that are never started.
+     */
+    private static final class InitialUpdatesExecutor {
+
+        private static final int MAX_THREADS =
+            Math.max(2, Math.min(8, Runtime.getRuntime().availableProcessors()));
+
+        private static final Executor EXECUTOR = createExecutor();
+
+        private static final ThreadLocal<Boolean> IS_RUNNING_TASK = ThreadLocal.withInitial(() -> Boolean.FALSE);
+
+        private static Executor createExecutor() {
+            final var pool = new ThreadPoolExecutor(MAX_THREADS, MAX_THREADS, 60, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(),
+                new ThreadFactoryBuilder().setNameFormat("KNIME-Dialog-InitialUpdates-%d").setDaemon(true).build());
+            pool.allowCoreThreadTimeOut(true);
+            return task -> pool.execute(
+                ThreadUtils.runnableWithContext(RequestErrorContext.propagate(markAsRunningTask(task))));
+        }
+
+        private static Runnable markAsRunningTask(final Runnable task) {
+            return () -> {
+                IS_RUNNING_TASK.set(Boolean.TRUE);
+                try {
+                    task.run();
+                } finally {
+                    IS_RUNNING_TASK.remove();
+                }
+            };
+        }
+
+        /**
+         * @return the executor or {@code null} if called from within one of its tasks
+         */
+        static Executor get() {
+            return IS_RUNNING_TASK.get().booleanValue() ? null : EXECUTOR;
+        }
+
+    }
+
     private static void addInitialUpdate(final UpdateResult updateResult, final ArrayNode initialUpdates) {
         initialUpdates.add(getMapper().valueToTree(updateResult));
     }
@@ -62,7 +62,6 @@ import org.knime.core.webui.node.dialog.defaultdialog.dataservice.Result;
 import org.knime.core.webui.node.dialog.defaultdialog.dataservice.Trigger;
 import org.knime.core.webui.node.dialog.defaultdialog.jsonforms.renderers.DialogElementRendererSpec;
 import org.knime.core.webui.node.dialog.defaultdialog.util.updates.IndexedValue;
-import org.knime.core.webui.node.dialog.defaultdialog.widget.handler.ErrorHandlingSingleton;
 import org.knime.node.parameters.NodeParametersInput;
 
 /**
@@ -101,7 +100,6 @@ public class SubNodeContainerDialogSettingsUpdateService implements DialogSettin
     @Override
     public Result<?> update2(final String widgetId, final Trigger trigger,
         final Map<String, List<IndexedValue<String>>> rawDependencies) throws InterruptedException, ExecutionException {
-        ErrorHandlingSingleton.reset();
         final var triggerInvocationHandler = getTriggerInvocationHandler();
         return m_requestHandler.handleRequest(widgetId,
             () -> triggerInvocationHandler.trigger(trigger, rawDependencies));
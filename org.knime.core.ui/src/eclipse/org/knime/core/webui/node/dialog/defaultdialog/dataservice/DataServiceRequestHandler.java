@@ -53,50 +53,253 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
 
-import org.knime.core.node.KNIMEConstants;
 import org.knime.core.node.NodeLogger;
-import org.knime.core.webui.node.dialog.defaultdialog.widget.handler.ErrorHandlingSingleton;
+import org.knime.core.util.ThreadUtils;
+import org.knime.core.webui.node.dialog.defaultdialog.dataservice.DialogRequestExecutor.Priority;
+import org.knime.core.webui.node.dialog.defaultdialog.widget.handler.RequestErrorContext;
 import org.knime.core.webui.node.dialog.defaultdialog.widget.handler.WidgetHandlerException;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
 /**
  * This class is responsible for handling the threads of the dialogs data service. Every widget should use one thread so
  * that pending requests are canceled by subsequent requests. Furthermore this class wraps the results returned from the
- * various callables in a {@link Result}.
+ * various callables in a {@link Result}. The callables are computed on the {@link DialogRequestExecutor}, with at most
+ * a limited number of requests of this handler running at once.
+ *
+ * <p>
+ * Requests that are sent in rapid succession (e.g. value triggers while the user is typing) can be handled via
+ * {@link #handleDebouncedRequest(String, Callable)}. Requests with the same key are then coalesced and superseded
+ * computations are canceled.
  *
  * @author Paul Bärnreuther
  */
 public class DataServiceRequestHandler {
+
+    /**
+     * The time window within which debounced requests with the same key are coalesced.
+     */
+    static final long DEBOUNCE_WINDOW_MILLIS = 100;
+
     private final Map<String, Future<?>> m_pendingRequests = new HashMap<>();
 
+    private final Map<String, DebouncedRequest> m_latestDebouncedRequests = new HashMap<>();
+
+    private long m_debouncedRequestCounter;
+
+    private final DialogRequestExecutor.DialogRequestQueue m_requestQueue =
+        DialogRequestExecutor.getInstance().createDialogQueue();
+
     private static final NodeLogger LOGGER = NodeLogger.getLogger(DataServiceRequestHandler.class);
 
+    private final LongSupplier m_nanoClock;
+
+    private final DebounceScheduler m_debounceScheduler;
+
+    private record DebouncedRequest(long id, long arrivalNanos) {
+    }
+
+    /**
+     * Starts debounced requests once their window has passed.
+     */
+    @FunctionalInterface
+    interface DebounceScheduler {
+
+        /**
+         * @param start starting the request; it is cheap and does not block
+         * @param delayNanos the delay after which to run it
+         */
+        void schedule(Runnable start, long delayNanos);
+
+    }
+
+    private static final class DebounceSchedulerHolder {
+
+        private static final ScheduledExecutorService SCHEDULER = createScheduler();
+
+        private static ScheduledExecutorService createScheduler() {
+            final var scheduler = new ScheduledThreadPoolExecutor(1,
+                new ThreadFactoryBuilder().setNameFormat("KNIME-DialogRequest-Debounce-%d").setDaemon(true).build());
+            scheduler.setRemoveOnCancelPolicy(true);
+            return scheduler;
+        }
+
+        private DebounceSchedulerHolder() {
+        }
+    }
+
+    /**
+     * Creates a new request handler.
+     */
+    public DataServiceRequestHandler() {
+        this(System::nanoTime,
+            (start, delayNanos) -> DebounceSchedulerHolder.SCHEDULER.schedule(start, delayNanos, TimeUnit.NANOSECONDS));
+    }
+
+    /**
+     * @param nanoClock the clock debounce windows are measured with
+     * @param debounceScheduler starting debounced requests after their window has passed
+     */
+    DataServiceRequestHandler(final LongSupplier nanoClock, final DebounceScheduler debounceScheduler) {
+        m_nanoClock = nanoClock;
+        m_debounceScheduler = debounceScheduler;
+    }
+
     @SuppressWarnings("javadoc")
     public <T> Result<T>
         handleRequest(final String widgetId, final Callable<T> callback)
         throws InterruptedException, ExecutionException {
-        final var future = KNIMEConstants.GLOBAL_THREAD_POOL.enqueue(callback);
-        return handleRequestFuture(widgetId, future);
+        return handleRequest(widgetId, Priority.INTERACTIVE, callback);
     }
 
-    <T> Result<T> handleRequestFuture(final Future<T> future) throws InterruptedException, ExecutionException {
-        return handleRequestFuture(null, future);
+    /**
+     * Same as {@link #handleRequest(String, Callable)} but with a different priority than
+     * {@link Priority#INTERACTIVE}.
+     *
+     * @param widgetId identifying which pending requests have to be canceled (may be {@code null})
+     * @param priority of the request
+     * @param callback the computation of the request
+     * @return the result
+     * @throws InterruptedException if the calling thread is interrupted
+     * @throws ExecutionException if the computation failed with an unexpected exception
+     */
+    public <T> Result<T> handleRequest(final String widgetId, final Priority priority, final Callable<T> callback)
+        throws InterruptedException, ExecutionException {
+        final var errorContext = new RequestErrorContext();
+        final var future = m_requestQueue.submit(priority, errorContext.wrap(callback));
+        if (widgetId != null) {
+            synchronized (this) {
+                cancelPendingRequest(widgetId);
+                m_pendingRequests.put(widgetId, future);
+            }
+        }
+        return awaitResult(widgetId, future, errorContext);
     }
 
-    <T> Result<T> handleRequestFuture(final String widgetId, final Future<T> future)
+    /**
+     * Like {@link #handleRequest(String, Callable)}, but requests with the same key arriving within
+     * {@link #DEBOUNCE_WINDOW_MILLIS} of each other are coalesced: The first request of a burst is started directly,
+     * every further one is scheduled to start once the window since its predecessor has passed. The calling thread
+     * does not sleep meanwhile but only waits for the result. A newer request cancels (i.e. interrupts) the computation
+     * of an older one or prevents it from being started. Requests that are superseded by a newer one are answered with
+     * {@link Result#cancel()} right away, even if their computation already finished.
+     *
+     * @param key identifying requests that supersede each other
+     * @param callback the computation of the request
+     * @return the result or a canceled result if the request was superseded
+     * @throws InterruptedException if the calling thread is interrupted
+     * @throws ExecutionException if the computation failed with an unexpected exception
+     */
+    public <T> Result<T> handleDebouncedRequest(final String key, final Callable<T> callback)
         throws InterruptedException, ExecutionException {
-        if (widgetId != null) {
-            Optional.ofNullable(m_pendingRequests.get(widgetId)).ifPresent(pendingFuture -> pendingFuture.cancel(true));
-            m_pendingRequests.put(widgetId, future);
+        return handleDebouncedRequest(key, Priority.INTERACTIVE, callback);
+    }
+
+    /**
+     * Same as {@link #handleDebouncedRequest(String, Callable)} but with a different priority than
+     * {@link Priority#INTERACTIVE}.
+     *
+     * @param key identifying requests that supersede each other
+     * @param priority of the request
+     * @param callback the computation of the request
+     * @return the result or a canceled result if the request was superseded
+     * @throws InterruptedException if the calling thread is interrupted
+     * @throws ExecutionException if the computation failed with an unexpected exception
+     */
+    public <T> Result<T> handleDebouncedRequest(final String key, final Priority priority,
+        final Callable<T> callback) throws InterruptedException, ExecutionException {
+        // the request is started on another thread, hence its context is captured here
+        final var errorContext = new RequestErrorContext();
+        final var callable = ThreadUtils.callableWithContext(errorContext.wrap(callback));
+        final var debounced = new CompletableFuture<T>();
+        final long requestId;
+        final long delayNanos;
+        synchronized (this) {
+            final var now = m_nanoClock.getAsLong();
+            requestId = ++m_debouncedRequestCounter;
+            final var previous = m_latestDebouncedRequests.put(key, new DebouncedRequest(requestId, now));
+            delayNanos = previous == null ? 0
+                : (TimeUnit.MILLISECONDS.toNanos(DEBOUNCE_WINDOW_MILLIS) - (now - previous.arrivalNanos()));
+            cancelPendingRequest(key);
+            m_pendingRequests.put(key, debounced);
+        }
+        final Runnable start = () -> startDebouncedRequest(key, requestId, priority, callable, debounced);
+        if (delayNanos > 0) {
+            m_debounceScheduler.schedule(start, delayNanos);
+        } else {
+            start.run();
+        }
+        final var result = awaitResult(key, debounced, errorContext);
+        synchronized (this) {
+            if (isSuperseded(key, requestId)) {
+                return Result.cancel();
+            }
+            m_latestDebouncedRequests.remove(key);
         }
+        return result;
+    }
+
+    /**
+     * Submits the computation of a debounced request unless it has been superseded in the meantime. The given future
+     * is completed with the result of the computation; canceling it interrupts the computation.
+     */
+    private <T> void startDebouncedRequest(final String key, final long requestId, final Priority priority,
+        final Callable<T> callable, final CompletableFuture<T> debounced) {
+        synchronized (this) {
+            if (isSuperseded(key, requestId)) {
+                debounced.cancel(false);
+            }
+            if (debounced.isDone()) {
+                return;
+            }
+            final var future = m_requestQueue.submit(priority, () -> {
+                try {
+                    final var result = callable.call();
+                    debounced.complete(result);
+                    return result;
+                } catch (Exception e) { // NOSONAR the exception is passed on as is
+                    debounced.completeExceptionally(e);
+                    throw e;
+                }
+            });
+            debounced.whenComplete((result, throwable) -> {
+                if (debounced.isCancelled()) {
+                    future.cancel(true);
+                }
+            });
+        }
+    }
+
+    private boolean isSuperseded(final String key, final long requestId) {
+        final var latest = m_latestDebouncedRequests.get(key);
+        return latest == null || latest.id() != requestId;
+    }
+
+    private void cancelPendingRequest(final String widgetId) {
+        Optional.ofNullable(m_pendingRequests.remove(widgetId)).ifPresent(pendingFuture -> pendingFuture.cancel(true));
+    }
+
+    /**
+     * @param errorContext the context the computation of the future is run in
+     */
+    private <T> Result<T> awaitResult(final String widgetId, final Future<T> future,
+        final RequestErrorContext errorContext) throws InterruptedException, ExecutionException {
         try {
             final var result = future.get();
             if (widgetId != null) {
-                m_pendingRequests.remove(widgetId);
+                synchronized (this) {
+                    m_pendingRequests.remove(widgetId, future);
+                }
             }
-            final var errorMessages = ErrorHandlingSingleton.getErrorMessages();
+            final var errorMessages = errorContext.getErrorMessages();
 
             return Result.succeed(result, errorMessages);
         } catch (CancellationException ex) {
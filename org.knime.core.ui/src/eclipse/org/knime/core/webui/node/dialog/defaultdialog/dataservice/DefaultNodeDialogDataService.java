@@ -118,7 +118,9 @@ public interface DefaultNodeDialogDataService extends DialogSettingsUpdateServic
      * Update method for the new updating mechanism using {@link ParameterReference} and {@link StateProvider}. This
      * will eventually replace the {@link #update} method.
      *
-     * @param widgetId identifying which pending requests came from the same widget and thus have to be canceled
+     * @param widgetId identifying which pending requests came from the same widget (may be {@code null}). Requests
+     *            with the same widget id, trigger and dependency indices that arrive in rapid succession are coalesced
+     *            and superseded ones are answered with a canceled result.
      * @param trigger the trigger that is to be invoked. This can either be a {@link Trigger.ValueTrigger} induced from
      *            a value update or a {@link Trigger.IdTrigger}.
      * @param rawDependencies a map from jsonforms scope to a list of values. This list of values is usually a
@@ -0,0 +1,404 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent): created
+ */
+package org.knime.core.webui.node.dialog.defaultdialog.dataservice;
+
+import java.lang.management.ManagementFactory;
+import java.util.PriorityQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+import org.knime.core.node.NodeLogger;
+import org.knime.core.util.ThreadUtils;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+/**
+ * Executes the requests of node dialogs (e.g. updates, button actions and validations) on a pool of threads that is
+ * separate from the one used for node execution, so that interactive requests do not have to wait for long-running
+ * node jobs.
+ *
+ * <ul>
+ * <li>Queued requests are started by {@link Priority}, requests with the same priority in the order of submission.</li>
+ * <li>The requests of one dialog ({@link DialogRequestQueue}) are limited in how many of them can be running or waiting
+ * in the shared queue at the same time, so that a single dialog cannot occupy all threads.</li>
+ * <li>Queue depths and throughput are exposed via JMX (see {@link DialogRequestExecutorMXBean}).</li>
+ * </ul>
+ *
+ * The number of threads and the per-dialog limit can be configured via the system properties {@value #THREADS_PROPERTY}
+ * and {@value #MAX_CONCURRENT_REQUESTS_PER_DIALOG_PROPERTY}.
+ *
+ * @author agent
+ */
+public final class DialogRequestExecutor implements DialogRequestExecutorMXBean {
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(DialogRequestExecutor.class);
+
+    /**
+     * System property for the number of threads dialog requests are executed on.
+     */
+    public static final String THREADS_PROPERTY = "knime.ui.dialog.executor.threads";
+
+    /**
+     * System property for the maximum number of requests of a single dialog that are running or queued at once.
+     */
+    public static final String MAX_CONCURRENT_REQUESTS_PER_DIALOG_PROPERTY =
+        "knime.ui.dialog.executor.maxConcurrentRequestsPerDialog";
+
+    /**
+     * The name the {@link DialogRequestExecutorMXBean} is registered under.
+     */
+    public static final String MBEAN_NAME = "org.knime.core.ui:type=DialogRequestExecutor";
+
+    /**
+     * The priority of a dialog request. Requests with a higher priority are started first.
+     */
+    public enum Priority {
+            /**
+             * Requests whose results are visible directly after opening the dialog, e.g. initial updates and button
+             * states.
+             */
+            INITIAL,
+            /**
+             * Requests caused by a user interaction, e.g. updates triggered by a value change or a button click.
+             */
+            INTERACTIVE,
+            /**
+             * Requests that are not immediately visible, e.g. validations.
+             */
+            BACKGROUND;
+    }
+
+    private static final class InstanceHolder {
+
+        private static final DialogRequestExecutor INSTANCE = new DialogRequestExecutor(
+            Integer.getInteger(THREADS_PROPERTY, Math.max(2, Runtime.getRuntime().availableProcessors())),
+            Integer.getInteger(MAX_CONCURRENT_REQUESTS_PER_DIALOG_PROPERTY, 4));
+
+    }
+
+    private final ThreadPoolExecutor m_pool;
+
+    private final int m_maxConcurrentRequestsPerDialog;
+
+    private final AtomicLong m_sequence = new AtomicLong();
+
+    private final AtomicInteger[] m_queuedPerPriority = new AtomicInteger[Priority.values().length];
+
+    private final AtomicInteger m_maxQueued = new AtomicInteger();
+
+    private final AtomicLong m_completed = new AtomicLong();
+
+    /**
+     * @return the executor shared by all dialogs
+     */
+    public static DialogRequestExecutor getInstance() {
+        return InstanceHolder.INSTANCE;
+    }
+
+    DialogRequestExecutor(final int numThreads, final int maxConcurrentRequestsPerDialog) {
+        m_pool = new ThreadPoolExecutor(numThreads, numThreads, 60, TimeUnit.SECONDS,
+            new PriorityBlockingQueue<Runnable>(),
+            new ThreadFactoryBuilder().setNameFormat("KNIME-DialogRequest-%d").setDaemon(true).build());
+        m_pool.allowCoreThreadTimeOut(true);
+        m_maxConcurrentRequestsPerDialog = Math.max(1, maxConcurrentRequestsPerDialog);
+        for (var i = 0; i < m_queuedPerPriority.length; i++) {
+            m_queuedPerPriority[i] = new AtomicInteger();
+        }
+    }
+
+    /**
+     * @return a new queue for the requests of a single dialog
+     */
+    public DialogRequestQueue createDialogQueue() {
+        return new DialogRequestQueue();
+    }
+
+    /**
+     * The requests of a single dialog.
+     */
+    public final class DialogRequestQueue {
+
+        /**
+         * Requests that exceed the limit of concurrent requests of this dialog.
+         */
+        private final PriorityQueue<PrioritizedTask<?>> m_backlog = new PriorityQueue<>();
+
+        private int m_admitted;
+
+        private DialogRequestQueue() {
+        }
+
+        /**
+         * @param <T> the type of the result
+         * @param priority of the request
+         * @param callable computing the result. It keeps the {@link org.knime.core.node.workflow.NodeContext
+         *            NodeContext} of the submitting thread.
+         * @return a future of the result. Canceling it interrupts the computation.
+         */
+        public <T> Future<T> submit(final Priority priority, final Callable<T> callable) {
+            final var task = new PrioritizedTask<>(priority, ThreadUtils.callableWithContext(callable), this);
+            final boolean admit;
+            synchronized (this) {
+                admit = m_admitted < m_maxConcurrentRequestsPerDialog;
+                if (admit) {
+                    m_admitted++;
+                    task.m_admitted = true;
+                } else {
+                    m_backlog.add(task);
+                    onQueued(priority);
+                }
+            }
+            if (admit) {
+                execute(task);
+            }
+            return task;
+        }
+
+        private void onCanceled(final PrioritizedTask<?> task) {
+            synchronized (this) {
+                if (!task.m_admitted) {
+                    if (m_backlog.remove(task)) {
+                        onDequeued(task.m_priority);
+                    }
+                    return;
+                }
+            }
+            // an admitted task which is still in the pool's queue is never run, i.e. it can't release its slot itself
+            if (m_pool.remove(task)) {
+                release();
+            }
+        }
+
+        /**
+         * Frees the slot of a task once it isn't running anymore (or won't ever run) and admits the next request.
+         */
+        private void release() {
+            PrioritizedTask<?> next = null;
+            synchronized (this) {
+                m_admitted--;
+                while (next == null && !m_backlog.isEmpty()) {
+                    final var candidate = m_backlog.poll();
+                    onDequeued(candidate.m_priority);
+                    if (!candidate.isDone()) {
+                        next = candidate;
+                        next.m_admitted = true;
+                        m_admitted++;
+                    }
+                }
+            }
+            if (next != null) {
+                execute(next);
+            }
+        }
+
+    }
+
+    private void execute(final PrioritizedTask<?> task) {
+        onQueued(task.m_priority);
+        task.m_inPoolQueue = true;
+        m_pool.execute(task);
+    }
+
+    private void onQueued(final Priority priority) {
+        m_queuedPerPriority[priority.ordinal()].incrementAndGet();
+        m_maxQueued.accumulateAndGet(getQueuedRequestCount(), Math::max);
+    }
+
+    private void onDequeued(final Priority priority) {
+        m_queuedPerPriority[priority.ordinal()].decrementAndGet();
+    }
+
+    private final class PrioritizedTask<T> extends FutureTask<T> implements Comparable<PrioritizedTask<?>> {
+
+        private final Priority m_priority;
+
+        private final long m_sequenceNumber = m_sequence.getAndIncrement();
+
+        private final DialogRequestQueue m_dialogQueue;
+
+        private volatile boolean m_inPoolQueue;
+
+        /**
+         * Whether the task counts towards the limit of its dialog; guarded by the dialog queue.
+         */
+        private boolean m_admitted;
+
+        PrioritizedTask(final Priority priority, final Callable<T> callable, final DialogRequestQueue dialogQueue) {
+            super(callable);
+            m_priority = priority;
+            m_dialogQueue = dialogQueue;
+        }
+
+        @Override
+        public void run() {
+            leavePoolQueue();
+            try {
+                super.run();
+            } finally {
+                // a canceled task is interrupted but it still occupies a thread until the callable returns
+                m_dialogQueue.release();
+            }
+        }
+
+        private synchronized void leavePoolQueue() {
+            if (m_inPoolQueue) {
+                m_inPoolQueue = false;
+                onDequeued(m_priority);
+            }
+        }
+
+        @Override
+        protected void done() {
+            if (isCancelled()) {
+                // a canceled task might never be run
+                leavePoolQueue();
+                m_dialogQueue.onCanceled(this);
+            } else {
+                m_completed.incrementAndGet();
+            }
+        }
+
+        @Override
+        public int compareTo(final PrioritizedTask<?> other) {
+            final var byPriority = m_priority.compareTo(other.m_priority);
+            return byPriority != 0 ? byPriority : Long.compare(m_sequenceNumber, other.m_sequenceNumber);
+        }
+
+    }
+
+    @Override
+    public int getThreadCount() {
+        return m_pool.getMaximumPoolSize();
+    }
+
+    @Override
+    public int getMaxConcurrentRequestsPerDialog() {
+        return m_maxConcurrentRequestsPerDialog;
+    }
+
+    @Override
+    public int getActiveRequestCount() {
+        return m_pool.getActiveCount();
+    }
+
+    @Override
+    public int getQueuedRequestCount() {
+        var queued = 0;
+        for (var count : m_queuedPerPriority) {
+            queued += count.get();
+        }
+        return queued;
+    }
+
+    @Override
+    public int getQueuedInitialRequestCount() {
+        return m_queuedPerPriority[Priority.INITIAL.ordinal()].get();
+    }
+
+    @Override
+    public int getQueuedInteractiveRequestCount() {
+        return m_queuedPerPriority[Priority.INTERACTIVE.ordinal()].get();
+    }
+
+    @Override
+    public int getQueuedBackgroundRequestCount() {
+        return m_queuedPerPriority[Priority.BACKGROUND.ordinal()].get();
+    }
+
+    @Override
+    public int getMaxQueuedRequestCount() {
+        return m_maxQueued.get();
+    }
+
+    @Override
+    public long getCompletedRequestCount() {
+        return m_completed.get();
+    }
+
+    /**
+     * Registers the {@link DialogRequestExecutorMXBean} of the shared executor with the platform MBean server (if not
+     * registered already).
+     */
+    public static synchronized void registerMBean() {
+        try {
+            final var server = ManagementFactory.getPlatformMBeanServer();
+            final var name = new ObjectName(MBEAN_NAME);
+            if (!server.isRegistered(name)) {
+                server.registerMBean(getInstance(), name);
+            }
+        } catch (JMException e) {
+            LOGGER.debug("Dialog request executor metrics couldn't be registered via JMX", e);
+        }
+    }
+
+    /**
+     * Unregisters the {@link DialogRequestExecutorMXBean} from the platform MBean server (if registered).
+     */
+    public static synchronized void unregisterMBean() {
+        try {
+            final var server = ManagementFactory.getPlatformMBeanServer();
+            final var name = new ObjectName(MBEAN_NAME);
+            if (server.isRegistered(name)) {
+                server.unregisterMBean(name);
+            }
+        } catch (JMException e) {
+            LOGGER.debug("Dialog request executor metrics couldn't be unregistered from JMX", e);
+        }
+    }
+
+}
@@ -0,0 +1,104 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent): created
+ */
+package org.knime.core.webui.node.dialog.defaultdialog.dataservice;
+
+/**
+ * Management interface exposing the load of the {@link DialogRequestExecutor}.
+ *
+ * @author agent
+ */
+public interface DialogRequestExecutorMXBean {
+
+    /**
+     * @return the number of threads dialog requests are executed on
+     */
+    int getThreadCount();
+
+    /**
+     * @return the maximum number of requests of a single dialog that are running or queued at once
+     */
+    int getMaxConcurrentRequestsPerDialog();
+
+    /**
+     * @return the number of requests that are currently being computed
+     */
+    int getActiveRequestCount();
+
+    /**
+     * @return the number of requests that wait to be started, either in the shared queue or because their dialog
+     *         reached its limit
+     */
+    int getQueuedRequestCount();
+
+    /**
+     * @return the number of waiting requests with priority {@link DialogRequestExecutor.Priority#INITIAL}
+     */
+    int getQueuedInitialRequestCount();
+
+    /**
+     * @return the number of waiting requests with priority {@link DialogRequestExecutor.Priority#INTERACTIVE}
+     */
+    int getQueuedInteractiveRequestCount();
+
+    /**
+     * @return the number of waiting requests with priority {@link DialogRequestExecutor.Priority#BACKGROUND}
+     */
+    int getQueuedBackgroundRequestCount();
+
+    /**
+     * @return the highest number of waiting requests observed so far
+     */
+    int getMaxQueuedRequestCount();
+
+    /**
+     * @return the number of requests that have been computed (successfully or not) so far
+     */
+    long getCompletedRequestCount();
+
+}
@@ -74,6 +74,12 @@ public sealed interface Trigger {
      * @param id the type of the global trigger
      */
     record IdTrigger(String id) implements Trigger {
+
+        /**
+         * The id of the trigger that is invoked once the dialog is opened (see
+         * {@link StateProvider.StateProviderInitializer#computeAfterOpenDialog}).
+         */
+        public static final String AFTER_OPEN_DIALOG_ID = "after-open-dialog";
     }
 
 }
@@ -64,6 +64,7 @@ import org.knime.core.webui.node.dialog.defaultdialog.jsonforms.UpdateResultsUti
 import org.knime.core.webui.node.dialog.defaultdialog.util.updates.IndexedValue;
 import org.knime.core.webui.node.dialog.defaultdialog.util.updates.Location;
 import org.knime.core.webui.node.dialog.defaultdialog.util.updates.LocationAndType;
+import org.knime.core.webui.node.dialog.defaultdialog.util.updates.StateProviderMemo;
 import org.knime.core.webui.node.dialog.defaultdialog.util.updates.TriggerInvocationHandler;
 import org.knime.core.webui.node.dialog.defaultdialog.widgettree.WidgetTreeFactory;
 import org.knime.node.parameters.NodeParametersInput;
@@ -84,6 +85,11 @@ final class DataServiceTriggerInvocationHandler {
 
     private final NodeDialogServiceRegistry m_serviceRegistry;
 
+    /**
+     * Lives as long as this handler, i.e. as long as the dialog session.
+     */
+    private final StateProviderMemo m_memo = new StateProviderMemo();
+
     DataServiceTriggerInvocationHandler(final Map<SettingsType, Class<? extends WidgetGroup>> settingsClasses,
         final NodeParametersInput context, final NodeDialogServiceRegistry serviceRegistry) {
         final var widgetTreeFactory = new WidgetTreeFactory();
@@ -109,7 +115,8 @@ final class DataServiceTriggerInvocationHandler {
                     locationAndType.location(), locationAndType.getSpecialDeserializer().orElse(null))))
                 .toList();
 
-        final var triggerResult = m_triggerInvocationHandler.invokeTrigger(trigger, dependencyProvider, m_context);
+        final var triggerResult =
+            m_triggerInvocationHandler.invokeTrigger(trigger, dependencyProvider, m_context, m_memo);
         return UpdateResultsUtil.toUpdateResults(triggerResult, m_serviceRegistry).toList();
     }
 
@@ -56,6 +56,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
 
 import org.knime.core.webui.data.DataServiceContext;
@@ -63,6 +64,7 @@ import org.knime.core.webui.node.dialog.SettingsType;
 import org.knime.core.webui.node.dialog.defaultdialog.NodeParametersUtil;
 import org.knime.core.webui.node.dialog.defaultdialog.dataservice.DataServiceRequestHandler;
 import org.knime.core.webui.node.dialog.defaultdialog.dataservice.DefaultNodeDialogDataService;
+import org.knime.core.webui.node.dialog.defaultdialog.dataservice.DialogRequestExecutor.Priority;
 import org.knime.core.webui.node.dialog.defaultdialog.dataservice.DynamicParametersTriggerInvocationHandlerContext;
 import org.knime.core.webui.node.dialog.defaultdialog.dataservice.NodeDialogServiceRegistry;
 import org.knime.core.webui.node.dialog.defaultdialog.dataservice.Result;
@@ -71,7 +73,6 @@ import org.knime.core.webui.node.dialog.defaultdialog.internal.button.ButtonActi
 import org.knime.core.webui.node.dialog.defaultdialog.util.GenericTypeFinderUtil;
 import org.knime.core.webui.node.dialog.defaultdialog.util.updates.IndexedValue;
 import org.knime.core.webui.node.dialog.defaultdialog.widget.UpdateHandler;
-import org.knime.core.webui.node.dialog.defaultdialog.widget.handler.ErrorHandlingSingleton;
 import org.knime.core.webui.node.dialog.defaultdialog.widget.validation.ExternalBuiltInValidationUtil;
 import org.knime.core.webui.node.dialog.defaultdialog.widget.validation.ExternalValidation;
 import org.knime.node.parameters.NodeParameters;
@@ -149,7 +150,7 @@ public final class DefaultNodeDialogDataServiceImpl implements DefaultNodeDialog
         final var resultType = GenericTypeFinderUtil.getFirstGenericType(handler.getClass(), ButtonActionHandler.class);
         final var context = createContext();
         final var convertedCurrentValue = convertValue(currentValue, resultType, null, null);
-        return m_requestHandler.handleRequest(widgetId,
+        return m_requestHandler.handleRequest(widgetId, Priority.INITIAL,
             () -> handler.castAndInitialize(convertedCurrentValue, context));
 
     }
@@ -183,9 +184,8 @@ public final class DefaultNodeDialogDataServiceImpl implements DefaultNodeDialog
     public Result<?> update2(final String widgetId, final Trigger triggerClass,
         final Map<String, List<IndexedValue<String>>> rawDependenciesUnparsed)
         throws InterruptedException, ExecutionException {
-        ErrorHandlingSingleton.reset();
         final var triggerInvocationHandler = getTriggerInvocationHandler();
-        return m_requestHandler.handleRequest(widgetId,
+        return handleTriggerRequest(null, widgetId, triggerClass, rawDependenciesUnparsed,
             () -> triggerInvocationHandler.trigger(triggerClass, rawDependenciesUnparsed));
     }
 
@@ -196,10 +196,45 @@ public final class DefaultNodeDialogDataServiceImpl implements DefaultNodeDialog
             m_dynamicParametersTriggerInvocationHandlerContext.getTriggerInvocationHandler(settingsId);
         final var dataServiceTriggerInvocationHandler =
             new DataServiceTriggerInvocationHandler(createContext(), m_serviceRegistry, triggerInvocationHandler);
-        return m_requestHandler.handleRequest(widgetId,
+        return handleTriggerRequest(settingsId, widgetId, trigger, rawDependencies,
             () -> dataServiceTriggerInvocationHandler.trigger(trigger, rawDependencies));
     }
 
+    /**
+     * Only value triggers (e.g. while typing) are debounced. Id triggers (e.g. button clicks) are not, since the
+     * frontend sends the very same request again to check whether an update is necessary, which would otherwise
+     * supersede the actual one.
+     */
+    private <T> Result<T> handleTriggerRequest(final String settingsId, final String widgetId, final Trigger trigger,
+        final Map<String, List<IndexedValue<String>>> rawDependencies, final Callable<T> callable)
+        throws InterruptedException, ExecutionException {
+        if (trigger instanceof Trigger.ValueTrigger) {
+            final var key = toDebounceKey(settingsId, widgetId, trigger, rawDependencies);
+            return m_requestHandler.handleDebouncedRequest(key, getPriority(trigger), callable);
+        }
+        return m_requestHandler.handleRequest(widgetId, getPriority(trigger), callable);
+    }
+
+    /**
+     * The updates triggered once the dialog is opened are visible right away and thus preferred.
+     */
+    private static Priority getPriority(final Trigger trigger) {
+        return trigger instanceof Trigger.IdTrigger idTrigger
+            && Trigger.IdTrigger.AFTER_OPEN_DIALOG_ID.equals(idTrigger.id()) ? Priority.INITIAL : Priority.INTERACTIVE;
+    }
+
+    /**
+     * Triggers of the same value reference supersede each other. Since array layouts share the scopes of their
+     * elements, the indices of the dependencies are part of the key, so that updates of different elements are not
+     * coalesced.
+     */
+    private static String toDebounceKey(final String settingsId, final String widgetId, final Trigger trigger,
+        final Map<String, List<IndexedValue<String>>> rawDependencies) {
+        final var indices = rawDependencies.values().stream().flatMap(List::stream)
+            .map(indexedValue -> indexedValue.indices().toString()).distinct().sorted().toList();
+        return String.format("%s:%s:%s:%s", settingsId, widgetId, trigger, indices);
+    }
+
     static final class NoHandlerFoundException extends IllegalArgumentException {
         private static final long serialVersionUID = 1L;
 
@@ -214,7 +249,8 @@ public final class DefaultNodeDialogDataServiceImpl implements DefaultNodeDialog
         final var handler = getExternalValidationHandler(validatorClass);
         final var resultType = GenericTypeFinderUtil.getFirstGenericType(handler.getClass(), ExternalValidation.class);
         final var convertedCurrentValue = convertValue(currentValue, resultType, null, null);
-        return m_requestHandler.handleRequest(validatorClass, () -> handler.castAndValidate(convertedCurrentValue));
+        return m_requestHandler.handleRequest(validatorClass, Priority.BACKGROUND,
+            () -> handler.castAndValidate(convertedCurrentValue));
     }
 
     private ExternalValidation<?> getExternalValidationHandler(final String handlerClassName) {
@@ -235,7 +271,7 @@ public final class DefaultNodeDialogDataServiceImpl implements DefaultNodeDialog
     public Result<Optional<String>> performCustomValidation(final String validatorId, final Object currentValue)
         throws InterruptedException, ExecutionException {
         final var customValidationContext = m_serviceRegistry.customValidationContext();
-        return m_requestHandler.handleRequest(validatorId, () -> {
+        return m_requestHandler.handleRequest(validatorId, Priority.BACKGROUND, () -> {
             final var errorMessage = customValidationContext.validate(validatorId, currentValue);
             return Optional.ofNullable(errorMessage);
         });
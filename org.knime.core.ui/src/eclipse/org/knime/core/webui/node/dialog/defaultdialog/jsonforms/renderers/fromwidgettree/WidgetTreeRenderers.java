@@ -250,6 +250,20 @@ public class WidgetTreeRenderers {
 
     }
 
+    /**
+     * Whether the renderer spec of the given node (if any) is created without access to the
+     * {@link NodeParametersInput}, i.e. whether it only depends on the node itself.
+     *
+     * @param node the node to check
+     * @return {@code true} if {@link #getRendererSpec} yields the same result for any input
+     */
+    public static boolean isRendererSpecInputIndependent(final TreeNode<WidgetGroup> node) {
+        return getAllTesters().filter(tester -> tester.test(node))//
+            .findFirst()//
+            .map(WidgetTreeNodeTester.class::isInstance)//
+            .orElse(true);
+    }
+
     /**
      * Get the renderer spec for the given node. If no renderer is supported for the given node, {@code null} is
      * returned.
@@ -51,17 +51,20 @@ package org.knime.core.webui.node.dialog.defaultdialog.jsonforms.schema;
 import static org.knime.core.webui.node.dialog.defaultdialog.util.InstantiationUtil.createInstance;
 import static org.knime.core.webui.node.dialog.defaultdialog.util.InstantiationUtil.createInstanceWithContext;
 
+import java.lang.reflect.Field;
+
 import org.knime.core.node.NodeLogger;
 import org.knime.core.util.LRUCache;
 import org.knime.node.parameters.NodeParametersInput;
 
-import com.github.victools.jsonschema.generator.ConfigFunction;
 import com.github.victools.jsonschema.generator.FieldScope;
 
 /**
+ * Resolves the default values of fields by instantiating their declaring classes.
+ *
  * @author Marc Bux, KNIME GmbH, Berlin, Germany
  */
-final class DefaultResolver implements ConfigFunction<FieldScope, Object> {
+final class DefaultResolver {
 
     private final NodeParametersInput m_context;
 
@@ -71,15 +74,22 @@ final class DefaultResolver implements ConfigFunction<FieldScope, Object> {
         m_context = context;
     }
 
-    @Override
-    public Object apply(final FieldScope field) { // NOSONAR
-        if (field.isFakeContainerItemScope()) {
-            return null;
-        }
+    /**
+     * @param field a field of a settings class
+     * @return the class which has to be instantiated to obtain the default value of the field
+     */
+    static Class<?> getDeclaringClass(final FieldScope field) {
         // support fields in abstract classes (need to instantiate the concrete class later)
         final var types = field.getDeclaringTypeMembers().mainTypeAndOverrides();
-        final var declaringClass =
-            types.isEmpty() ? field.getDeclaringType().getErasedType() : types.get(types.size() - 1).getErasedType();
+        return types.isEmpty() ? field.getDeclaringType().getErasedType() : types.get(types.size() - 1).getErasedType();
+    }
+
+    /**
+     * @param declaringClass the class to instantiate (see {@link #getDeclaringClass(FieldScope)})
+     * @param field the field holding the default value
+     * @return the default value or {@code null} if there is none or it could not be determined
+     */
+    Object resolve(final Class<?> declaringClass, final Field field) {
         try {
             final var defaultObject = m_defaultObjects.computeIfAbsent(declaringClass,
                 c -> m_context == null ? createInstance(c) : createInstanceWithContext(c, m_context));
@@ -87,9 +97,8 @@ final class DefaultResolver implements ConfigFunction<FieldScope, Object> {
                 return null;
             }
 
-            final var rawField = field.getRawMember();
-            rawField.setAccessible(true); // NOSONAR
-            return rawField.get(defaultObject);
+            field.setAccessible(true); // NOSONAR
+            return field.get(defaultObject);
         } catch (Exception e) { // NOSONAR
             NodeLogger.getLogger(DefaultResolver.class)
                 .error(String.format("Failed to determine default value of field %s in class %s.", field.getName(),
@@ -0,0 +1,186 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent): created
+ */
+package org.knime.core.webui.node.dialog.defaultdialog.jsonforms.schema;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import org.knime.core.node.NodeLogger;
+import org.knime.node.parameters.NodeParametersInput;
+
+import com.fasterxml.jackson.core.JsonPointer;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.github.victools.jsonschema.generator.ConfigFunction;
+import com.github.victools.jsonschema.generator.FieldScope;
+
+/**
+ * The part of a JSON Forms schema which only depends on the settings class, i.e. everything but the default values
+ * which are derived from instances of the settings classes created with the {@link NodeParametersInput}. The default
+ * values are generated as placeholders which are replaced when the template is {@link #instantiate instantiated}.
+ *
+ * A template is never modified after its creation and can hence be shared between dialogs.
+ *
+ * @author agent
+ */
+final class JsonFormsSchemaTemplate {
+
+    private static final String TAG_DEFAULT = "default";
+
+    /**
+     * Starts with a character which is not expected at the start of any default value of a string setting.
+     */
+    private static final String PLACEHOLDER_PREFIX = "\u0000default:";
+
+    private final ObjectNode m_schema;
+
+    private final List<DefaultValueSlot> m_defaultValueSlots;
+
+    /**
+     * @param parent the pointer to the schema of the field whose default value is set
+     * @param declaringClass the class to instantiate to get the default value
+     * @param field the field of the declaringClass holding the default value
+     */
+    private record DefaultValueSlot(JsonPointer parent, Class<?> declaringClass, Field field) {
+    }
+
+    private JsonFormsSchemaTemplate(final ObjectNode schema, final List<DefaultValueSlot> defaultValueSlots) {
+        m_schema = schema;
+        m_defaultValueSlots = defaultValueSlots;
+    }
+
+    /**
+     * Creates a template from a schema that was generated using the given placeholders.
+     *
+     * @param schema the generated schema
+     * @param placeholders the resolver that was used to generate the default values of the schema
+     * @return the template
+     */
+    static JsonFormsSchemaTemplate create(final ObjectNode schema, final DefaultValuePlaceholders placeholders) {
+        final var slots = new ArrayList<DefaultValueSlot>();
+        collectDefaultValueSlots(schema, JsonPointer.empty(), placeholders, slots);
+        return new JsonFormsSchemaTemplate(schema, slots);
+    }
+
+    private static void collectDefaultValueSlots(final JsonNode node, final JsonPointer pointer,
+        final DefaultValuePlaceholders placeholders, final List<DefaultValueSlot> slots) {
+        if (node.isObject()) {
+            final var defaultValue = node.get(TAG_DEFAULT);
+            if (defaultValue != null && defaultValue.isTextual()
+                && defaultValue.textValue().startsWith(PLACEHOLDER_PREFIX)) {
+                final var source =
+                    placeholders.m_sources.get(Integer.parseInt(defaultValue.textValue(), PLACEHOLDER_PREFIX.length(),
+                        defaultValue.textValue().length(), 10));
+                slots.add(new DefaultValueSlot(pointer, source.getKey(), source.getValue()));
+            }
+            for (final var it = node.fields(); it.hasNext();) {
+                final var child = it.next();
+                collectDefaultValueSlots(child.getValue(), pointer.appendProperty(child.getKey()), placeholders,
+                    slots);
+            }
+        } else if (node.isArray()) {
+            for (var i = 0; i < node.size(); i++) {
+                collectDefaultValueSlots(node.get(i), pointer.appendIndex(i), placeholders, slots);
+            }
+        }
+    }
+
+    /**
+     * @param context the context used to instantiate the settings classes to get the default values
+     * @param mapper the mapper used to serialize the default values
+     * @return a new schema with the default values filled in
+     */
+    ObjectNode instantiate(final NodeParametersInput context, final ObjectMapper mapper) {
+        final var schema = m_schema.deepCopy();
+        final var defaultResolver = new DefaultResolver(context);
+        for (final var slot : m_defaultValueSlots) {
+            final var parent = (ObjectNode)schema.at(slot.parent());
+            final var defaultValue = defaultResolver.resolve(slot.declaringClass(), slot.field());
+            if (defaultValue == null) {
+                parent.remove(TAG_DEFAULT);
+            } else {
+                parent.set(TAG_DEFAULT, toJson(defaultValue, mapper));
+            }
+        }
+        return schema;
+    }
+
+    private static JsonNode toJson(final Object value, final ObjectMapper mapper) {
+        try {
+            return mapper.valueToTree(value);
+        } catch (IllegalArgumentException e) {
+            NodeLogger.getLogger(JsonFormsSchemaTemplate.class)
+                .debug(String.format("Failed to serialize default value of type %s.", value.getClass().getName()), e);
+            return mapper.getNodeFactory().textNode(value.toString());
+        }
+    }
+
+    /**
+     * Used as default resolver while generating the schema of a template. Instead of the actual default values, it
+     * provides placeholders which identify the field holding the default value.
+     */
+    static final class DefaultValuePlaceholders implements ConfigFunction<FieldScope, Object> {
+
+        private final List<Entry<Class<?>, Field>> m_sources = new ArrayList<>();
+
+        @Override
+        public Object apply(final FieldScope field) {
+            if (field.isFakeContainerItemScope()) {
+                return null;
+            }
+            m_sources.add(Map.entry(DefaultResolver.getDeclaringClass(field), field.getRawMember()));
+            return PLACEHOLDER_PREFIX + (m_sources.size() - 1);
+        }
+    }
+
+}
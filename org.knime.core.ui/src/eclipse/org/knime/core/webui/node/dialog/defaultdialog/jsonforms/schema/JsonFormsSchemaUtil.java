@@ -76,11 +76,14 @@ import java.util.stream.Stream;
 
 import org.apache.commons.lang3.StringUtils;
 import org.knime.core.data.DataType;
+import org.knime.core.util.LRUCache;
 import org.knime.core.webui.node.dialog.SettingsType;
 import org.knime.core.webui.node.dialog.defaultdialog.internal.widget.WidgetInternal;
 import org.knime.core.webui.node.dialog.defaultdialog.jsonforms.JsonFormsDataUtil;
+import org.knime.core.webui.node.dialog.defaultdialog.jsonforms.schema.JsonFormsSchemaTemplate.DefaultValuePlaceholders;
 import org.knime.core.webui.node.dialog.defaultdialog.tree.ArrayParentNode;
 import org.knime.core.webui.node.dialog.defaultdialog.tree.Tree;
+import org.knime.core.webui.node.dialog.defaultdialog.tree.TreeFactory;
 import org.knime.core.webui.node.dialog.defaultdialog.tree.TreeNode;
 import org.knime.core.webui.node.dialog.defaultdialog.util.DescriptionUtil;
 import org.knime.core.webui.node.dialog.defaultdialog.widget.Modification;
@@ -94,6 +97,7 @@ import org.knime.node.parameters.widget.text.TextInputWidget;
 import com.fasterxml.classmate.ResolvedType;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.github.victools.jsonschema.generator.ConfigFunction;
 import com.github.victools.jsonschema.generator.CustomPropertyDefinition;
 import com.github.victools.jsonschema.generator.FieldScope;
 import com.github.victools.jsonschema.generator.Option;
@@ -127,6 +131,24 @@ public final class JsonFormsSchemaUtil {
         Stream.of(Boolean.class, Integer.class, Long.class, short.class, Short.class, Double.class, Float.class)
             .collect(Collectors.toCollection(HashSet::new));
 
+    private static final int MAX_CACHED_TEMPLATES_PER_CLASS = 4;
+
+    /**
+     * The schema templates only depend on the settings class, the widget tree and the mapper. They are cached per
+     * settings class via a {@link ClassValue} (see the tree cache in {@link TreeFactory} for why).
+     */
+    private static final ClassValue<Map<SchemaTemplateKey, JsonFormsSchemaTemplate>> SCHEMA_TEMPLATES =
+        new ClassValue<>() {
+            @Override
+            protected Map<SchemaTemplateKey, JsonFormsSchemaTemplate> computeValue(final Class<?> type) {
+                return new LRUCache<>(MAX_CACHED_TEMPLATES_PER_CLASS);
+            }
+        };
+
+    /** Widget trees and mappers are compared by identity */
+    private record SchemaTemplateKey(Tree<WidgetGroup> widgetTree, ObjectMapper mapper) {
+    }
+
     private JsonFormsSchemaUtil() {
         // utility class
     }
@@ -176,7 +198,8 @@ public final class JsonFormsSchemaUtil {
 
     /**
      * Build a schema from a provided class together with an already computed widget tree. The settings type of the
-     * widget tree is ignored.
+     * widget tree is ignored. Only the default values depend on the context; the remaining schema is generated once
+     * per class, widget tree and mapper and cached.
      *
      * @param settingsClass the class to build the schema for
      * @param widgetTree the widget tree to take annotations from
@@ -186,6 +209,38 @@ public final class JsonFormsSchemaUtil {
      */
     public static ObjectNode buildSchema(final Type settingsClass, final Tree<WidgetGroup> widgetTree,
         final NodeParametersInput context, final ObjectMapper mapper) {
+        return getSchemaTemplate(settingsClass, widgetTree, mapper).instantiate(context, mapper);
+    }
+
+    private static JsonFormsSchemaTemplate getSchemaTemplate(final Type settingsClass,
+        final Tree<WidgetGroup> widgetTree, final ObjectMapper mapper) {
+        if (!(settingsClass instanceof Class<?> clazz)) {
+            return createSchemaTemplate(settingsClass, widgetTree, mapper);
+        }
+        final var templates = SCHEMA_TEMPLATES.get(clazz);
+        final var key = new SchemaTemplateKey(widgetTree, mapper);
+        synchronized (templates) {
+            final var cached = templates.get(key);
+            if (cached != null) {
+                return cached;
+            }
+        }
+        final var template = createSchemaTemplate(settingsClass, widgetTree, mapper);
+        synchronized (templates) {
+            final var previous = templates.putIfAbsent(key, template);
+            return previous == null ? template : previous;
+        }
+    }
+
+    private static JsonFormsSchemaTemplate createSchemaTemplate(final Type settingsClass,
+        final Tree<WidgetGroup> widgetTree, final ObjectMapper mapper) {
+        final var placeholders = new DefaultValuePlaceholders();
+        final var schema = generateSchema(settingsClass, widgetTree, placeholders, mapper);
+        return JsonFormsSchemaTemplate.create(schema, placeholders);
+    }
+
+    private static ObjectNode generateSchema(final Type settingsClass, final Tree<WidgetGroup> widgetTree,
+        final ConfigFunction<FieldScope, Object> defaultResolver, final ObjectMapper mapper) {
         final var builder = new SchemaGeneratorConfigBuilder(mapper, VERSION, new OptionPreset(//
             Option.ADDITIONAL_FIXED_TYPES, //
             Option.EXTRA_OPEN_API_FORMAT_VALUES, //
@@ -207,7 +262,8 @@ public final class JsonFormsSchemaUtil {
                 return null;
             }
             Function<Tree<WidgetGroup>, CustomPropertyDefinition> useWidgetTreeForNestedFields =
-                wt -> new CustomPropertyDefinition(buildSchema(fieldScope.getType(), wt, context, mapper));
+                wt -> new CustomPropertyDefinition(
+                    generateSchema(fieldScope.getType(), wt, defaultResolver, mapper));
 
             final var fieldNode = widgetTree.getChildByName(fieldScope.getName());
             return getPropertyDefinition(fieldNode, fieldScope, generationContext, useWidgetTreeForNestedFields);
@@ -220,7 +276,7 @@ public final class JsonFormsSchemaUtil {
             .map(WidgetInternal::readOnly).orElse(false));
 
         builder.forFields().withCustomDefinitionProvider(new EnumDefinitionProvider());
-        builder.forFields().withDefaultResolver(new DefaultResolver(context));
+        builder.forFields().withDefaultResolver(defaultResolver);
 
         builder.forFields().withTitleResolver(field -> retrieveAnnotation(field, Widget.class, widgetTree)
             .map(Widget::title).filter(l -> !field.isFakeContainerItemScope() && !l.isEmpty()).orElse(null));
@@ -48,8 +48,6 @@
  */
 package org.knime.core.webui.node.dialog.defaultdialog.jsonforms.uischema;
 
-import static org.knime.core.webui.node.dialog.defaultdialog.jsonforms.uischema.WidgetTreeToLayoutTree.widgetTreesToLayoutTreeRoot;
-
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
@@ -77,6 +75,8 @@ import com.fasterxml.jackson.databind.node.ObjectNode;
  * <li>Generate the layout parts starting from the root and add the mapped controls (see
  * {@link LayoutNodesGenerator})</li>
  * </ol>
+ * The layout tree and the options of controls which do not depend on the {@link NodeParametersInput} are cached (see
+ * {@link UiSchemaTemplate}).
  *
  * @author Paul Bärnreuther
  */
@@ -125,8 +125,8 @@ public final class JsonFormsUiSchemaUtil {
      */
     public static ObjectNode buildUISchema(final Collection<Tree<WidgetGroup>> widgetTrees,
         final Collection<Tree<WidgetGroup>> parentWidgetTrees, final NodeParametersInput context) {
-        final var layoutTreeRoot = widgetTreesToLayoutTreeRoot(widgetTrees);
-        return new LayoutNodesGenerator(layoutTreeRoot, widgetTrees, parentWidgetTrees, context).build();
+        final var template = UiSchemaTemplate.get(widgetTrees, parentWidgetTrees);
+        return new LayoutNodesGenerator(template, widgetTrees, parentWidgetTrees, context).build();
     }
 
     /**
@@ -138,7 +138,7 @@ public final class JsonFormsUiSchemaUtil {
     public static TraversableLayoutTreeNode<TreeNode<WidgetGroup>>
         resolveLayout(final Map<SettingsType, Class<? extends WidgetGroup>> settingsClasses) {
         final var widgetTrees = constructWidgetTrees(settingsClasses);
-        return widgetTreesToLayoutTreeRoot(widgetTrees);
+        return UiSchemaTemplate.get(widgetTrees, List.of()).getLayoutTreeRoot();
     }
 
     private static List<Tree<WidgetGroup>>
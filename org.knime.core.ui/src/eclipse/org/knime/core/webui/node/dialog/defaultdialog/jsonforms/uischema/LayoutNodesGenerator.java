@@ -82,7 +82,7 @@ import com.fasterxml.jackson.databind.node.ObjectNode;
  */
 final class LayoutNodesGenerator {
 
-    private final TraversableLayoutTreeNode<TreeNode<WidgetGroup>> m_layoutTreeRoot;
+    private final UiSchemaTemplate m_template;
 
     private final NodeParametersInput m_defaultNodeSettingsContext;
 
@@ -91,19 +91,19 @@ final class LayoutNodesGenerator {
     private final UiSchemaRulesGenerator m_rulesGenerator;
 
     /**
-     * @param layoutTreeRoot a record containing controls (as a mapping between layout parts and their contained
-     *            settings controls) and a ruleSourcesMap (the mapping between ids of rule sources to their conditions)
+     * @param template holding the layout tree, i.e. a record containing controls (as a mapping between layout parts and
+     *            their contained settings controls) and a ruleSourcesMap (the mapping between ids of rule sources to
+     *            their conditions)
      * @param widgetTrees one ore multiple widget trees given by the annotated {@link WidgetGroup WidgetGroups}
      * @param parentWidgetTrees of the fields of the "outside" layout. With UIEXT-1673 This can be removed again
      * @param context the settings creation context with access to the input ports
      * @param asyncChoicesAdder used to start asynchronous computations of choices during the ui-schema generation.
      */
-    LayoutNodesGenerator(final TraversableLayoutTreeNode<TreeNode<WidgetGroup>> layoutTreeRoot,
-        final Collection<Tree<WidgetGroup>> widgetTrees, final Collection<Tree<WidgetGroup>> parentWidgetTrees,
-        final NodeParametersInput context) {
+    LayoutNodesGenerator(final UiSchemaTemplate template, final Collection<Tree<WidgetGroup>> widgetTrees,
+        final Collection<Tree<WidgetGroup>> parentWidgetTrees, final NodeParametersInput context) {
         m_rulesGenerator = new UiSchemaRulesGenerator(widgetTrees, context);
         m_allWidgetTrees = Stream.concat(widgetTrees.stream(), parentWidgetTrees.stream()).toList();
-        m_layoutTreeRoot = layoutTreeRoot;
+        m_template = template;
         m_defaultNodeSettingsContext = context;
     }
 
@@ -113,7 +113,7 @@ final class LayoutNodesGenerator {
 
     ObjectNode build() {
         final var rootNode = JsonFormsUiSchemaUtil.getMapper().createObjectNode();
-        buildLayout(m_layoutTreeRoot, rootNode.putArray(TAG_ELEMENTS));
+        buildLayout(m_template.getLayoutTreeRoot(), rootNode.putArray(TAG_ELEMENTS));
         return rootNode;
     }
 
@@ -176,8 +176,8 @@ final class LayoutNodesGenerator {
     private void addOptions(final TreeNode<WidgetGroup> node, final ObjectNode control) {
         final var scope = getScope(node);
         try {
-            new UiSchemaOptionsGenerator(node, m_defaultNodeSettingsContext, scope, m_allWidgetTrees)
-                .addOptionsTo(control);
+            m_template.addOptions(node, control,
+                () -> new UiSchemaOptionsGenerator(node, m_defaultNodeSettingsContext, scope, m_allWidgetTrees));
         } catch (UiSchemaGenerationException ex) {
             throw new UiSchemaGenerationException(
                 String.format("Error when generating the options of %s.: %s", scope, ex.getMessage()), ex);
@@ -0,0 +1,169 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent): created
+ */
+package org.knime.core.webui.node.dialog.defaultdialog.jsonforms.uischema;
+
+import static org.knime.core.webui.node.dialog.defaultdialog.jsonforms.JsonFormsConsts.UiSchema.TAG_PROVIDED_OPTIONS;
+import static org.knime.core.webui.node.dialog.defaultdialog.jsonforms.uischema.WidgetTreeToLayoutTree.widgetTreesToLayoutTreeRoot;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.knime.core.util.LRUCache;
+import org.knime.core.webui.node.dialog.defaultdialog.jsonforms.renderers.fromwidgettree.WidgetTreeRenderers;
+import org.knime.core.webui.node.dialog.defaultdialog.tree.ArrayParentNode;
+import org.knime.core.webui.node.dialog.defaultdialog.tree.Tree;
+import org.knime.core.webui.node.dialog.defaultdialog.tree.TreeFactory;
+import org.knime.core.webui.node.dialog.defaultdialog.tree.TreeNode;
+import org.knime.node.parameters.NodeParametersInput;
+import org.knime.node.parameters.WidgetGroup;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * The parts of a ui schema which only depend on the widget trees it is generated from and not on the
+ * {@link NodeParametersInput}: the layout tree and the options of those controls which are generated without access to
+ * the input. Templates are cached per combination of widget trees, which are themselves cached per settings class.
+ *
+ * The options of the controls are generated lazily on first use and never modified afterwards. They are copied into
+ * the ui schema of every dialog.
+ *
+ * @author agent
+ */
+final class UiSchemaTemplate {
+
+    private static final int MAX_CACHED_TEMPLATES_PER_CLASS = 8;
+
+    /**
+     * Keyed by the class of the first widget tree (see the tree cache in {@link TreeFactory} for why a
+     * {@link ClassValue} is used).
+     */
+    private static final ClassValue<Map<TemplateKey, UiSchemaTemplate>> TEMPLATES = new ClassValue<>() {
+        @Override
+        protected Map<TemplateKey, UiSchemaTemplate> computeValue(final Class<?> type) {
+            return new LRUCache<>(MAX_CACHED_TEMPLATES_PER_CLASS);
+        }
+    };
+
+    /** Trees are compared by identity */
+    private record TemplateKey(List<Tree<WidgetGroup>> widgetTrees, List<Tree<WidgetGroup>> parentWidgetTrees) {
+    }
+
+    private final TraversableLayoutTreeNode<TreeNode<WidgetGroup>> m_layoutTreeRoot;
+
+    private final Map<TreeNode<WidgetGroup>, ObjectNode> m_staticControlOptions = new ConcurrentHashMap<>();
+
+    private UiSchemaTemplate(final TraversableLayoutTreeNode<TreeNode<WidgetGroup>> layoutTreeRoot) {
+        m_layoutTreeRoot = layoutTreeRoot;
+    }
+
+    /**
+     * @param widgetTrees the widget trees the ui schema is generated from
+     * @param parentWidgetTrees the widget trees of the "outside" layout
+     * @return the cached or a new template
+     */
+    static UiSchemaTemplate get(final Collection<Tree<WidgetGroup>> widgetTrees,
+        final Collection<Tree<WidgetGroup>> parentWidgetTrees) {
+        if (widgetTrees.isEmpty()) {
+            return new UiSchemaTemplate(widgetTreesToLayoutTreeRoot(widgetTrees));
+        }
+        final var templates = TEMPLATES.get(widgetTrees.iterator().next().getRawClass());
+        final var key = new TemplateKey(List.copyOf(widgetTrees), List.copyOf(parentWidgetTrees));
+        synchronized (templates) {
+            final var cached = templates.get(key);
+            if (cached != null) {
+                return cached;
+            }
+        }
+        final var template = new UiSchemaTemplate(widgetTreesToLayoutTreeRoot(widgetTrees));
+        synchronized (templates) {
+            final var previous = templates.putIfAbsent(key, template);
+            return previous == null ? template : previous;
+        }
+    }
+
+    TraversableLayoutTreeNode<TreeNode<WidgetGroup>> getLayoutTreeRoot() {
+        return m_layoutTreeRoot;
+    }
+
+    /**
+     * Adds the options of the given node to the control. The options are taken from the template if they do not
+     * depend on the input, otherwise they are generated.
+     *
+     * @param node the node of the control
+     * @param control the control to which the options are added. It already contains the type and scope.
+     * @param generator generates the options for a given control
+     */
+    void addOptions(final TreeNode<WidgetGroup> node, final ObjectNode control,
+        final Supplier<UiSchemaOptionsGenerator> generator) {
+        if (control.has(TAG_PROVIDED_OPTIONS) || !areOptionsInputIndependent(node)) {
+            generator.get().addOptionsTo(control);
+            return;
+        }
+        var options = m_staticControlOptions.get(node);
+        if (options == null) {
+            options = JsonFormsUiSchemaUtil.getMapper().createObjectNode();
+            generator.get().addOptionsTo(options);
+            m_staticControlOptions.putIfAbsent(node, options);
+        }
+        options.fields().forEachRemaining(field -> control.set(field.getKey(), field.getValue().deepCopy()));
+    }
+
+    /**
+     * Array layouts contain the ui schema of their elements, optional widgets contain a time dependent default value
+     * and some renderers depend on the input.
+     */
+    private static boolean areOptionsInputIndependent(final TreeNode<WidgetGroup> node) {
+        return !(node instanceof ArrayParentNode<WidgetGroup>) && !node.isOptional()
+            && WidgetTreeRenderers.isRendererSpecInputIndependent(node);
+    }
+
+}
@@ -408,11 +408,17 @@ public abstract class PersistenceFactory<T> {
         }
 
         /**
-         * Per default, we persist by persisting all fields.
+         * Per default, we persist by persisting all fields. The properties of the children are extracted up front so
+         * that the resulting property does not need to interpret the annotations of the children again whenever it is
+         * used.
          */
         @Override
         public T getDefault() {
-            return getForTree(m_node, child -> extractFromTreeNode(child));
+            final Map<TreeNode<Persistable>, T> childProperties = new HashMap<>();
+            for (final var child : m_node.getChildren()) {
+                childProperties.put(child, extractFromTreeNode(child));
+            }
+            return getForTree(m_node, childProperties::get);
         }
 
         /**
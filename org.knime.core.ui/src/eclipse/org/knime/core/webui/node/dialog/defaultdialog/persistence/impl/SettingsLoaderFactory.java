@@ -74,6 +74,7 @@ import org.knime.core.webui.node.dialog.defaultdialog.persistence.internal.NewSe
 import org.knime.core.webui.node.dialog.defaultdialog.tree.ArrayParentNode;
 import org.knime.core.webui.node.dialog.defaultdialog.tree.LeafNode;
 import org.knime.core.webui.node.dialog.defaultdialog.tree.Tree;
+import org.knime.core.webui.node.dialog.defaultdialog.tree.TreeFactory;
 import org.knime.core.webui.node.dialog.defaultdialog.tree.TreeNode;
 import org.knime.node.parameters.migration.ConfigMigration;
 import org.knime.node.parameters.migration.ParametersLoader;
@@ -90,6 +91,19 @@ public final class SettingsLoaderFactory extends PersistenceFactory<ParametersLo
 
     private static final SettingsLoaderFactory INSTANCE = new SettingsLoaderFactory();
 
+    /**
+     * Loaders only depend on the settings class. They are compiled once per class, i.e. with all field accessors,
+     * config keys and persistors already resolved, and cached via a {@link ClassValue} (see the tree cache in
+     * {@link TreeFactory} for why).
+     */
+    private static final ClassValue<ParametersLoader> LOADERS = new ClassValue<>() {
+        @SuppressWarnings("unchecked")
+        @Override
+        protected ParametersLoader computeValue(final Class<?> type) {
+            return getInstance().extractFromSettings((Class<? extends Persistable>)type);
+        }
+    };
+
     private SettingsLoaderFactory() {
         // use getInstance
     }
@@ -112,12 +126,13 @@ public final class SettingsLoaderFactory extends PersistenceFactory<ParametersLo
 
     /**
      * @param settingsClass
-     * @return the loader for the given settings class
+     * @return the loader for the given settings class. It is cached, i.e. repeated calls for the same class return the
+     *         same loader.
      * @param <S> the type of the settings
      */
     @SuppressWarnings("unchecked")
     public static <S extends Persistable> ParametersLoader<S> createSettingsLoader(final Class<S> settingsClass) {
-        return getInstance().extractFromSettings(settingsClass);
+        return LOADERS.get(settingsClass);
     }
 
     @Override
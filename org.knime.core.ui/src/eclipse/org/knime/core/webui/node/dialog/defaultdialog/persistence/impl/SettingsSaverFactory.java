@@ -85,6 +85,17 @@ public final class SettingsSaverFactory extends PersistenceFactory<ParametersSav
 
     private static final SettingsSaverFactory INSTANCE = new SettingsSaverFactory();
 
+    /**
+     * Savers only depend on the settings class. Like the loaders of the {@link SettingsLoaderFactory}, they are
+     * compiled once per class and cached via a {@link ClassValue}.
+     */
+    private static final ClassValue<ParametersSaver> SAVERS = new ClassValue<>() {
+        @Override
+        protected ParametersSaver computeValue(final Class<?> type) {
+            return getInstance().extractFromSettings((Class<? extends Persistable>)type);
+        }
+    };
+
     private SettingsSaverFactory() {
         // use getInstance
     }
@@ -104,11 +115,12 @@ public final class SettingsSaverFactory extends PersistenceFactory<ParametersSav
 
     /**
      * @param settingsClass
-     * @return a settings saver for the given class.
+     * @return a settings saver for the given class. It is cached, i.e. repeated calls for the same class return the
+     *         same saver.
      * @param <S> the type of the settings to save.
      */
     public static <S extends Persistable> ParametersSaver<S> createSettingsSaver(final Class<S> settingsClass) {
-        return getInstance().extractFromSettings(settingsClass);
+        return SAVERS.get(settingsClass);
     }
 
     @Override
@@ -115,8 +115,9 @@ public final class PersistTreeFactory extends TreeFactory<Persistable> {
     }
 
     @Override
-    public Tree<Persistable> createTree(final Class<? extends Persistable> rootClass, final SettingsType settingsType) {
-        final var tree = super.createTree(rootClass, settingsType);
+    protected Tree<Persistable> createUncachedTree(final Class<? extends Persistable> rootClass,
+        final SettingsType settingsType) {
+        final var tree = super.createUncachedTree(rootClass, settingsType);
         resolvePersistEmbeddedAnnotations(tree);
         return tree;
     }
@@ -53,7 +53,9 @@ import java.lang.reflect.Field;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.function.Predicate;
 
@@ -88,6 +90,23 @@ import com.fasterxml.jackson.databind.ser.PropertyWriter;
  */
 public abstract class TreeFactory<S> {
 
+    /**
+     * Trees only depend on the root class, the settings type and the factory. They are cached per root class via a
+     * {@link ClassValue}: in contrast to a static map keyed by the class, the cached value is held by the class itself
+     * and therefore does not prevent the root class (and the class loader of the contributing bundle) from being
+     * unloaded. The other per-settings-class caches of the default dialog (schema and ui schema templates, settings
+     * loaders) follow the same approach for the same reason.
+     */
+    private static final ClassValue<Map<TreeCacheKey, Tree<?>>> TREE_CACHE = new ClassValue<>() {
+        @Override
+        protected Map<TreeCacheKey, Tree<?>> computeValue(final Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    private record TreeCacheKey(Class<?> factoryClass, SettingsType settingsType) {
+    }
+
     private final Collection<Class<? extends Annotation>> m_possibleTreeAnnotations;
 
     private final Collection<Class<? extends Annotation>> m_possibleLeafNodeAnnotations;
@@ -167,12 +186,37 @@ public abstract class TreeFactory<S> {
     }
 
     /**
+     * Trees are created only once per root class and settings type and are shared process-wide afterwards. They must
+     * hence not be modified after their creation.
+     *
+     * @param rootClass implementing {@link WidgetGroup}.
+     * @param settingsType "view" or "model" or null for element trees of array or dynamic widgets
+     * @return the full tree
+     */
+    @SuppressWarnings("unchecked") // the cache key contains the class of this factory
+    public final Tree<S> createTree(final Class<? extends S> rootClass, final SettingsType settingsType) {
+        final var treesOfClass = TREE_CACHE.get(rootClass);
+        final var key = new TreeCacheKey(getClass(), settingsType);
+        final var cached = treesOfClass.get(key);
+        if (cached != null) {
+            return (Tree<S>)cached;
+        }
+        // NB: not using computeIfAbsent since the creation of the tree might create (and cache) other trees
+        final var tree = createUncachedTree(rootClass, settingsType);
+        final var previous = treesOfClass.putIfAbsent(key, tree);
+        return previous == null ? tree : (Tree<S>)previous;
+    }
+
+    /**
+     * Creates a new tree without consulting the cache of {@link #createTree(Class, SettingsType)}. Subclasses
+     * extending this method to post-process the tree must only depend on the given arguments.
+     *
      * @param rootClass implementing {@link WidgetGroup}.
      * @param settingsType "view" or "model" or null for element trees of array or dynamic widgets
      * @return the full tree
      */
-    public Tree<S> createTree(final Class<? extends S> rootClass, final SettingsType settingsType) {
-        return createTree(new ObjectMapper().constructType(rootClass), settingsType);
+    protected Tree<S> createUncachedTree(final Class<? extends S> rootClass, final SettingsType settingsType) {
+        return createTree(getMapper().constructType(rootClass), settingsType);
     }
 
     private Tree<S> createTree(final JavaType rootType, final SettingsType settingsType) {
@@ -233,15 +277,19 @@ public abstract class TreeFactory<S> {
         node.addOrReplaceAnnotation(key, value);
     }
 
-    private static ObjectMapper mapper;
+    /** Lazily initialized on first use in a thread-safe way */
+    private static final class MapperHolder {
 
-    private static SerializerProvider serializerProvider;
+        private static final ObjectMapper MAPPER = createMapper();
 
-    private static ObjectMapper getMapper() {
-        if (mapper == null) {
-            mapper = createMapper();
+        private static final SerializerProvider SERIALIZER_PROVIDER = MAPPER.getSerializerProviderInstance();
+
+        private MapperHolder() {
         }
-        return mapper;
+    }
+
+    private static ObjectMapper getMapper() {
+        return MapperHolder.MAPPER;
     }
 
     private static ObjectMapper createMapper() {
@@ -263,10 +311,7 @@ public abstract class TreeFactory<S> {
     }
 
     private static SerializerProvider getSerializerProvider() {
-        if (serializerProvider == null) {
-            serializerProvider = getMapper().getSerializerProviderInstance();
-        }
-        return serializerProvider;
+        return MapperHolder.SERIALIZER_PROVIDER;
     }
 
     private static Iterator<PropertyWriter> getSerializableProperties(final JavaType type) {
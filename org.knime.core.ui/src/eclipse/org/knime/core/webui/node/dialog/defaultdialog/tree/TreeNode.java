@@ -49,6 +49,9 @@
 package org.knime.core.webui.node.dialog.defaultdialog.tree;
 
 import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Field;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -81,6 +84,10 @@ import com.fasterxml.jackson.databind.JavaType;
  */
 public sealed class TreeNode<S> permits LeafNode, Tree, ArrayParentNode {
 
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
     private final Tree<S> m_parent;
 
     private List<String> m_path;
@@ -97,6 +104,15 @@ public sealed class TreeNode<S> permits LeafNode, Tree, ArrayParentNode {
 
     private final Field m_underlyingField;
 
+    /**
+     * Accessors for the underlying field resolved once when the node is created, since they are invoked for every
+     * field whenever settings are loaded or saved. {@code null} if the field cannot be accessed via method handles (in
+     * which case the reflective access via the field is used).
+     */
+    private final MethodHandle m_getter;
+
+    private final MethodHandle m_setter;
+
     /**
      * @param parent the parent widget tree or {@code null} if it's the root
      * @param settingsType
@@ -115,6 +131,18 @@ public sealed class TreeNode<S> permits LeafNode, Tree, ArrayParentNode {
         m_annotations = toMap(annotations, possibleAnnotations);
         m_possibleAnnotations = possibleAnnotations;
         m_underlyingField = underlyingField;
+        m_getter = underlyingField == null ? null : unreflect(underlyingField, false);
+        m_setter = underlyingField == null ? null : unreflect(underlyingField, true);
+    }
+
+    private static MethodHandle unreflect(final Field field, final boolean setter) {
+        try {
+            final var lookup = MethodHandles.lookup();
+            return setter ? lookup.unreflectSetter(field).asType(SETTER_TYPE)
+                : lookup.unreflectGetter(field).asType(GETTER_TYPE);
+        } catch (IllegalAccessException ex) { // NOSONAR fall back to reflective access
+            return null;
+        }
     }
 
     static <K, V> Map<K, V> toMap(final Function<K, V> function, final Collection<K> keys) {
@@ -188,6 +216,20 @@ public sealed class TreeNode<S> permits LeafNode, Tree, ArrayParentNode {
      */
     public void setInParentValue(final Object parentValue, final Object value) {
         checkParentValue(parentValue);
+        if (m_setter != null) {
+            try {
+                m_setter.invokeExact(parentValue, value);
+                return;
+            } catch (ClassCastException | NullPointerException ex) {
+                // same exception as thrown by Field#set for incompatible or null primitive values
+                throw new IllegalArgumentException(
+                    String.format("Cannot set value %s to settings field %s.", value, getPath()), ex);
+            } catch (RuntimeException | Error ex) { // NOSONAR
+                throw ex;
+            } catch (Throwable ex) { // NOSONAR
+                throw new IllegalStateException(String.format("Could not set settings field %s.", getPath()), ex);
+            }
+        }
         try {
             m_underlyingField.set(parentValue, value); // NOSONAR
         } catch (IllegalAccessException ex) {
@@ -207,6 +249,15 @@ public sealed class TreeNode<S> permits LeafNode, Tree, ArrayParentNode {
      */
     public Object getFromParentValue(final Object parentValue) {
         checkParentValue(parentValue);
+        if (m_getter != null) {
+            try {
+                return m_getter.invokeExact(parentValue);
+            } catch (RuntimeException | Error ex) { // NOSONAR
+                throw ex;
+            } catch (Throwable ex) { // NOSONAR
+                throw new IllegalStateException(String.format("Could not access settings field %s.", getPath()), ex);
+            }
+        }
         try {
             return m_underlyingField.get(parentValue);
         } catch (IllegalAccessException ex) {
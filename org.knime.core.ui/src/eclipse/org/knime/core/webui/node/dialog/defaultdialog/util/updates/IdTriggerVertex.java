@@ -50,6 +50,7 @@ package org.knime.core.webui.node.dialog.defaultdialog.util.updates;
 
 import java.util.Objects;
 
+import org.knime.core.webui.node.dialog.defaultdialog.dataservice.Trigger;
 import org.knime.core.webui.node.dialog.defaultdialog.internal.widget.ButtonReferenceIdInternal;
 import org.knime.node.parameters.updates.ButtonReference;
 
@@ -65,7 +66,7 @@ final class IdTriggerVertex extends TriggerVertex {
 
     static final String BEFORE_OPEN_DIALOG_ID = "before-open-dialog";
 
-    static final String AFTER_OPEN_DIALOG_ID = "after-open-dialog";
+    static final String AFTER_OPEN_DIALOG_ID = Trigger.IdTrigger.AFTER_OPEN_DIALOG_ID;
 
     static final String AFTER_APPLY_DIALOG_ID = "after-apply-dialog";
 
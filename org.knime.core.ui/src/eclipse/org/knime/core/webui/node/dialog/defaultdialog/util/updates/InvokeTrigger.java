@@ -56,6 +56,10 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
@@ -87,16 +91,29 @@ final class InvokeTrigger<I> {
 
     private final NodeParametersInput m_context;
 
+    private final Executor m_executor;
+
+    private final StateProviderMemo m_memo;
+
+    private TriggerVertex m_invokedTrigger;
+
     /**
-     *
      * @param dependencyProvider providing the values of all {@link ParameterReference} dependencies that the triggered
      *            state providers will depend on.
      * @param context the context provided to triggered state providers
+     * @param executor if not {@code null}, state providers that do not depend on each other are computed concurrently
+     *            on this executor. Only chains of dependent state providers are computed one after another. The
+     *            calling thread waits for the computations, so it must not be a thread of this executor (see
+     *            {@link #computeStatesConcurrently(Collection)}).
+     * @param memo if not {@code null}, results of state providers are looked up in and added to this memo (see
+     *            {@link #isMemoizable(StateVertex)})
      */
     InvokeTrigger(final Function<LocationAndType, List<IndexedValue<I>>> dependencyProvider,
-        final NodeParametersInput context) {
+        final NodeParametersInput context, final Executor executor, final StateProviderMemo memo) {
         m_dependencyProvider = dependencyProvider;
         m_context = context;
+        m_executor = executor;
+        m_memo = memo;
     }
 
     /**
@@ -106,13 +123,108 @@ final class InvokeTrigger<I> {
      * @return a mapping from updated vertex to its associated state
      */
     public Map<UpdateVertex, List<IndexedValue<I>>> invokeTrigger(final TriggerVertex trigger) {
-        return trigger.visit(new GetTriggeredUpdatesVisitor()).stream().collect(//
+        m_invokedTrigger = trigger;
+        if (m_memo != null) {
+            m_memo.invalidateIfInputChanged(m_context);
+        }
+        final var triggeredUpdates = trigger.visit(new GetTriggeredUpdatesVisitor());
+        if (m_executor != null) {
+            computeStatesConcurrently(triggeredUpdates);
+        }
+        return triggeredUpdates.stream().collect(//
             Collectors.toMap(Function.identity(),
                 updateVertex -> updateVertex.visit(new ComputeVisitor()).indexedValues)//
         );
 
     }
 
+    /**
+     * Only the results of state providers that declared themselves pure are fully determined by the dependency values.
+     * Such a state provider still has to be recomputed if it is directly triggered by the invoked trigger (e.g. a
+     * button click requesting a refresh), unless the trigger is a value change of one of its dependencies.
+     */
+    private boolean isMemoizable(final StateVertex stateVertex) {
+        if (m_memo == null || !stateVertex.isPure()) {
+            return false;
+        }
+        if (!stateVertex.getParents().contains(m_invokedTrigger)) {
+            return true;
+        }
+        return m_invokedTrigger instanceof ValueTriggerVertex valueTrigger
+            && stateVertex.getParents().stream().anyMatch(parent -> parent instanceof DependencyVertex dependency
+                && dependency.isDependencyAt(valueTrigger.getLocation()));
+    }
+
+    /**
+     * Fills the cache with the states of all state vertices needed for the given updates. Every state vertex becomes
+     * a task that is started as soon as the states of its parent state vertices are known, so independent state
+     * providers run in parallel while the result is the same as for the sequential computation. The tasks do not block
+     * on each other, but the calling thread blocks until all of them are done. So the executor must not be one whose
+     * threads can end up in this method themselves (e.g. via a state provider computing updates of nested parameters)
+     * while tasks are still queued, since these could then never be started.
+     */
+    private void computeStatesConcurrently(final Collection<UpdateVertex> updateVertices) {
+        final var computeVisitor = new ComputeVisitor();
+        final var start = new CompletableFuture<Void>();
+        final Map<StateVertex, CompletableFuture<ValuesWithLevelOfNesting<I>>> futures = new HashMap<>();
+        for (var updateVertex : updateVertices) {
+            toFuture(getParentStateVertex(updateVertex, updateVertex.getResolvedStateProvider()), futures, start,
+                computeVisitor);
+        }
+        if (futures.size() < 2) {
+            // nothing to parallelize; the tasks are never started and the sequential computation takes over
+            return;
+        }
+        start.complete(null);
+        try {
+            CompletableFuture.allOf(futures.values().toArray(CompletableFuture[]::new)).join();
+        } catch (CompletionException e) {
+            futures.values().forEach(future -> future.cancel(false));
+            final var cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+        futures.forEach((stateVertex, future) -> m_cache.put(stateVertex, future.join()));
+    }
+
+    /**
+     * Dependency vertices are resolved directly on the calling thread, so neither the cache nor the dependency
+     * provider are accessed concurrently.
+     */
+    private CompletableFuture<ValuesWithLevelOfNesting<I>> toFuture(final StateVertex stateVertex,
+        final Map<StateVertex, CompletableFuture<ValuesWithLevelOfNesting<I>>> futures,
+        final CompletableFuture<Void> start, final ComputeVisitor computeVisitor) {
+        final var existing = futures.get(stateVertex);
+        if (existing != null) {
+            return existing;
+        }
+        final Map<Vertex, CompletableFuture<ValuesWithLevelOfNesting<I>>> parentFutures = new HashMap<>();
+        for (var parent : stateVertex.getParents()) {
+            if (parent instanceof StateVertex parentStateVertex) {
+                parentFutures.put(parent, toFuture(parentStateVertex, futures, start, computeVisitor));
+            } else {
+                final var parentValue = parent.visit(computeVisitor);
+                if (parentValue != null) {
+                    parentFutures.put(parent, CompletableFuture.completedFuture(parentValue));
+                }
+            }
+        }
+        final var prerequisites = Stream.concat(Stream.of(start), parentFutures.values().stream())
+            .toArray(CompletableFuture[]::new);
+        final var future = CompletableFuture.allOf(prerequisites).thenApplyAsync(unused -> {
+            final Map<Vertex, ValuesWithLevelOfNesting<I>> parentValues = new HashMap<>();
+            parentFutures.forEach((parent, parentFuture) -> parentValues.put(parent, parentFuture.join()));
+            return computeVisitor.computeStateVertexState(stateVertex, parentValues);
+        }, m_executor);
+        futures.put(stateVertex, future);
+        return future;
+    }
+
     private static final class GetTriggeredUpdatesVisitor implements VertexVisitor<Collection<UpdateVertex>> {
 
         @Override
@@ -254,6 +366,14 @@ final class InvokeTrigger<I> {
         private ValuesWithLevelOfNesting<I> computeStateVertexState(final StateVertex stateVertex) {
             final var parentValues = stateVertex.getParents().stream().map(v -> new Pair<>(v, v.visit(this)))
                 .filter(pair -> pair.getSecond() != null).collect(Collectors.toMap(Pair::getFirst, Pair::getSecond));
+            return computeStateVertexState(stateVertex, parentValues);
+        }
+
+        /**
+         * Does not access the cache and can thus be called concurrently for different state vertices.
+         */
+        private ValuesWithLevelOfNesting<I> computeStateVertexState(final StateVertex stateVertex,
+            final Map<Vertex, ValuesWithLevelOfNesting<I>> parentValues) {
             if (parentValues.values().stream().anyMatch(ValuesWithLevelOfNesting::isUndefined)) {
                 return ValuesWithLevelOfNesting.undefinedEmptyState();
             }
@@ -272,6 +392,21 @@ final class InvokeTrigger<I> {
             final Map<Vertex, ValuesWithLevelOfNesting<I>> parentValues) {
             final Function<Vertex, Object> getParentValue =
                 vertex -> extractParentObject(parentValues.get(vertex), indices);
+            if (isMemoizable(stateVertex)) {
+                final Map<Vertex, Object> dependencyValues = new HashMap<>();
+                parentValues.keySet().forEach(parent -> dependencyValues.put(parent, getParentValue.apply(parent)));
+                return m_memo.getOrCompute(stateVertex, indices, dependencyValues,
+                    () -> computeIndexedValue(indices, stateVertex, getParentValue));
+            }
+            return computeIndexedValue(indices, stateVertex, getParentValue);
+        }
+
+        private Optional<IndexedValue<I>> computeIndexedValue(final List<I> indices, final StateVertex stateVertex,
+            final Function<Vertex, Object> getParentValue) {
+            if (Thread.currentThread().isInterrupted()) {
+                // the request has been superseded by a newer one
+                throw new CancellationException("The computation of the state provider has been canceled.");
+            }
             final var initializer = new StateProviderInvocationInitializer(stateVertex, getParentValue);
             final var stateProvider = stateVertex.createStateProvider();
             StateProviderInitializerUtil.initializeStateProvider(stateProvider, initializer);
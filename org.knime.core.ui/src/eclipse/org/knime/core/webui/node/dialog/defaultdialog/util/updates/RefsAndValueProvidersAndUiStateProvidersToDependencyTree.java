@@ -270,6 +270,7 @@ final class RefsAndValueProvidersAndUiStateProvidersToDependencyTree {
                 if (stateProviderDependencyReceiver.m_computeAfterApplyDialog) {
                     parentVertices.add(getAfterApplyDialogVertex());
                 }
+                stateVertex.setPure(stateProviderDependencyReceiver.m_pure);
                 return parentVertices;
             }
 
@@ -310,6 +311,8 @@ final class RefsAndValueProvidersAndUiStateProvidersToDependencyTree {
 
         boolean m_computeAfterApplyDialog;
 
+        boolean m_pure;
+
         @Override
         public <T> Supplier<T> computeFromProvidedState(final Class<? extends StateProvider<T>> stateProviderClass) {
             getStateProviders().add(stateProviderClass);
@@ -341,6 +344,11 @@ final class RefsAndValueProvidersAndUiStateProvidersToDependencyTree {
             m_computeAfterApplyDialog = true;
         }
 
+        @Override
+        public void declarePure() {
+            m_pure = true;
+        }
+
         Collection<Class<? extends StateProvider>> getStateProviders() {
             return m_stateProviders;
         }
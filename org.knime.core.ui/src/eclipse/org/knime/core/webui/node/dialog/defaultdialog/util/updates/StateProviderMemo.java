@@ -0,0 +1,124 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent): created
+ */
+package org.knime.core.webui.node.dialog.defaultdialog.util.updates;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import org.knime.core.node.port.PortObjectSpec;
+import org.knime.core.util.LRUCache;
+import org.knime.node.parameters.NodeParametersInput;
+import org.knime.node.parameters.updates.StateProvider;
+
+/**
+ * Remembers the results of pure {@link StateProvider StateProviders} (see
+ * {@link StateProvider.StateProviderInitializer#declarePure()}) across trigger invocations of one dialog session. A
+ * result is reused if the same state provider is asked for the same array indices with equal dependency values, so
+ * that only those state providers whose dependencies actually changed are recomputed. Failed computations are not
+ * remembered. All results are dropped once the input specs of the context change.
+ *
+ * @author agent
+ */
+public final class StateProviderMemo {
+
+    private static final int MAX_ENTRIES = 1024;
+
+    private final LRUCache<MemoKey, Optional<?>> m_results = new LRUCache<>(MAX_ENTRIES);
+
+    private PortObjectSpec[] m_inputSpecs;
+
+    /**
+     * @param stateVertex identifying the state provider
+     * @param indices the indices of the computed value in case of array layouts
+     * @param dependencyValues the values the state provider is computed from, i.e. the values of referenced fields and
+     *            provided states. Values are compared via {@link Object#equals(Object)}.
+     */
+    private record MemoKey(StateVertex stateVertex, List<?> indices, Map<Vertex, Object> dependencyValues) {
+    }
+
+    /**
+     * Drops all results if the input specs differ from the ones of the previous invocation.
+     */
+    synchronized void invalidateIfInputChanged(final NodeParametersInput context) {
+        final var inputSpecs = context == null ? null : context.getInPortSpecs();
+        if (!Arrays.equals(m_inputSpecs, inputSpecs)) {
+            m_results.clear();
+            m_inputSpecs = inputSpecs == null ? null : inputSpecs.clone();
+        }
+    }
+
+    /**
+     * @param compute called if there is no result for the given key yet. It is not called while holding a lock, so
+     *            the same result might be computed concurrently.
+     * @return the remembered or newly computed result. An empty optional stands for a failed computation; it is not
+     *         remembered, such that the computation is repeated on the next invocation.
+     */
+    @SuppressWarnings("unchecked")
+    <T> Optional<T> getOrCompute(final StateVertex stateVertex, final List<?> indices,
+        final Map<Vertex, Object> dependencyValues, final Supplier<Optional<T>> compute) {
+        final var key = new MemoKey(stateVertex, indices, dependencyValues);
+        synchronized (this) {
+            final var result = m_results.get(key);
+            if (result != null) {
+                return (Optional<T>)result;
+            }
+        }
+        final var result = compute.get();
+        if (result.isPresent()) {
+            synchronized (this) {
+                m_results.putIfAbsent(key, result);
+            }
+        }
+        return result;
+    }
+
+}
@@ -67,6 +67,8 @@ final class StateVertex extends Vertex {
 
     private final Map<Object, DependencyVertex> m_dependencies = new HashMap<>();
 
+    private boolean m_pure;
+
     /**
      * @param resolved the resolved state provider
      */
@@ -92,6 +94,18 @@ final class StateVertex extends Vertex {
         return m_stateProviderSupplier.get();
     }
 
+    void setPure(final boolean pure) {
+        m_pure = pure;
+    }
+
+    /**
+     * @return whether the state provider declared that its state is fully determined by its dependencies (see
+     *         {@link org.knime.node.parameters.updates.StateProvider.StateProviderInitializer#declarePure()})
+     */
+    boolean isPure() {
+        return m_pure;
+    }
+
     @Override
     public boolean equals(final Object obj) {
         if (this == obj) {
@@ -54,6 +54,7 @@ import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
 
 import org.knime.core.webui.node.dialog.defaultdialog.dataservice.Trigger;
@@ -130,11 +131,48 @@ public class TriggerInvocationHandler<I> {
     public TriggerResult<I> invokeTrigger(final Trigger trigger,
         final Function<LocationAndType, List<IndexedValue<I>>> dependencyProvider,
         final NodeParametersInput context) {
+        return invokeTrigger(findTriggerVertex(trigger), dependencyProvider, context, null, null);
+    }
+
+    /**
+     * Same as {@link #invokeTrigger(Trigger, Function, NodeParametersInput)} but computes state providers that do not
+     * depend on each other concurrently. The result does not depend on the order in which they finish.
+     *
+     * @param trigger the to be invoked trigger
+     * @param dependencyProvider providing values for dependencies of this trigger (see {@link TriggerAndDependencies}).
+     *            It is only called from the calling thread.
+     * @param context provided to the triggered state providers
+     * @param executor to run independent state providers on. If {@code null}, all state providers are computed
+     *            sequentially on the calling thread.
+     * @return a mapping from identifiers of fields to their updated value
+     */
+    public TriggerResult<I> invokeTrigger(final Trigger trigger,
+        final Function<LocationAndType, List<IndexedValue<I>>> dependencyProvider, final NodeParametersInput context,
+        final Executor executor) {
+        return invokeTrigger(findTriggerVertex(trigger), dependencyProvider, context, executor, null);
+    }
+
+    /**
+     * Same as {@link #invokeTrigger(Trigger, Function, NodeParametersInput)} but reuses results of state providers
+     * whose dependencies did not change since they were last computed with the given memo.
+     *
+     * @param trigger the to be invoked trigger
+     * @param dependencyProvider providing values for dependencies of this trigger (see {@link TriggerAndDependencies})
+     * @param context provided to the triggered state providers
+     * @param memo the memo of the current dialog session
+     * @return a mapping from identifiers of fields to their updated value
+     */
+    public TriggerResult<I> invokeTrigger(final Trigger trigger,
+        final Function<LocationAndType, List<IndexedValue<I>>> dependencyProvider, final NodeParametersInput context,
+        final StateProviderMemo memo) {
+        return invokeTrigger(findTriggerVertex(trigger), dependencyProvider, context, null, memo);
+    }
+
+    private TriggerVertex findTriggerVertex(final Trigger trigger) {
         final var constructedTriggerVertex = toTriggerVertex(trigger);
-        final var triggerVertex = m_triggers.stream().filter(constructedTriggerVertex::equals).findFirst()
+        return m_triggers.stream().filter(constructedTriggerVertex::equals).findFirst()
             .orElseThrow(() -> new IllegalArgumentException(String
                 .format("Trigger %s not found in the list of triggers: %s", constructedTriggerVertex, m_triggers)));
-        return invokeTrigger(triggerVertex, dependencyProvider, context);
     }
 
     private static TriggerVertex toTriggerVertex(final Trigger trigger) {
@@ -148,10 +186,10 @@ public class TriggerInvocationHandler<I> {
     }
 
     private TriggerResult<I> invokeTrigger(final TriggerVertex triggerVertex,
-        final Function<LocationAndType, List<IndexedValue<I>>> dependencyProvider,
-        final NodeParametersInput context) {
+        final Function<LocationAndType, List<IndexedValue<I>>> dependencyProvider, final NodeParametersInput context,
+        final Executor executor, final StateProviderMemo memo) {
         final var resultPerUpdateHandler =
-            new InvokeTrigger<>(dependencyProvider, context).invokeTrigger(triggerVertex);
+            new InvokeTrigger<>(dependencyProvider, context, executor, memo).invokeTrigger(triggerVertex);
 
         final Map<Location, List<IndexedValue<I>>> valueUpdates = new HashMap<>();
         final Map<Location, Map<String, List<IndexedValue<I>>>> otherLocationUpdates = new HashMap<>();
@@ -52,7 +52,7 @@ import java.util.Arrays;
 import java.util.List;
 
 import org.knime.core.webui.node.dialog.defaultdialog.widget.choices.DomainChoicesUtil;
-import org.knime.core.webui.node.dialog.defaultdialog.widget.handler.ErrorHandlingSingleton;
+import org.knime.core.webui.node.dialog.defaultdialog.widget.handler.RequestErrorContext;
 import org.knime.core.webui.node.dialog.defaultdialog.widget.handler.WidgetHandlerException;
 import org.knime.node.parameters.NodeParametersInput;
 import org.knime.node.parameters.updates.StateProvider;
@@ -74,7 +74,7 @@ public interface DomainValuesProvider extends StateProvider<List<String>> {
         } catch (WidgetHandlerException e) { //NOSONAR
             final var stackTrace = String.join("\n",
                 Arrays.stream(e.getStackTrace()).map(StackTraceElement::toString).toArray(String[]::new));
-            ErrorHandlingSingleton.addErrorMessage(e.getMessage() + "\n\n" + stackTrace);
+            RequestErrorContext.addErrorMessage(e.getMessage() + "\n\n" + stackTrace);
             return List.of();
         }
     }
@@ -0,0 +1,145 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Apr 8, 2024 (Paul Bärnreuther): created
+ *   Oct 18, 2026 (agent): renamed from ErrorHandlingSingleton, collects the messages per request
+ */
+package org.knime.core.webui.node.dialog.defaultdialog.widget.handler;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+import org.knime.core.node.NodeLogger;
+
+/**
+ * Collects the error messages of a single dialog data service request, so that handlers (e.g. state providers) can
+ * report an error while still having an effect. A context is bound to the thread that computes the request via
+ * {@link #wrap(Callable)} and can be carried on to further threads via {@link #propagate(Runnable)}. Concurrent
+ * requests thus never see each other's messages.
+ *
+ * @author Paul Bärnreuther
+ * @author agent
+ */
+public final class RequestErrorContext {
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(RequestErrorContext.class);
+
+    private static final ThreadLocal<RequestErrorContext> CURRENT = new ThreadLocal<>();
+
+    private final List<String> m_messages = new ArrayList<>(0);
+
+    /**
+     * @param <T> the type of the result
+     * @param callable to be run within this context
+     * @return a callable that runs the given one with this context bound to the executing thread
+     */
+    public <T> Callable<T> wrap(final Callable<T> callable) {
+        return () -> {
+            final var previous = CURRENT.get();
+            CURRENT.set(this);
+            try {
+                return callable.call();
+            } finally {
+                restore(previous);
+            }
+        };
+    }
+
+    /**
+     * @param runnable to be run on another thread
+     * @return a runnable that runs the given one within the context of the calling thread (if there is any)
+     */
+    public static Runnable propagate(final Runnable runnable) {
+        final var context = CURRENT.get();
+        if (context == null) {
+            return runnable;
+        }
+        return () -> {
+            final var previous = CURRENT.get();
+            CURRENT.set(context);
+            try {
+                runnable.run();
+            } finally {
+                restore(previous);
+            }
+        };
+    }
+
+    private static void restore(final RequestErrorContext previous) {
+        if (previous == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(previous);
+        }
+    }
+
+    /**
+     * Adds an error message to the context of the current request. Outside of a request, the message is only logged.
+     *
+     * @param errorMessage the message to be shown to the user
+     */
+    public static void addErrorMessage(final String errorMessage) {
+        final var context = CURRENT.get();
+        if (context == null) {
+            LOGGER.warn(errorMessage);
+            return;
+        }
+        synchronized (context.m_messages) {
+            context.m_messages.add(errorMessage);
+        }
+    }
+
+    /**
+     * @return a copy of all error messages that have been added within this context so far
+     */
+    public List<String> getErrorMessages() {
+        synchronized (m_messages) {
+            return List.copyOf(m_messages);
+        }
+    }
+
+}
@@ -233,8 +233,9 @@ public class WidgetTreeFactory extends TreeFactory<WidgetGroup> {
     }
 
     @Override
-    public Tree<WidgetGroup> createTree(final Class<? extends WidgetGroup> rootClass, final SettingsType settingsType) {
-        final var tree = super.createTree(rootClass, settingsType);
+    protected Tree<WidgetGroup> createUncachedTree(final Class<? extends WidgetGroup> rootClass,
+        final SettingsType settingsType) {
+        final var tree = super.createUncachedTree(rootClass, settingsType);
         resolveWidgetModifications(tree);
         performInternalModifications(tree, super::performAddOrReplaceAnnotation);
         propagateLayoutAdvancedAndEffectAnnotationsToChildren(tree);
@@ -105,6 +105,9 @@ public abstract class AbstractDefaultScriptingNodeDialog extends AbstractScripti
     public record StaticCompletionItem(String name, String arguments, String description, String returnType) {
     }
 
+    /** The number of sub items (e.g. columns) per input/output model sent with the initial data */
+    private static final int INPUT_OUTPUT_MODEL_PAGE_SIZE = 500;
+
     private final DefaultScriptingNodeScriptingService m_scriptingService;
 
     /**
@@ -134,6 +137,18 @@ public abstract class AbstractDefaultScriptingNodeDialog extends AbstractScripti
     @Override
     protected abstract GenericInitialDataBuilder getInitialData(NodeContext context);
 
+    /**
+     * Use for the "inputObjects" and "flowVariables" of the {@link #getInitialData(NodeContext) initial data} if there
+     * can be many sub items (e.g. very wide input tables). Only the first sub items of each model are sent with the
+     * initial data, further ones are fetched by the frontend on demand.
+     *
+     * @param models the models with all sub items
+     * @return the models with only the first sub items
+     */
+    protected final InputOutputModel[] withPaginatedSubItems(final InputOutputModel... models) {
+        return m_scriptingService.registerInputOutputModels(INPUT_OUTPUT_MODEL_PAGE_SIZE, models);
+    }
+
     @Override
     public Page getPage() {
         return Page.create() //
@@ -148,6 +163,7 @@ public abstract class AbstractDefaultScriptingNodeDialog extends AbstractScripti
     protected RpcDataServiceBuilder getDataServiceBuilder(final NodeContext context) {
         return RpcDataService.builder() //
             .addService("ScriptingService", m_scriptingService.getJsonRpcService()) //
+            .precompiledDispatch() //
             .onDeactivate(m_scriptingService::onDeactivate);
     }
 }
@@ -0,0 +1,343 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent): created
+ */
+package org.knime.core.webui.node.dialog.scripting;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.knime.core.webui.node.dialog.scripting.ScriptingService.ConsoleOutputOverflowPolicy;
+import org.knime.core.webui.node.dialog.scripting.ScriptingService.ConsoleText;
+
+/**
+ * Buffers the console output of a scripting session until the frontend fetches it, using a fixed byte budget.
+ *
+ * The text is stored UTF-8 encoded in ring buffers of records (one byte for the stream, four bytes for the length,
+ * followed by the text). Subsequent outputs to the same stream extend the last record. If the budget is exceeded, the
+ * oldest output is dropped - or, with {@link ConsoleOutputOverflowPolicy#KEEP_HEAD_AND_TAIL}, the output between the
+ * first and the last half of the budget. The number of dropped lines is reported to the frontend in place of the
+ * dropped output. Hence, the memory used stays constant no matter how much a script prints.
+ *
+ * @author agent
+ */
+final class ConsoleOutputBuffer {
+
+    private static final int HEADER_SIZE = 5;
+
+    private static final int MIN_BUDGET = 64;
+
+    private final RecordRing m_head;
+
+    private final RecordRing m_tail;
+
+    private boolean m_headClosed;
+
+    /**
+     * @param budget the maximum number of bytes to buffer
+     * @param policy what to keep if the budget is exceeded
+     */
+    ConsoleOutputBuffer(final int budget, final ConsoleOutputOverflowPolicy policy) {
+        final var b = Math.max(budget, MIN_BUDGET);
+        if (policy == ConsoleOutputOverflowPolicy.KEEP_HEAD_AND_TAIL) {
+            m_head = new RecordRing(b / 2);
+            m_tail = new RecordRing(b - b / 2);
+        } else {
+            m_head = null;
+            m_tail = new RecordRing(b);
+        }
+    }
+
+    /**
+     * @param text the console output to append
+     * @param stderr whether it's written to the standard error stream
+     * @return {@code true} if the buffer was empty before
+     */
+    synchronized boolean append(final String text, final boolean stderr) {
+        if (text.isEmpty()) {
+            return false;
+        }
+        final var wasEmpty = isEmpty();
+        final var bytes = text.getBytes(StandardCharsets.UTF_8);
+        var off = 0;
+        if (m_head != null && !m_headClosed) {
+            off = m_head.appendFitting(bytes, 0, bytes.length, stderr);
+            if (off < bytes.length) {
+                m_headClosed = true;
+            }
+        }
+        if (off < bytes.length) {
+            m_tail.appendDroppingOldest(bytes, off, bytes.length - off, stderr);
+        }
+        return wasEmpty;
+    }
+
+    /**
+     * Removes the buffered console output.
+     *
+     * @return the console output since the last call
+     */
+    synchronized List<ConsoleText> drain() {
+        final var res = new ArrayList<ConsoleText>();
+        if (m_head != null) {
+            m_head.drainTo(res);
+        }
+        if (m_tail.m_droppedBytes > 0) {
+            res.add(new ConsoleText("\n[... " + m_tail.m_droppedLines + " lines (" + m_tail.m_droppedBytes
+                + " bytes) of console output omitted ...]\n", true));
+        }
+        m_tail.drainTo(res);
+        clear();
+        return res;
+    }
+
+    /**
+     * Discards the buffered console output.
+     */
+    synchronized void clear() {
+        if (m_head != null) {
+            m_head.clear();
+        }
+        m_tail.clear();
+        m_headClosed = false;
+    }
+
+    private boolean isEmpty() {
+        return (m_head == null || m_head.m_size == 0) && m_tail.m_size == 0 && m_tail.m_droppedBytes == 0;
+    }
+
+    private static boolean isContinuationByte(final byte b) {
+        return (b & 0xC0) == 0x80;
+    }
+
+    /**
+     * A ring buffer of console output records.
+     */
+    private static final class RecordRing {
+
+        private final byte[] m_bytes;
+
+        private int m_start;
+
+        private int m_size;
+
+        /** Physical position of the header of the last record or -1 if there is none */
+        private int m_lastHeader = -1;
+
+        private long m_droppedBytes;
+
+        private long m_droppedLines;
+
+        RecordRing(final int capacity) {
+            m_bytes = new byte[capacity];
+        }
+
+        /**
+         * Appends as much of the given text as fits into the remaining space.
+         *
+         * @return the number of bytes appended
+         */
+        int appendFitting(final byte[] b, final int off, final int len, final boolean stderr) {
+            final var header = canExtendLastRecord(stderr) ? 0 : HEADER_SIZE;
+            final var free = m_bytes.length - m_size - header;
+            if (free <= 0) {
+                return 0;
+            }
+            var n = Math.min(len, free);
+            // don't split multi-byte characters
+            while (n < len && n > 0 && isContinuationByte(b[off + n])) {
+                n--;
+            }
+            if (n > 0) {
+                append(b, off, n, stderr);
+            }
+            return n;
+        }
+
+        void appendDroppingOldest(final byte[] b, final int off, final int len, final boolean stderr) {
+            var o = off;
+            var l = len;
+            final var maxLen = m_bytes.length - HEADER_SIZE;
+            if (l > maxLen) {
+                // only the end of the text fits at all
+                var skip = l - maxLen;
+                while (skip < l && isContinuationByte(b[o + skip])) {
+                    skip++;
+                }
+                m_droppedBytes += skip;
+                m_droppedLines += countLines(b, o, skip);
+                o += skip;
+                l -= skip;
+            }
+            while (m_bytes.length - m_size < (canExtendLastRecord(stderr) ? l : (l + HEADER_SIZE))) {
+                dropOldest(l + HEADER_SIZE - (m_bytes.length - m_size));
+            }
+            if (l > 0) {
+                append(b, o, l, stderr);
+            }
+        }
+
+        private boolean canExtendLastRecord(final boolean stderr) {
+            return m_lastHeader >= 0 && (m_bytes[m_lastHeader] != 0) == stderr;
+        }
+
+        private void append(final byte[] b, final int off, final int len, final boolean stderr) {
+            if (canExtendLastRecord(stderr)) {
+                putInt(m_lastHeader + 1, getInt(m_lastHeader + 1) + len);
+            } else {
+                m_lastHeader = pos(m_size);
+                m_bytes[m_lastHeader] = (byte)(stderr ? 1 : 0);
+                putInt(m_lastHeader + 1, len);
+                m_size += HEADER_SIZE;
+            }
+            final var start = pos(m_size);
+            final var firstPart = Math.min(len, m_bytes.length - start);
+            System.arraycopy(b, off, m_bytes, start, firstPart);
+            System.arraycopy(b, off + firstPart, m_bytes, 0, len - firstPart);
+            m_size += len;
+        }
+
+        /**
+         * Drops (at least) the given number of bytes from the beginning, either by dropping the first record
+         * completely or by removing the beginning of its text.
+         */
+        private void dropOldest(final int numBytes) {
+            final var length = getInt(m_start + 1);
+            var drop = Math.max(numBytes, 1);
+            if (drop < length) {
+                while (drop < length && isContinuationByte(m_bytes[pos(HEADER_SIZE + drop)])) {
+                    drop++;
+                }
+            }
+            if (drop >= length) {
+                m_droppedBytes += length;
+                m_droppedLines += countLines(HEADER_SIZE, length);
+                if (m_lastHeader == m_start) {
+                    m_lastHeader = -1;
+                }
+                m_start = pos(HEADER_SIZE + length);
+                m_size -= HEADER_SIZE + length;
+            } else {
+                m_droppedBytes += drop;
+                m_droppedLines += countLines(HEADER_SIZE, drop);
+                final var stream = m_bytes[m_start];
+                final var isLast = m_lastHeader == m_start;
+                m_start = pos(drop);
+                m_size -= drop;
+                m_bytes[m_start] = stream;
+                putInt(m_start + 1, length - drop);
+                if (isLast) {
+                    m_lastHeader = m_start;
+                }
+            }
+        }
+
+        void drainTo(final List<ConsoleText> out) {
+            var i = 0;
+            while (i < m_size) {
+                final var stderr = m_bytes[pos(i)] != 0;
+                final var length = getInt(pos(i) + 1);
+                final var text = new byte[length];
+                final var start = pos(i + HEADER_SIZE);
+                final var firstPart = Math.min(length, m_bytes.length - start);
+                System.arraycopy(m_bytes, start, text, 0, firstPart);
+                System.arraycopy(m_bytes, 0, text, firstPart, length - firstPart);
+                out.add(new ConsoleText(new String(text, StandardCharsets.UTF_8), stderr));
+                i += HEADER_SIZE + length;
+            }
+        }
+
+        void clear() {
+            m_start = 0;
+            m_size = 0;
+            m_lastHeader = -1;
+            m_droppedBytes = 0;
+            m_droppedLines = 0;
+        }
+
+        /** Maps a position relative to the start to the physical position */
+        private int pos(final int relative) {
+            return (m_start + relative) % m_bytes.length;
+        }
+
+        private int getInt(final int physical) {
+            var res = 0;
+            for (var k = 0; k < 4; k++) {
+                res = (res << 8) | (m_bytes[(physical + k) % m_bytes.length] & 0xFF);
+            }
+            return res;
+        }
+
+        private void putInt(final int physical, final int value) {
+            for (var k = 0; k < 4; k++) {
+                m_bytes[(physical + k) % m_bytes.length] = (byte)(value >>> (24 - 8 * k));
+            }
+        }
+
+        private int countLines(final int relativeOff, final int len) {
+            var n = 0;
+            for (var k = 0; k < len; k++) {
+                if (m_bytes[pos(relativeOff + k)] == '\n') {
+                    n++;
+                }
+            }
+            return n;
+        }
+
+        private static int countLines(final byte[] b, final int off, final int len) {
+            var n = 0;
+            for (var k = off; k < off + len; k++) {
+                if (b[k] == '\n') {
+                    n++;
+                }
+            }
+            return n;
+        }
+    }
+
+}
@@ -78,9 +78,13 @@ import org.knime.core.node.workflow.VariableType;
  *            }[] } that can be used to fill in the subItems.
  * @param requiredImport The import statement that is needed to use this object or null if there is none.
  * @param multiSelection Whether to enable simultaneous selection of multiple subitems in the frontend
- * @param subItems A (possibly empty) list of sub items.
+ * @param subItems A (possibly empty) list of sub items. Might only be the first page of all sub items (see
+ *            {@link #numSubItems()}).
  * @param portType The type of this item, e.g. flow variable, input table, etc.
  * @param portIconColor The color of the port icon.
+ * @param numSubItems The total number of sub items. If larger than the number of {@link #subItems()}, the remaining
+ *            sub items can be fetched on demand (see
+ *            {@link ScriptingService#registerInputOutputModels(int, InputOutputModel...)}).
  * @noreference This record is not intended to be referenced by clients.
  */
 public record InputOutputModel(String name, //
@@ -90,7 +94,8 @@ public record InputOutputModel(String name, //
     boolean multiSelection, //
     InputOutputModelSubItem[] subItems, //
     String portType, //
-    String portIconColor //
+    String portIconColor, //
+    int numSubItems //
 ) {
 
     public static final String FLOW_VAR_PORT_TYPE_NAME = "flowVariable";
@@ -107,6 +112,37 @@ public record InputOutputModel(String name, //
 
     private static final String UNSUPPORTED_TYPE = "not supported";
 
+    /**
+     * Creates a new model with all sub items included.
+     *
+     * @param name see {@link #name()}
+     * @param codeAlias see {@link #codeAlias()}
+     * @param subItemCodeAliasTemplate see {@link #subItemCodeAliasTemplate()}
+     * @param requiredImport see {@link #requiredImport()}
+     * @param multiSelection see {@link #multiSelection()}
+     * @param subItems see {@link #subItems()}
+     * @param portType see {@link #portType()}
+     * @param portIconColor see {@link #portIconColor()}
+     */
+    public InputOutputModel(final String name, final String codeAlias, final String subItemCodeAliasTemplate, // NOSONAR
+        final String requiredImport, final boolean multiSelection, final InputOutputModelSubItem[] subItems,
+        final String portType, final String portIconColor) {
+        this(name, codeAlias, subItemCodeAliasTemplate, requiredImport, multiSelection, subItems, portType,
+            portIconColor, subItems == null ? 0 : subItems.length);
+    }
+
+    /**
+     * @param pageSize the maximum number of sub items to keep
+     * @return a copy of this model with only the first sub items but the same {@link #numSubItems()}
+     */
+    public InputOutputModel withFirstSubItems(final int pageSize) {
+        if (subItems == null || subItems.length <= pageSize) {
+            return this;
+        }
+        return new InputOutputModel(name, codeAlias, subItemCodeAliasTemplate, requiredImport, multiSelection,
+            Arrays.copyOf(subItems, Math.max(pageSize, 0)), portType, portIconColor, numSubItems);
+    }
+
     @Override
     public boolean equals(final Object other) {
         if (other instanceof InputOutputModel o) {
@@ -117,7 +153,8 @@ public record InputOutputModel(String name, //
                 && multiSelection == o.multiSelection //
                 && Objects.deepEquals(subItems, o.subItems) //
                 && Objects.equals(portType, o.portType) //
-                && Objects.equals(portIconColor, o.portIconColor); //
+                && Objects.equals(portIconColor, o.portIconColor) //
+                && numSubItems == o.numSubItems; //
         }
         return false;
     }
@@ -132,7 +169,8 @@ public record InputOutputModel(String name, //
             multiSelection, //
             Arrays.deepHashCode(subItems), //
             portType, //
-            portIconColor //
+            portIconColor, //
+            numSubItems //
         );
     }
 
@@ -146,6 +184,7 @@ public record InputOutputModel(String name, //
             + ", subItems=" + Arrays.toString(subItems) //
             + ", portType=" + portType //
             + ", portIconColor=" + portIconColor //
+            + ", numSubItems=" + numSubItems //
             + "]";
     }
 
@@ -0,0 +1,142 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent): created
+ */
+package org.knime.core.webui.node.dialog.scripting;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Locale;
+import java.util.stream.IntStream;
+
+import org.knime.core.webui.node.dialog.scripting.InputOutputModel.InputOutputModelSubItem;
+
+/**
+ * Gives paginated and prefix-searchable access to all sub items of an {@link InputOutputModel} such that only the
+ * first page needs to be sent to the frontend with the initial data (see
+ * {@link ScriptingService#registerInputOutputModels(int, InputOutputModel...)}).
+ *
+ * @author agent
+ */
+final class InputOutputModelSubItemIndex {
+
+    private static final InputOutputModelSubItem[] EMPTY = new InputOutputModelSubItem[0];
+
+    private final InputOutputModel m_model;
+
+    private final InputOutputModelSubItem[] m_subItems;
+
+    // lazily initialized on the first search
+    private String[] m_sortedNames;
+
+    private int[] m_sortedPositions;
+
+    InputOutputModelSubItemIndex(final InputOutputModel model) {
+        m_model = model;
+        m_subItems = model.subItems() == null ? EMPTY : model.subItems();
+    }
+
+    /**
+     * @return the model with all sub items
+     */
+    InputOutputModel getModel() {
+        return m_model;
+    }
+
+    /**
+     * @param offset the index of the first sub item
+     * @param limit the maximum number of sub items
+     * @return the sub items in their original order
+     */
+    InputOutputModelSubItem[] getSubItems(final int offset, final int limit) {
+        final var from = Math.min(Math.max(offset, 0), m_subItems.length);
+        final var to = (int)Math.min((long)from + Math.max(limit, 0), m_subItems.length);
+        return Arrays.copyOfRange(m_subItems, from, to);
+    }
+
+    /**
+     * @param namePrefix the case-insensitive prefix of the sub item names
+     * @param limit the maximum number of sub items
+     * @return the sub items whose name starts with the given prefix in their original order
+     */
+    InputOutputModelSubItem[] searchByPrefix(final String namePrefix, final int limit) {
+        final var prefix = namePrefix == null ? "" : namePrefix.toLowerCase(Locale.ROOT);
+        ensureSorted();
+        var from = Arrays.binarySearch(m_sortedNames, prefix);
+        if (from < 0) {
+            from = -from - 1;
+        } else {
+            // there might be multiple names equal to the prefix
+            while (from > 0 && m_sortedNames[from - 1].equals(prefix)) {
+                from--;
+            }
+        }
+        final var positions = new ArrayList<Integer>();
+        for (var i = from; i < m_sortedNames.length && positions.size() < limit
+            && m_sortedNames[i].startsWith(prefix); i++) {
+            positions.add(m_sortedPositions[i]);
+        }
+        return positions.stream().sorted().map(p -> m_subItems[p]).toArray(InputOutputModelSubItem[]::new);
+    }
+
+    private synchronized void ensureSorted() {
+        if (m_sortedNames == null) {
+            final var positions = IntStream.range(0, m_subItems.length).boxed()
+                .sorted(Comparator.comparing(i -> m_subItems[i].name().toLowerCase(Locale.ROOT))).toList();
+            final var names = new String[positions.size()];
+            final var sortedPositions = new int[positions.size()];
+            for (var i = 0; i < names.length; i++) {
+                sortedPositions[i] = positions.get(i);
+                names[i] = m_subItems[sortedPositions[i]].name().toLowerCase(Locale.ROOT);
+            }
+            m_sortedPositions = sortedPositions;
+            m_sortedNames = names;
+        }
+    }
+
+}
@@ -0,0 +1,186 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent): created
+ */
+package org.knime.core.webui.node.dialog.scripting;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.knime.core.node.NodeLogger;
+
+/**
+ * A dedicated channel for the messages from the language server to the frontend, separate from the other scripting
+ * events. Messages are kept as the raw (UTF-8 encoded JSON) bytes they were received as.
+ *
+ * The channel has its own flow control: if more than the byte budget is waiting to be fetched by the frontend, the
+ * producer (i.e. the thread reading the language server output) is blocked until the frontend catches up. This
+ * propagates the backpressure to the language server process instead of buffering an unbounded number of messages.
+ * If the frontend does not catch up within a bounded time (e.g. because it stopped fetching), the channel is closed
+ * instead of blocking the producer forever. Otherwise the language server would stall and stop reading its input,
+ * which in turn would block the threads sending messages to it.
+ *
+ * @author agent
+ */
+final class LanguageServerMessageChannel {
+
+    private static final NodeLogger LOGGER = NodeLogger.getLogger(LanguageServerMessageChannel.class);
+
+    private static final long DEFAULT_MAX_PUT_WAIT_MILLIS = 30_000;
+
+    private final Deque<byte[]> m_messages = new ArrayDeque<>();
+
+    private final long m_budget;
+
+    private final long m_maxPutWaitNanos;
+
+    private long m_numBytes;
+
+    private boolean m_closed;
+
+    /**
+     * @param budget the maximum number of bytes waiting to be fetched before the producer is blocked
+     */
+    LanguageServerMessageChannel(final long budget) {
+        this(budget, DEFAULT_MAX_PUT_WAIT_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * @param budget the maximum number of bytes waiting to be fetched before the producer is blocked
+     * @param maxPutWait the maximum time the producer is blocked before the channel is closed
+     * @param unit the unit of the maximum wait time
+     */
+    LanguageServerMessageChannel(final long budget, final long maxPutWait, final TimeUnit unit) {
+        m_budget = budget;
+        m_maxPutWaitNanos = unit.toNanos(maxPutWait);
+    }
+
+    /**
+     * Adds a message to the channel, waiting as long as the channel is full. A single message which exceeds the
+     * budget is accepted once the channel is empty. Messages are discarded if the channel is closed. If the channel
+     * is still full after the maximum wait time, it is closed.
+     *
+     * @param message the raw message
+     * @throws InterruptedException if interrupted while waiting
+     */
+    synchronized void put(final byte[] message) throws InterruptedException {
+        final var deadline = System.nanoTime() + m_maxPutWaitNanos;
+        while (!m_closed && !m_messages.isEmpty() && m_numBytes + message.length > m_budget) {
+            final var remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                LOGGER.warn("The language server messages are not fetched. Closing the message channel.");
+                close();
+                return;
+            }
+            TimeUnit.NANOSECONDS.timedWait(this, remaining);
+        }
+        if (!m_closed) {
+            m_messages.add(message);
+            m_numBytes += message.length;
+            notifyAll();
+        }
+    }
+
+    /**
+     * Takes all messages up to the given number of bytes (but at least one message). Waits for the first message if
+     * the channel is empty.
+     *
+     * @param timeout the maximum time to wait for the first message
+     * @param unit the unit of the timeout
+     * @param maxBytes the number of bytes after which no further messages are taken
+     * @return the messages; empty if no message arrived within the timeout; {@code null} if the channel is closed,
+     *         i.e. no further messages will arrive until it is opened again
+     * @throws InterruptedException if interrupted while waiting
+     */
+    synchronized List<byte[]> take(final long timeout, final TimeUnit unit, final long maxBytes)
+        throws InterruptedException {
+        final var deadline = System.nanoTime() + unit.toNanos(timeout);
+        var remaining = unit.toNanos(timeout);
+        while (!m_closed && m_messages.isEmpty() && remaining > 0) {
+            TimeUnit.NANOSECONDS.timedWait(this, remaining);
+            remaining = deadline - System.nanoTime();
+        }
+        if (m_closed) {
+            return null; // NOSONAR null signals the consumer to stop polling
+        }
+        final var res = new ArrayList<byte[]>();
+        var numBytes = 0L;
+        while (!m_messages.isEmpty() && (res.isEmpty() || numBytes + m_messages.peek().length <= maxBytes)) {
+            final var message = m_messages.poll();
+            res.add(message);
+            numBytes += message.length;
+        }
+        m_numBytes -= numBytes;
+        if (!res.isEmpty()) {
+            notifyAll();
+        }
+        return res;
+    }
+
+    /**
+     * Opens the channel (again), discarding messages of a previous language server.
+     */
+    synchronized void open() {
+        m_messages.clear();
+        m_numBytes = 0;
+        m_closed = false;
+    }
+
+    /**
+     * Closes the channel, discards all pending messages and releases waiting producers and consumers.
+     */
+    synchronized void close() {
+        m_closed = true;
+        m_messages.clear();
+        m_numBytes = 0;
+        notifyAll();
+    }
+
+}
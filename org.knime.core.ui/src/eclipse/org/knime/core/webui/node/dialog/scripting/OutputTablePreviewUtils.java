@@ -55,6 +55,9 @@ import java.net.URISyntaxException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.stream.LongStream;
 
 import org.eclipse.core.runtime.FileLocator;
 import org.eclipse.core.runtime.Platform;
@@ -102,6 +105,49 @@ public final class OutputTablePreviewUtils {
         String getInitialData();
     }
 
+    /** The default number of rows an output table preview is computed on. */
+    public static final int DEFAULT_PREVIEW_ROW_BUDGET = 1000;
+
+    /**
+     * How the input rows the output table preview is computed on are selected.
+     */
+    public enum PreviewRowSampling {
+
+            /** The first rows of the input table */
+            FIRST_ROWS,
+
+            /** Rows sampled uniformly at random from the whole input table (kept in their original order) */
+            RANDOM_SAMPLE;
+
+    }
+
+    /**
+     * Selects the input rows to compute the output table preview on.
+     *
+     * @param totalNumberOfRows the number of rows of the input table
+     * @param rowBudget the maximum number of rows to select
+     * @param sampling how to select the rows
+     * @param seed the seed for {@link PreviewRowSampling#RANDOM_SAMPLE}; the same seed results in the same rows
+     * @return the sorted indices of the selected rows
+     */
+    public static long[] selectPreviewRows(final long totalNumberOfRows, final int rowBudget,
+        final PreviewRowSampling sampling, final long seed) {
+        final var n = (int)Math.min(Math.max(rowBudget, 0), totalNumberOfRows);
+        if (sampling == PreviewRowSampling.FIRST_ROWS || n == totalNumberOfRows) {
+            return LongStream.range(0, n).toArray();
+        }
+        // Floyd's algorithm - samples without replacement in O(n) independent of the total number of rows
+        final var random = new Random(seed);
+        final var selected = new HashSet<Long>(n * 2);
+        for (var j = totalNumberOfRows - n; j < totalNumberOfRows; j++) {
+            final var t = (long)(random.nextDouble() * (j + 1));
+            if (!selected.add(t)) {
+                selected.add(j);
+            }
+        }
+        return selected.stream().mapToLong(Long::longValue).sorted().toArray();
+    }
+
     /**
      * Get the resource with the given name from the js-src/dist folder of the core UI plugin. Include them in the page
      * resources when using the output table preview like this:
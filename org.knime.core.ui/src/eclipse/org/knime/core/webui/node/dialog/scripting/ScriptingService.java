@@ -52,16 +52,19 @@ import static org.knime.core.webui.node.dialog.scripting.CodeKaiHandlerDependenc
 import static org.knime.core.webui.node.dialog.scripting.CodeKaiHandlerDependency.getProjectId;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Future;
-import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.LinkedBlockingDeque;
 import java.util.concurrent.TimeUnit;
-import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
@@ -69,12 +72,15 @@ import org.knime.core.node.NodeLogger;
 import org.knime.core.node.workflow.FlowVariable;
 import org.knime.core.node.workflow.NodeContext;
 import org.knime.core.node.workflow.VariableType;
-import org.knime.core.util.ThreadUtils;
+import org.knime.core.webui.node.dialog.scripting.InputOutputModel.InputOutputModelSubItem;
+import org.knime.core.webui.node.dialog.scripting.OutputTablePreviewUtils.PreviewRowSampling;
 import org.knime.core.webui.node.dialog.scripting.kai.CodeKaiHandler;
 import org.knime.core.webui.node.dialog.scripting.kai.CodeKaiHandler.CodeRequestResponse;
 import org.knime.core.webui.node.dialog.scripting.kai.KaiUsage;
 import org.knime.core.webui.node.dialog.scripting.lsp.LanguageServerProxy;
 
+import com.fasterxml.jackson.databind.util.RawValue;
+
 /**
  * A base scripting service that provides an JSON-RPC endpoint for a scripting dialog with {@link #getJsonRpcService()}.
  * An optional language server is made available to the frontend client and console messages can be sent to the
@@ -89,10 +95,35 @@ public abstract class ScriptingService {
 
     private static final NodeLogger LOGGER = NodeLogger.getLogger(ScriptingService.class);
 
+    private static final String CONSOLE_EVENT = "console";
+
+    private static final String UPDATE_OUTPUT_TABLE_EVENT = "updateOutputTable";
+
+    private static final int PARTIAL_OUTPUT_TABLE_UPDATE_INTERVAL_MS = 200;
+
+    /** Sampled previews are computed on the same rows every time */
+    private static final long PREVIEW_SEED = 0;
+
+    private static final int DEFAULT_CONSOLE_OUTPUT_BUDGET = 1 << 20;
+
+    private static final long LANGUAGE_SERVER_MESSAGE_BUDGET = 8L << 20;
+
+    private static final long LANGUAGE_SERVER_MESSAGE_BATCH_BYTES = 1L << 20;
+
     private final LanguageServerStarter m_languageServerCreator;
 
     // TODO(AP-19341) Replace the event queue with Java->JS events
-    private final BlockingQueue<Event> m_eventQueue;
+    private final BlockingDeque<Event> m_eventQueue;
+
+    // console output is not queued as events but buffered with a fixed budget - a marker event is queued instead
+    private ConsoleOutputBuffer m_consoleOutput =
+        new ConsoleOutputBuffer(DEFAULT_CONSOLE_OUTPUT_BUDGET, ConsoleOutputOverflowPolicy.KEEP_HEAD_AND_TAIL);
+
+    // the segment of console output the buffered output belongs to; null if nothing is buffered
+    private ConsoleOutputSegment m_openConsoleSegment;
+
+    // guards the console output buffer and the open segment
+    private final Object m_consoleLock = new Object();
 
     private final WorkflowControl m_workflowControl;
 
@@ -103,11 +134,24 @@ public abstract class ScriptingService {
 
     private Optional<LanguageServerProxy> m_languageServer;
 
-    // is shutdown onDeactivate
-    private ExecutorService m_executorService;
+    // messages from the language server if the frontend fetches them via the dedicated channel
+    private final LanguageServerMessageChannel m_languageServerMessages =
+        new LanguageServerMessageChannel(LANGUAGE_SERVER_MESSAGE_BUDGET);
+
+    // all tasks are cancelled onDeactivate
+    private final ScriptingSessionExecutor m_sessionExecutor = new ScriptingSessionExecutor();
 
     private Future<?> m_lastCodeSuggestion;
 
+    // guards the output table preview sequence such that updates of superseded previews are never queued after the
+    // updates of the current one
+    private final Object m_outputTablePreviewLock = new Object();
+
+    private long m_outputTablePreviewSequence;
+
+    // all sub items of the input/output models of which only the first page has been sent to the frontend
+    private final Map<String, InputOutputModelSubItemIndex> m_inputOutputModels = new ConcurrentHashMap<>();
+
     /** Utility to initialize the workflow control from the current NodeContext */
     private static WorkflowControl getWorkflowControlFromContext() {
         return Optional.ofNullable(NodeContext.getContext()) //
@@ -149,7 +193,7 @@ public abstract class ScriptingService {
 
         m_languageServerCreator = Optional.ofNullable(languageServerCreator).orElse(() -> null);
         m_languageServer = Optional.empty();
-        m_eventQueue = new LinkedBlockingQueue<>();
+        m_eventQueue = new LinkedBlockingDeque<>();
         m_workflowControl = workflowControl;
 
         m_flowVariableFilter = flowVariableFilter;
@@ -173,16 +217,93 @@ public abstract class ScriptingService {
      * @param data additional data that will be serialized to JSON and made available to the handler in the frontend
      */
     protected void sendEvent(final String type, final Object data) {
-        m_eventQueue.add(new Event(type, data));
+        if (CONSOLE_EVENT.equals(type) && data instanceof ConsoleText text) {
+            addConsoleOutputEvent(text);
+        } else {
+            synchronized (m_consoleLock) {
+                // console output sent after this event must not be fetched before it
+                closeConsoleSegment();
+                m_eventQueue.add(new Event(type, data));
+            }
+        }
     }
 
     /**
-     * Send the given text to the console of the frontend.
+     * Send the given text to the console of the frontend. The console output is buffered until the frontend fetches
+     * it. If the frontend can't keep up, output is dropped according to the configured
+     * {@link #setConsoleOutputBudget(int, ConsoleOutputOverflowPolicy) budget}.
      *
      * @param text the text that should be added to the console
      */
     protected void addConsoleOutputEvent(final ConsoleText text) {
-        sendEvent("console", text);
+        if (text.text.isEmpty()) {
+            return;
+        }
+        synchronized (m_consoleLock) {
+            m_consoleOutput.append(text.text, text.stderr);
+            if (m_openConsoleSegment == null) {
+                m_openConsoleSegment = new ConsoleOutputSegment();
+                m_eventQueue.add(new Event(CONSOLE_EVENT, m_openConsoleSegment));
+            }
+        }
+    }
+
+    /**
+     * Moves the buffered console output to the open segment such that output added afterwards starts a new segment
+     * which is queued behind the events sent in the meantime. The output of a closed segment can't exceed the budget.
+     */
+    private void closeConsoleSegment() {
+        if (m_openConsoleSegment != null) {
+            m_openConsoleSegment.m_output = m_consoleOutput.drain();
+            m_openConsoleSegment = null;
+        }
+    }
+
+    /**
+     * Queued in place of console output. The output is kept in the console output buffer while the segment is open.
+     */
+    private static final class ConsoleOutputSegment {
+
+        private List<ConsoleText> m_output = List.of();
+
+    }
+
+    /**
+     * Configures how much console output is buffered until the frontend fetches it (by default 1MB, keeping head and
+     * tail). Console output that is currently buffered is discarded, i.e. this should be called from the constructor.
+     *
+     * @param budget the maximum number of bytes of (UTF-8 encoded) console output to buffer
+     * @param policy what to keep if the budget is exceeded
+     */
+    protected void setConsoleOutputBudget(final int budget, final ConsoleOutputOverflowPolicy policy) {
+        synchronized (m_consoleLock) {
+            m_consoleOutput = new ConsoleOutputBuffer(budget, policy);
+        }
+    }
+
+    /**
+     * Takes the next event from the queue and replaces console output markers by the buffered console output.
+     */
+    private Event pollEvent(final long timeout, final TimeUnit unit) throws InterruptedException {
+        while (true) {
+            final var event = timeout == 0 ? m_eventQueue.poll() : m_eventQueue.poll(timeout, unit);
+            if (event == null || !(event.data instanceof ConsoleOutputSegment segment)) {
+                return event;
+            }
+            final List<ConsoleText> consoleOutput;
+            synchronized (m_consoleLock) {
+                if (segment == m_openConsoleSegment) { // NOSONAR identity is intended
+                    closeConsoleSegment();
+                }
+                consoleOutput = segment.m_output;
+            }
+            if (!consoleOutput.isEmpty()) {
+                for (var i = consoleOutput.size() - 1; i > 0; i--) {
+                    m_eventQueue.addFirst(new Event(CONSOLE_EVENT, consoleOutput.get(i)));
+                }
+                return new Event(CONSOLE_EVENT, consoleOutput.get(0));
+            }
+        }
     }
 
     /**
@@ -194,15 +315,55 @@ public abstract class ScriptingService {
      * @see #updateOutputTable(String)
      */
     protected void updateOutputTable(final int numberOfRowsForPreview, final long totalNumberOfRowsInTable) {
-        final String previewDisclaimerMessage;
+        updateOutputTable(numberOfRowsForPreview, totalNumberOfRowsInTable, PreviewRowSampling.FIRST_ROWS);
+    }
+
+    /**
+     * Inform the frontend that the output table has changed. This will construct a disclaimer message based on whether
+     * the preview was computed on all rows or just a subset and how the subset was selected.
+     *
+     * @param numberOfRowsForPreview number of rows in the output table preview
+     * @param totalNumberOfRowsInTable total number of rows in the output table
+     * @param sampling how the rows the preview was computed on were selected (see
+     *            {@link OutputTablePreviewUtils#selectPreviewRows(long, int, PreviewRowSampling, long)})
+     * @see #updateOutputTable(String)
+     */
+    protected void updateOutputTable(final int numberOfRowsForPreview, final long totalNumberOfRowsInTable,
+        final PreviewRowSampling sampling) {
+        updateOutputTable(previewDisclaimerMessage(numberOfRowsForPreview, totalNumberOfRowsInTable, sampling));
+    }
+
+    private static String previewDisclaimerMessage(final int numberOfRowsForPreview,
+        final long totalNumberOfRowsInTable, final PreviewRowSampling sampling) {
         if (numberOfRowsForPreview == totalNumberOfRowsInTable) {
-            previewDisclaimerMessage = "Preview computed on all rows";
-        } else {
-            Function<Number, String> rowsText = (n) -> n.longValue() == 1 ? "1 row" : n + " rows";
-            previewDisclaimerMessage = "Preview computed on first " + rowsText.apply(numberOfRowsForPreview) + " of "
-                + rowsText.apply(totalNumberOfRowsInTable);
+            return "Preview computed on all rows";
+        }
+        return "Preview computed on " + (sampling == PreviewRowSampling.RANDOM_SAMPLE ? "randomly sampled " : "first ")
+            + rowsText(numberOfRowsForPreview) + " of " + rowsText(totalNumberOfRowsInTable);
+    }
+
+    /**
+     * Starts the computation of a new output table preview. The returned preview selects the input rows to compute
+     * the preview on (see {@link OutputTablePreviewUtils#selectPreviewRows(long, int, PreviewRowSampling, long)}) and
+     * informs the frontend about partial results while the preview is computed. Previews started before are
+     * superseded, i.e. their updates are ignored from now on.
+     *
+     * @param totalNumberOfRowsInTable total number of rows in the input table
+     * @param rowBudget the maximum number of rows to compute the preview on
+     * @param sampling how to select the rows to compute the preview on
+     * @return the new preview
+     */
+    protected OutputTablePreview startOutputTablePreview(final long totalNumberOfRowsInTable, final int rowBudget,
+        final PreviewRowSampling sampling) {
+        final var rows =
+            OutputTablePreviewUtils.selectPreviewRows(totalNumberOfRowsInTable, rowBudget, sampling, PREVIEW_SEED);
+        synchronized (m_outputTablePreviewLock) {
+            return new OutputTablePreview(++m_outputTablePreviewSequence, rows, totalNumberOfRowsInTable, sampling);
         }
-        updateOutputTable(previewDisclaimerMessage);
+    }
+
+    private static String rowsText(final Number n) {
+        return n.longValue() == 1 ? "1 row" : (n + " rows");
     }
 
     /**
@@ -212,7 +373,86 @@ public abstract class ScriptingService {
      *            this is just a preview and not the real output
      */
     protected void updateOutputTable(final String previewDisclaimerMessage) {
-        sendEvent("updateOutputTable", previewDisclaimerMessage);
+        synchronized (m_outputTablePreviewLock) {
+            // supersedes all running previews
+            m_outputTablePreviewSequence++;
+            sendEvent(UPDATE_OUTPUT_TABLE_EVENT, previewDisclaimerMessage);
+        }
+    }
+
+    /**
+     * An output table preview that is being computed. Obtained via
+     * {@link ScriptingService#startOutputTablePreview(long, int, PreviewRowSampling)}. Updates are sent to the
+     * frontend only as long as the preview is neither complete nor superseded by a newer one. Hence, a partial update
+     * from a worker thread can never overwrite the final update.
+     */
+    public final class OutputTablePreview {
+
+        private final long m_sequence;
+
+        private final long[] m_rows;
+
+        private final long m_totalNumberOfRowsInTable;
+
+        private final PreviewRowSampling m_sampling;
+
+        private boolean m_complete;
+
+        private long m_lastPartialUpdate;
+
+        private OutputTablePreview(final long sequence, final long[] rows, final long totalNumberOfRowsInTable,
+            final PreviewRowSampling sampling) {
+            m_sequence = sequence;
+            m_rows = rows;
+            m_totalNumberOfRowsInTable = totalNumberOfRowsInTable;
+            m_sampling = sampling;
+        }
+
+        /**
+         * @return the sorted indices of the input rows to compute the preview on
+         */
+        public long[] getRows() {
+            return m_rows.clone();
+        }
+
+        /**
+         * Inform the frontend that a part of the output table preview is available. The frontend fetches the partial
+         * table via the {@link OutputTablePreviewUtils.OutputTableInitialDataSupplier} and shows it such that users
+         * see first results before the whole preview is computed. Updates are throttled, i.e. this can be called for
+         * every computed batch of rows.
+         *
+         * @param numberOfRowsComputed number of rows of the output table preview computed so far
+         */
+        public void updatePartially(final int numberOfRowsComputed) {
+            synchronized (m_outputTablePreviewLock) {
+                final var now = System.nanoTime();
+                final var interval = TimeUnit.MILLISECONDS.toNanos(PARTIAL_OUTPUT_TABLE_UPDATE_INTERVAL_MS);
+                if (!isCurrent() || (m_lastPartialUpdate != 0 && now - m_lastPartialUpdate < interval)) {
+                    return;
+                }
+                m_lastPartialUpdate = now;
+                sendEvent(UPDATE_OUTPUT_TABLE_EVENT, "Computing preview... " + rowsText(numberOfRowsComputed) + " of "
+                    + rowsText(m_rows.length) + " available");
+            }
+        }
+
+        /**
+         * Inform the frontend that the output table preview is complete. Subsequent updates of this preview are
+         * ignored.
+         */
+        public void complete() {
+            synchronized (m_outputTablePreviewLock) {
+                if (isCurrent()) {
+                    m_complete = true;
+                    sendEvent(UPDATE_OUTPUT_TABLE_EVENT,
+                        previewDisclaimerMessage(m_rows.length, m_totalNumberOfRowsInTable, m_sampling));
+                }
+            }
+        }
+
+        private boolean isCurrent() {
+            return !m_complete && m_sequence == m_outputTablePreviewSequence;
+        }
     }
 
     /**
@@ -220,25 +460,67 @@ public abstract class ScriptingService {
      */
     public abstract RpcService getJsonRpcService();
 
+    /**
+     * Registers the given input/output models such that only their first sub items need to be sent to the frontend
+     * with the initial data. The frontend fetches further sub items on demand (via
+     * {@link RpcService#getInputOutputModelSubItems(String, int, int)} and
+     * {@link RpcService#searchInputOutputModelSubItems(String, String, int)}). Useful for very wide input tables or
+     * many flow variables.
+     *
+     * @param pageSize the maximum number of sub items per model to send with the initial data
+     * @param models the models with all sub items; identified by their name
+     * @return the models to send to the frontend, i.e. with at most {@code pageSize} sub items each
+     */
+    public InputOutputModel[] registerInputOutputModels(final int pageSize, final InputOutputModel... models) {
+        final var res = new InputOutputModel[models.length];
+        for (var i = 0; i < models.length; i++) {
+            m_inputOutputModels.put(models[i].name(), new InputOutputModelSubItemIndex(models[i]));
+            res[i] = models[i].withFirstSubItems(pageSize);
+        }
+        return res;
+    }
+
+    /**
+     * Replaces models that only contain their first sub items by the respective registered model with all sub items.
+     */
+    private InputOutputModel[] withAllSubItems(final InputOutputModel[] models) {
+        if (models == null || m_inputOutputModels.isEmpty()) {
+            return models;
+        }
+        return Arrays.stream(models).map(m -> {
+            final var index = m_inputOutputModels.get(m.name());
+            final var numSubItems = m.subItems() == null ? 0 : m.subItems().length;
+            return index != null && numSubItems < m.numSubItems() ? index.getModel() : m;
+        }).toArray(InputOutputModel[]::new);
+    }
+
     /**
      * Deactivate the service. This stops the language server and clears the event queue.
      */
     public void onDeactivate() {
+        m_languageServerMessages.close();
         m_languageServer.ifPresent(LanguageServerProxy::close);
         m_languageServer = Optional.empty();
-        m_eventQueue.clear();
-        if (m_executorService != null) {
-            m_executorService.shutdown();
+        synchronized (m_consoleLock) {
+            m_eventQueue.clear();
+            m_consoleOutput.clear();
+            m_openConsoleSegment = null;
         }
+        m_inputOutputModels.clear();
+        m_sessionExecutor.cancelAll();
     }
 
-    private ExecutorService getExecutorService() {
-        // lazily initialize executor service for this session
-        if (m_executorService == null || m_executorService.isShutdown()) {
-            // ensure that the executorService carries over the NodeContext
-            m_executorService = ThreadUtils.executorServiceWithContext(Executors.newSingleThreadExecutor());
-        }
-        return m_executorService;
+    /**
+     * Runs the given task asynchronously as part of this scripting session. The current {@link NodeContext} is carried
+     * over to the task. All tasks of the session which are still running are cancelled (and interrupted) by
+     * {@link #onDeactivate()}.
+     *
+     * @param <T> the result type of the task
+     * @param task the task to run
+     * @return the future of the task
+     */
+    protected <T> Future<T> submitSessionTask(final Callable<T> task) {
+        return m_sessionExecutor.submit(task);
     }
 
     /** The service that provides its methods via JSON-RPC to the frontend. */
@@ -246,6 +528,14 @@ public abstract class ScriptingService {
         // NB: The UI Extension service throws an timeout after 10000ms
         private static final int GET_EVENT_TIMEOUT_MS = 2000;
 
+        /**
+         * How long to wait for further events once an event arrived before the batch of events is returned
+         */
+        private static final int EVENT_BATCH_LINGER_MS = 5;
+
+        /** The maximum time spent collecting a batch of events once the first event arrived */
+        private static final int EVENT_BATCH_MAX_WAIT_MS = 50;
+
         private static final String CODE_SUGGESTION_EVENT = "codeSuggestion";
 
         /**
@@ -255,7 +545,7 @@ public abstract class ScriptingService {
          */
         public Optional<Event> getEvent() {
             try {
-                return Optional.ofNullable(m_eventQueue.poll(GET_EVENT_TIMEOUT_MS, TimeUnit.MILLISECONDS));
+                return Optional.ofNullable(pollEvent(GET_EVENT_TIMEOUT_MS, TimeUnit.MILLISECONDS));
             } catch (final InterruptedException e) {
                 LOGGER.warn("Interrupted while waiting for the next event", e);
                 Thread.currentThread().interrupt();
@@ -263,22 +553,107 @@ public abstract class ScriptingService {
             }
         }
 
+        /**
+         * Remove all pending events for the frontend and return them at once (long-polling). Waits for the first event
+         * if there is none yet and then keeps collecting events as long as they arrive in quick succession - up to a
+         * maximum number of events and console characters. Adjacent console outputs of the same stream are merged into
+         * a single event.
+         *
+         * @return the next events for the frontend; empty if no event arrived within the polling timeout
+         */
+        public List<Event> getEvents() {
+            try {
+                final var first = pollEvent(GET_EVENT_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    return List.of();
+                }
+                final var batch = new EventBatch();
+                batch.add(first);
+                final var deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(EVENT_BATCH_MAX_WAIT_MS);
+                while (!batch.isFull()) {
+                    var next = pollEvent(0, TimeUnit.MILLISECONDS);
+                    if (next == null) {
+                        final var remainingNanos = Math.min(deadline - System.nanoTime(),
+                            TimeUnit.MILLISECONDS.toNanos(EVENT_BATCH_LINGER_MS));
+                        if (remainingNanos <= 0
+                            || (next = pollEvent(remainingNanos, TimeUnit.NANOSECONDS)) == null) {
+                            break;
+                        }
+                    }
+                    batch.add(next);
+                }
+                return batch.toList();
+            } catch (final InterruptedException e) {
+                LOGGER.warn("Interrupted while waiting for the next events", e);
+                Thread.currentThread().interrupt();
+                return List.of();
+            }
+        }
+
+        /**
+         * Get sub items of an input/output model that were not sent with the initial data (see
+         * {@link ScriptingService#registerInputOutputModels(int, InputOutputModel...)}).
+         *
+         * @param modelName the name of the input/output model
+         * @param offset the index of the first sub item to return
+         * @param limit the maximum number of sub items to return
+         * @return the sub items; empty if there is no such model
+         */
+        public InputOutputModelSubItem[] getInputOutputModelSubItems(final String modelName, final int offset,
+            final int limit) {
+            final var index = m_inputOutputModels.get(modelName);
+            return index == null ? new InputOutputModelSubItem[0] : index.getSubItems(offset, limit);
+        }
+
+        /**
+         * Search the sub items of an input/output model by name, e.g. for code completion (see
+         * {@link ScriptingService#registerInputOutputModels(int, InputOutputModel...)}).
+         *
+         * @param modelName the name of the input/output model
+         * @param namePrefix the case-insensitive prefix of the sub item names
+         * @param limit the maximum number of sub items to return
+         * @return the matching sub items in their original order; empty if there is no such model
+         */
+        public InputOutputModelSubItem[] searchInputOutputModelSubItems(final String modelName,
+            final String namePrefix, final int limit) {
+            final var index = m_inputOutputModels.get(modelName);
+            return index == null ? new InputOutputModelSubItem[0] : index.searchByPrefix(namePrefix, limit);
+        }
+
         /**
          * Start the LPS server which will receive messages via {@link #sendLanguageServerMessage(String)} and send
          * events of the "language-server" type.
          *
          * @return the status of the language server connection
          */
-        @SuppressWarnings("resource") // language server proxy closed by #onDeactivate
         public LanguageServerStatus connectToLanguageServer() {
+            return connectToLanguageServer(false);
+        }
+
+        /**
+         * Start the LPS server which will receive messages via {@link #sendLanguageServerMessage(String)}.
+         *
+         * @param useMessageChannel if <code>true</code>, the messages of the server are not sent as events of the
+         *            "language-server" type but must be fetched with {@link #getLanguageServerMessages()}. The
+         *            messages are passed on without being decoded into strings and the server is paused if the
+         *            frontend does not keep up with fetching them.
+         * @return the status of the language server connection
+         */
+        @SuppressWarnings("resource") // language server proxy closed by #onDeactivate
+        public LanguageServerStatus connectToLanguageServer(final boolean useMessageChannel) {
             try {
                 m_languageServer = Optional.ofNullable(m_languageServerCreator.start());
-                m_languageServer.ifPresent( //
+                if (useMessageChannel) {
+                    m_languageServerMessages.open();
+                }
+                m_languageServer.ifPresent(ls -> {
                     // React to language server messages
-                    ls -> ls.setMessageListener( //
-                        m -> sendEvent("language-server", m) //
-                    ) //
-                );
+                    if (useMessageChannel) {
+                        ls.setRawMessageListener(this::putLanguageServerMessage);
+                    } else {
+                        ls.setMessageListener(m -> sendEvent("language-server", m));
+                    }
+                });
                 return new LanguageServerStatus(LanguageServerStatusKind.RUNNING);
             } catch (IOException e) {
                 LOGGER.warn("Starting the language server failed: " + e.getMessage(), e);
@@ -287,6 +662,38 @@ public abstract class ScriptingService {
             }
         }
 
+        private void putLanguageServerMessage(final byte[] message) {
+            try {
+                m_languageServerMessages.put(message);
+            } catch (InterruptedException e) { // NOSONAR - the proxy is closed if the reader thread is interrupted
+                LOGGER.debug("Interrupted while passing on a language server message", e);
+            }
+        }
+
+        /**
+         * Get the next messages of the language server if it was connected with
+         * {@link #connectToLanguageServer(boolean) the message channel}. Waits for the first message if none is
+         * available yet. JSON messages are embedded as they are without being escaped as strings.
+         *
+         * @return the messages of the language server; empty if no message arrived in time; {@code null} if the
+         *         channel was closed (because the dialog was closed or the language server was stopped), in which case
+         *         the frontend must stop fetching messages
+         */
+        public List<Object> getLanguageServerMessages() {
+            try {
+                final var messages = m_languageServerMessages.take(GET_EVENT_TIMEOUT_MS, TimeUnit.MILLISECONDS,
+                    LANGUAGE_SERVER_MESSAGE_BATCH_BYTES);
+                if (messages == null) {
+                    return null; // NOSONAR null signals the frontend to stop polling
+                }
+                return messages.stream().map(ScriptingService::toLanguageServerMessage).toList();
+            } catch (final InterruptedException e) {
+                LOGGER.warn("Interrupted while waiting for language server messages", e);
+                Thread.currentThread().interrupt();
+                return List.of();
+            }
+        }
+
         /**
          * Send the given message to the language server. Do nothing if no language server is available.
          *
@@ -303,10 +710,10 @@ public abstract class ScriptingService {
          */
         public void loginToHub() {
             var codeKaiHandler = getCodeKaiHandler().orElseThrow();
-            new Thread(() -> {
+            m_sessionExecutor.submitBlocking(() -> {
                 boolean status = codeKaiHandler.loginToHub();
                 sendEvent("hubLogin", status);
-            }).start();
+            });
         }
 
         /**
@@ -323,9 +730,9 @@ public abstract class ScriptingService {
             var kaiHandler = getCodeKaiHandler().orElseThrow(() -> new IllegalStateException(
                 "Triggered code suggestion but K-AI is not available. This is an implementation error."));
             var projectId = getProjectId();
-            var executorService = getExecutorService();
-            var request = getCodeSuggestionRequest(userPrompt, currentCode, inputOutputModel);
-            m_lastCodeSuggestion = executorService.submit(() -> {
+            var request = getCodeSuggestionRequest(userPrompt, currentCode, withAllSubItems(inputOutputModel));
+            // K-AI requests of a session are processed one after another
+            m_lastCodeSuggestion = m_sessionExecutor.submitSerial(() -> {
                 try {
                     var response = kaiHandler.sendRequest(projectId, request.endpointPath(), request.body());
                     if (Thread.interrupted()) {
@@ -448,6 +855,90 @@ public abstract class ScriptingService {
         }
     }
 
+    /**
+     * JSON objects and arrays are embedded as raw JSON. Anything else (which is not expected from a language server)
+     * is passed on as a string.
+     */
+    private static Object toLanguageServerMessage(final byte[] message) {
+        var i = 0;
+        while (i < message.length && Character.isWhitespace(message[i])) {
+            i++;
+        }
+        final var json = new String(message, StandardCharsets.UTF_8);
+        if (i < message.length && (message[i] == '{' || message[i] == '[')) {
+            return new RawValue(json);
+        }
+        return json;
+    }
+
+    /**
+     * Collects events to be sent to the frontend at once, merging adjacent console outputs of the same stream and
+     * superseded output table updates.
+     */
+    private static final class EventBatch {
+
+        private static final int MAX_EVENTS = 1000;
+
+        private static final int MAX_CONSOLE_CHARS = 1 << 20;
+
+        private final List<Event> m_events = new ArrayList<>();
+
+        private StringBuilder m_consoleText;
+
+        private boolean m_consoleStderr;
+
+        private int m_numConsoleChars;
+
+        void add(final Event event) {
+            if (CONSOLE_EVENT.equals(event.type) && event.data instanceof ConsoleText text) {
+                m_numConsoleChars += text.text.length();
+                if (m_consoleText != null && m_consoleStderr == text.stderr) {
+                    m_consoleText.append(text.text);
+                    return;
+                }
+                flushConsoleText();
+                m_consoleText = new StringBuilder(text.text);
+                m_consoleStderr = text.stderr;
+            } else {
+                flushConsoleText();
+                if (UPDATE_OUTPUT_TABLE_EVENT.equals(event.type)) {
+                    // the frontend re-fetches the whole preview table anyway - only the latest update matters
+                    m_events.removeIf(e -> UPDATE_OUTPUT_TABLE_EVENT.equals(e.type));
+                }
+                m_events.add(event);
+            }
+        }
+
+        boolean isFull() {
+            return m_events.size() >= MAX_EVENTS || m_numConsoleChars >= MAX_CONSOLE_CHARS;
+        }
+
+        List<Event> toList() {
+            flushConsoleText();
+            return m_events;
+        }
+
+        private void flushConsoleText() {
+            if (m_consoleText != null) {
+                m_events.add(new Event(CONSOLE_EVENT, new ConsoleText(m_consoleText.toString(), m_consoleStderr)));
+                m_consoleText = null;
+            }
+        }
+    }
+
+    /**
+     * What to keep of the console output if the frontend can't keep up with fetching it.
+     */
+    public enum ConsoleOutputOverflowPolicy {
+
+            /** Drop the oldest output, i.e. keep the most recent output */
+            KEEP_TAIL,
+
+            /** Keep the first and the most recent output (half of the budget each), drop the output in between */
+            KEEP_HEAD_AND_TAIL;
+
+    }
+
     /**
      * A snippet of text that should be logged in the output console. Note that the snippet does not have to be a whole
      * line. Also the text snippet can be part of the standard output (if {@link ConsoleText#stderr} is false of part of
@@ -0,0 +1,193 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent): created
+ */
+package org.knime.core.webui.node.dialog.scripting;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+
+import org.knime.core.util.ThreadUtils;
+import org.knime.core.webui.data.util.VirtualThreadExecutors;
+
+/**
+ * Runs the asynchronous work of a single scripting session (e.g. K-AI requests or the hub login) and cancels all of it
+ * at once when the session ends. The node context of the submitting thread is carried over to the tasks.
+ *
+ * The tasks of all sessions share process-wide executors which use virtual threads if available (Java 21+) and bounded
+ * pools of daemon threads otherwise. Hence, many open scripting dialogs (e.g. on a server) don't tie up an OS thread
+ * each. Tasks that block for a long time (e.g. waiting for the hub login or a K-AI response) are run on a separate
+ * executor such that they can't starve the interactive tasks of other sessions. Additionally, tasks can be run one
+ * after another per session (see {@link #submitSerial(Callable)}).
+ *
+ * @author agent
+ */
+final class ScriptingSessionExecutor {
+
+    private static final Executor INTERACTIVE_EXECUTOR = createSharedExecutor("KNIME-ScriptingSession-%d");
+
+    private static final Executor BLOCKING_EXECUTOR = createSharedExecutor("KNIME-ScriptingSession-Blocking-%d");
+
+    private final Set<SessionTask<?>> m_runningTasks = ConcurrentHashMap.newKeySet();
+
+    private final Deque<SessionTask<?>> m_serialTasks = new ArrayDeque<>();
+
+    private boolean m_serialTasksRunning;
+
+    private static Executor createSharedExecutor(final String threadNameFormat) {
+        return VirtualThreadExecutors.newVirtualThreadOrDaemonPoolExecutor(threadNameFormat,
+            Math.max(4, 2 * Runtime.getRuntime().availableProcessors()));
+    }
+
+    /**
+     * @param task the task to run asynchronously
+     * @return the future of the task; cancelled (with interruption) by {@link #cancelAll()}
+     */
+    <T> Future<T> submit(final Callable<T> task) {
+        final var sessionTask = createTask(task);
+        INTERACTIVE_EXECUTOR.execute(sessionTask);
+        return sessionTask;
+    }
+
+    /**
+     * @param task the task to run asynchronously; it may block for a long time
+     * @return the future of the task; cancelled (with interruption) by {@link #cancelAll()}
+     */
+    Future<?> submitBlocking(final Runnable task) {
+        final var sessionTask = createTask(Executors.callable(task));
+        BLOCKING_EXECUTOR.execute(sessionTask);
+        return sessionTask;
+    }
+
+    /**
+     * Runs the task after all tasks of this session that have been submitted via this method before. The task may
+     * block for a long time.
+     *
+     * @param task the task to run asynchronously
+     * @return the future of the task; cancelled (with interruption) by {@link #cancelAll()}
+     */
+    Future<?> submitSerial(final Runnable task) {
+        final var sessionTask = createTask(Executors.callable(task));
+        synchronized (m_serialTasks) {
+            m_serialTasks.add(sessionTask);
+            if (m_serialTasksRunning) {
+                return sessionTask;
+            }
+            m_serialTasksRunning = true;
+        }
+        BLOCKING_EXECUTOR.execute(this::runSerialTasks);
+        return sessionTask;
+    }
+
+    private void runSerialTasks() {
+        while (true) {
+            final SessionTask<?> next;
+            synchronized (m_serialTasks) {
+                next = m_serialTasks.poll();
+                if (next == null) {
+                    m_serialTasksRunning = false;
+                    return;
+                }
+            }
+            // don't pass on the interrupt of a cancelled predecessor
+            Thread.interrupted(); // NOSONAR
+            next.run(); // no-op if cancelled in the meantime
+        }
+    }
+
+    private <T> SessionTask<T> createTask(final Callable<T> task) {
+        final var sessionTask = new SessionTask<>(ThreadUtils.callableWithContext(task));
+        m_runningTasks.add(sessionTask);
+        return sessionTask;
+    }
+
+    /**
+     * @param task the task to run asynchronously
+     * @return the future of the task; cancelled (with interruption) by {@link #cancelAll()}
+     */
+    Future<?> submit(final Runnable task) {
+        return submit(Executors.callable(task));
+    }
+
+    /**
+     * Cancels all tasks of the session which haven't finished yet, interrupting the running ones. Tasks can still be
+     * submitted afterwards (e.g. if the dialog is opened again).
+     */
+    void cancelAll() {
+        for (var task : m_runningTasks) {
+            task.cancel(true);
+        }
+        m_runningTasks.clear();
+    }
+
+    /**
+     * @return the number of tasks that haven't finished yet
+     */
+    int getNumberOfRunningTasks() {
+        return m_runningTasks.size();
+    }
+
+    private final class SessionTask<T> extends FutureTask<T> {
+
+        SessionTask(final Callable<T> callable) {
+            super(callable);
+        }
+
+        @Override
+        protected void done() {
+            m_runningTasks.remove(this);
+        }
+    }
+
+}
@@ -89,7 +89,9 @@ public final class LanguageServerProxy implements AutoCloseable {
 
     private final OutputStream m_stdinStream;
 
-    private Consumer<String> m_messageListener;
+    private volatile Consumer<String> m_messageListener;
+
+    private volatile Consumer<byte[]> m_rawMessageListener;
 
     private AtomicBoolean m_closed = new AtomicBoolean(false);
 
@@ -119,12 +121,21 @@ public final class LanguageServerProxy implements AutoCloseable {
      *
      * @param message the JSON-RPC message
      */
-    public synchronized void sendMessage(final String message) {
-        // Send the message
-        LOGGER.debug("LSP message - client: '" + message + "'");
+    public void sendMessage(final String message) {
+        sendMessage(message.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Send the given UTF-8 encoded JSON-RPC message to the language server.
+     *
+     * @param messageBytes the UTF-8 encoded JSON-RPC message
+     */
+    public synchronized void sendMessage(final byte[] messageBytes) {
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug("LSP message - client: '" + new String(messageBytes, StandardCharsets.UTF_8) + "'");
+        }
 
         try {
-            var messageBytes = message.getBytes(StandardCharsets.UTF_8);
             // NB: The default Content-Type of "application/vscode-jsonrpc; charset=utf-8" is fine
             var header = "Content-Length: " + messageBytes.length + "\r\n\r\n";
             m_stdinStream.write(header.getBytes(StandardCharsets.UTF_8));
@@ -144,6 +155,18 @@ public final class LanguageServerProxy implements AutoCloseable {
         m_messageListener = messageListener;
     }
 
+    /**
+     * Set a listener which is notified with the UTF-8 encoded content whenever the language server sends a message.
+     * Other than for the {@link #setMessageListener(Consumer) message listener}, the content is not decoded. The
+     * listener is called on the thread reading the server output: The server output is not read while the listener
+     * blocks.
+     *
+     * @param rawMessageListener a listener which consumes UTF-8 encoded JSON-RPC messages from the language server
+     */
+    public void setRawMessageListener(final Consumer<byte[]> rawMessageListener) {
+        m_rawMessageListener = rawMessageListener;
+    }
+
     @Override
     public void close() {
         if (!m_closed.getAndSet(true)) {
@@ -158,10 +181,20 @@ public final class LanguageServerProxy implements AutoCloseable {
         try (var stdout = new BufferedInputStream(m_process.getInputStream())) {
             while (!m_closed.get()) {
                 var contentLength = readServerMessageHeader(stdout);
-                var content = readServerMessageContent(stdout, contentLength);
-                LOGGER.debug("LSP message - server: " + content);
-                if (m_messageListener != null) {
-                    m_messageListener.accept(content);
+                var content = stdout.readNBytes(contentLength);
+                if (content.length < contentLength) {
+                    throw new IOException("Unexpected end of stream while reading a message");
+                }
+                if (LOGGER.isDebugEnabled()) {
+                    LOGGER.debug("LSP message - server: " + new String(content, StandardCharsets.UTF_8));
+                }
+                var rawMessageListener = m_rawMessageListener;
+                if (rawMessageListener != null) {
+                    rawMessageListener.accept(content);
+                }
+                var messageListener = m_messageListener;
+                if (messageListener != null) {
+                    messageListener.accept(new String(content, StandardCharsets.UTF_8));
                 }
             }
         } catch (IOException e) {
@@ -230,19 +263,15 @@ public final class LanguageServerProxy implements AutoCloseable {
         }
     }
 
-    /** Read the content with the specified amount of bytes from the server stdout */
-    private static String readServerMessageContent(final InputStream stdout, final int contentLength)
-        throws IOException {
-        var content = stdout.readNBytes(contentLength);
-        return new String(content, StandardCharsets.UTF_8);
-    }
-
     private void readServerStderr() {
         try (var stderr = m_process.getErrorStream()) {
             var stderrReader = new BufferedReader(new InputStreamReader(stderr, StandardCharsets.UTF_8));
 
             while (!m_closed.get()) {
                 var line = stderrReader.readLine();
+                if (line == null) {
+                    break;
+                }
                 LOGGER.debug("LSP stderr line: '" + line + "'");
             }
         } catch (IOException e) {
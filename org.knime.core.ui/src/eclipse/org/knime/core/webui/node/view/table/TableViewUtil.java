@@ -50,6 +50,7 @@ package org.knime.core.webui.node.view.table;
 
 import java.io.ByteArrayInputStream;
 import java.io.InputStream;
+import java.time.Duration;
 import java.util.Set;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -120,7 +121,11 @@ public final class TableViewUtil {
         final String tableId) {
 
         Runnable clearCache = () -> TableViewUtil.deactivateTableViewDataService(tableViewDataService, tableId);
-        return RpcDataService.builder(tableViewDataService).onDeactivate(clearCache).onDispose(clearCache).build();
+        return RpcDataService.builder(tableViewDataService).onDeactivate(clearCache).onDispose(clearCache)
+            // tables are requested again and again with the same parameters, e.g. on resizing the view
+            .coalesceIdempotentRequests(Duration.ZERO) //
+            // the parameters of getTable/getFilteredAndSortedTable are deserialized on every scroll/sort/filter
+            .precompiledDispatch().build();
     }
 
     /**
@@ -50,6 +50,8 @@ package org.knime.core.webui.node.view.table.data;
 
 import java.io.IOException;
 
+import org.knime.core.webui.data.RpcDataService.Idempotent;
+
 /**
  * @author Konrad Amtenbrink, KNIME GmbH, Berlin, Germany
  * @author Marc Bux, KNIME GmbH, Berlin, Germany
@@ -70,6 +72,7 @@ public interface TableViewDataService {
      * @param showOnlySelectedRows restricts the shown rows to the ones that are selected
      * @return the table
      */
+    @Idempotent(unlessTrue = {5, 7}) // forceClearImageDataCache, showOnlySelectedRows
     Table getTable(String[] columns, long fromIndex, int numRows, String[] rendererIds, boolean updateDisplayedColumns,
         boolean forceClearImageDataCache, boolean trimColumns, boolean showOnlySelectedRows);
 
@@ -94,6 +97,7 @@ public interface TableViewDataService {
      * @param showOnlySelectedRows if true, only show the currently selected rows
      * @return the table
      */
+    @Idempotent(unlessTrue = {10, 11, 13}) // updateTotalSelected, forceClearImageDataCache, showOnlySelectedRows
     @SuppressWarnings("java:S107") // accept the large number of parameters
     Table getFilteredAndSortedTable(String[] columns, long fromIndex, int numRows, String sortColumn,
         boolean sortAscending, String globalSearchTerm, String[][] columnFilterValue, boolean filterRowKeys,
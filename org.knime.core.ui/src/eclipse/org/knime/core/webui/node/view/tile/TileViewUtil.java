@@ -50,6 +50,7 @@ package org.knime.core.webui.node.view.tile;
 
 import java.io.ByteArrayInputStream;
 import java.io.InputStream;
+import java.time.Duration;
 import java.util.Set;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -120,7 +121,8 @@ public final class TileViewUtil {
         final String tableId) {
 
         Runnable clearCache = () -> TileViewUtil.deactivateTileViewDataService(tileViewDataService, tableId);
-        return RpcDataService.builder(tileViewDataService).onDeactivate(clearCache).onDispose(clearCache).build();
+        return RpcDataService.builder(tileViewDataService).onDeactivate(clearCache).onDispose(clearCache)
+            .coalesceIdempotentRequests(Duration.ZERO).build();
     }
 
     /**
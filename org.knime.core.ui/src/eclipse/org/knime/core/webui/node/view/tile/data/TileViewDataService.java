@@ -48,6 +48,7 @@
  */
 package org.knime.core.webui.node.view.tile.data;
 
+import org.knime.core.webui.data.RpcDataService.Idempotent;
 import org.knime.core.webui.node.dialog.defaultdialog.setting.singleselection.NoneChoice;
 import org.knime.core.webui.node.dialog.defaultdialog.setting.singleselection.StringOrEnum;
 import org.knime.core.webui.node.view.tile.TileViewViewParameters.RowIDOrNoneChoice;
@@ -71,6 +72,7 @@ public interface TileViewDataService {
      * @param showOnlySelectedRows whether to include only selected rows in the table
      * @return the table for the tile view based on the given parameters
      */
+    @Idempotent(unlessTrue = {5, 6}) // forceClearImageDataCache, showOnlySelectedRows
     TileTable getTable(String[] columns, StringOrEnum<RowIDOrNoneChoice> titleColumn,
         StringOrEnum<NoneChoice> colorColumn, long fromIndex, int numRows, boolean forceClearImageDataCache,
         boolean showOnlySelectedRows);
@@ -78,6 +78,12 @@ sealed interface DefaultModelToNodeModelAdapter
 
     void setModelParameters(final NodeParameters modelParameters);
 
+    /**
+     * @return the cache holding the model parameters loaded in {@link #defaultValidateSettings} for the subsequent
+     *         {@link #defaultLoadValidatedSettingsFrom}
+     */
+    ValidatedParametersCache getValidatedModelParametersCache();
+
     default void defaultValidateSettings(final NodeSettingsRO settings) throws InvalidSettingsException {
         final var modelSettingsClassOptional = getModelParametersClass();
         if (modelSettingsClassOptional.isPresent()) {
@@ -85,6 +91,7 @@ sealed interface DefaultModelToNodeModelAdapter
             final var loadedSettings = NodeParametersUtil.loadSettings(settings, modelSettingsClassOptional.get());
             // Additional custom validation of the settings
             loadedSettings.validate();
+            getValidatedModelParametersCache().put(settings, loadedSettings);
         }
     }
 
@@ -101,7 +108,10 @@ sealed interface DefaultModelToNodeModelAdapter
     default void defaultLoadValidatedSettingsFrom(final NodeSettingsRO settings) throws InvalidSettingsException {
         final var modelSettingsClassOptional = getModelParametersClass();
         if (modelSettingsClassOptional.isPresent()) {
-            setModelParameters(NodeParametersUtil.loadSettings(settings, modelSettingsClassOptional.get()));
+            final var modelSettingsClass = modelSettingsClassOptional.get();
+            final var validatedSettings = getValidatedModelParametersCache().take(settings, modelSettingsClass);
+            setModelParameters(validatedSettings.isPresent() ? validatedSettings.get()
+                : NodeParametersUtil.loadSettings(settings, modelSettingsClass));
         }
     }
 
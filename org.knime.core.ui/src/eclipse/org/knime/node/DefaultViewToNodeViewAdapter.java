@@ -80,6 +80,8 @@ final class DefaultViewToNodeViewAdapter implements NodeView {
     // set in loadValidatedSettingsFrom
     private NodeParameters m_viewParameters;
 
+    private final ValidatedParametersCache m_validatedViewParameters = new ValidatedParametersCache();
+
     private final ViewInput m_input = new ViewInput() {
 
         @SuppressWarnings("unchecked")
@@ -138,6 +140,7 @@ final class DefaultViewToNodeViewAdapter implements NodeView {
             final var loadedSettings = NodeParametersUtil.loadSettings(settings, viewParametersClass);
             // Additional custom validation of the settings
             loadedSettings.validate();
+            m_validatedViewParameters.put(settings, loadedSettings);
         }
     }
 
@@ -150,6 +153,10 @@ final class DefaultViewToNodeViewAdapter implements NodeView {
         final var viewParametersOptional = m_view.getParametersClass();
         if (viewParametersOptional.isPresent()) {
             final var viewParametersClass = viewParametersOptional.get();
+            final var validatedParameters = m_validatedViewParameters.take(settings, viewParametersClass);
+            if (validatedParameters.isPresent()) {
+                return validatedParameters.get();
+            }
             try {
                 return NodeParametersUtil.loadSettings(settings, viewParametersClass);
             } catch (InvalidSettingsException ex) {
@@ -86,6 +86,8 @@ final class RearrangeColumnsDefaultModelToNodeModelAdapter extends SimpleStreama
     // set in setModelSettings, which is called in loadValidatedSettingsFrom or createColumnRearranger
     private NodeParameters m_modelParameters;
 
+    private final ValidatedParametersCache m_validatedModelParameters = new ValidatedParametersCache();
+
     RearrangeColumnsDefaultModelToNodeModelAdapter(final DefaultModel.RearrangeColumnsDefaultModel model,
         final Class<? extends NodeParameters> viewParametersClass) {
 
@@ -150,6 +152,11 @@ final class RearrangeColumnsDefaultModelToNodeModelAdapter extends SimpleStreama
         m_modelParameters = modelParameters;
     }
 
+    @Override
+    public ValidatedParametersCache getValidatedModelParametersCache() {
+        return m_validatedModelParameters;
+    }
+
     @Override
     protected void saveSettingsTo(final NodeSettingsWO settings) {
         defaultSaveSettingsTo(settings);
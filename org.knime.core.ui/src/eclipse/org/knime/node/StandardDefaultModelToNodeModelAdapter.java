@@ -99,6 +99,8 @@ final class StandardDefaultModelToNodeModelAdapter extends NodeModel
     // set in setModelSettings, which is called in loadValidatedSettingsFrom or configure
     private NodeParameters m_modelParameters;
 
+    private final ValidatedParametersCache m_validatedModelParameters = new ValidatedParametersCache();
+
     // set in setInternalPortObjects
     private PortObject[] m_portObjects;
 
@@ -145,6 +147,11 @@ final class StandardDefaultModelToNodeModelAdapter extends NodeModel
         m_modelParameters = modelParameters;
     }
 
+    @Override
+    public ValidatedParametersCache getValidatedModelParametersCache() {
+        return m_validatedModelParameters;
+    }
+
     @Override
     protected PortObjectSpec[] configure(final PortObjectSpec[] inSpecs) throws InvalidSettingsException {
 
@@ -0,0 +1,108 @@
+/*
+ * ------------------------------------------------------------------------
+ *
+ *  Copyright by KNIME AG, Zurich, Switzerland
+ *  Website: http://www.knime.com; Email: contact@knime.com
+ *
+ *  This program is free software; you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License, Version 3, as
+ *  published by the Free Software Foundation.
+ *
+ *  This program is distributed in the hope that it will be useful, but
+ *  WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with this program; if not, see <http://www.gnu.org/licenses>.
+ *
+ *  Additional permission under GNU GPL version 3 section 7:
+ *
+ *  KNIME interoperates with ECLIPSE solely via ECLIPSE's plug-in APIs.
+ *  Hence, KNIME and ECLIPSE are both independent programs and are not
+ *  derived from each other. Should, however, the interpretation of the
+ *  GNU GPL Version 3 ("License") under any applicable laws result in
+ *  KNIME and ECLIPSE being a combined program, KNIME AG herewith grants
+ *  you the additional permission to use and propagate KNIME together with
+ *  ECLIPSE with only the license terms in place for ECLIPSE applying to
+ *  ECLIPSE and the GNU GPL Version 3 applying for KNIME, provided the
+ *  license terms of ECLIPSE themselves allow for the respective use and
+ *  propagation of ECLIPSE together with KNIME.
+ *
+ *  Additional permission relating to nodes for KNIME that extend the Node
+ *  Extension (and in particular that are based on subclasses of NodeModel,
+ *  NodeDialog, and NodeView) and that only interoperate with KNIME through
+ *  standard APIs ("Nodes"):
+ *  Nodes are deemed to be separate and independent programs and to not be
+ *  covered works.  Notwithstanding anything to the contrary in the
+ *  License, the License does not apply to Nodes, you are not required to
+ *  license Nodes under the License, and you are granted a license to
+ *  prepare and propagate Nodes, in each case even if such Nodes are
+ *  propagated with or for interoperation with KNIME.  The owner of a Node
+ *  may freely choose the license terms applicable to such Node, including
+ *  when such Node is propagated with or for interoperation with KNIME.
+ * ---------------------------------------------------------------------
+ *
+ * History
+ *   Oct 18, 2026 (agent): created
+ */
+package org.knime.node;
+
+import java.lang.ref.WeakReference;
+import java.util.Optional;
+
+import org.knime.core.node.NodeSettingsRO;
+import org.knime.node.parameters.NodeParameters;
+
+/**
+ * Remembers the {@link NodeParameters} that were loaded (and validated) from node settings during
+ * {@code validateSettings} so that the immediately following {@code loadValidatedSettingsFrom} with the very same
+ * settings does not need to load them a second time.
+ *
+ * The settings are keyed by identity and only held weakly. The cached parameters can only be taken once and are held
+ * strongly until they are taken or replaced by the next validation, i.e. at most one set of parameters is kept per
+ * cache. A weak reference would be cleared by any young garbage collection between the validation and the load.
+ *
+ * The expected hit rate is close to 100% of the loads which directly follow a successful validation of the same
+ * settings instance. This is the sequence used when settings are applied or a workflow is loaded. The cache only
+ * misses if the settings are loaded without a prior validation or another validation happens in between.
+ *
+ * @author agent
+ */
+final class ValidatedParametersCache {
+
+    private WeakReference<NodeSettingsRO> m_settings;
+
+    private NodeParameters m_parameters;
+
+    /**
+     * @param settings the settings the parameters were loaded from
+     * @param parameters the loaded and successfully validated parameters
+     */
+    synchronized void put(final NodeSettingsRO settings, final NodeParameters parameters) {
+        m_settings = new WeakReference<>(settings);
+        m_parameters = parameters;
+    }
+
+    /**
+     * Takes the cached parameters if they were loaded from the given settings and are of the given class. The cache is
+     * cleared in any case.
+     *
+     * @param settings the settings the parameters are to be loaded from
+     * @param parametersClass the class of the to be loaded parameters
+     * @return the parameters validated before or empty if they have to be loaded
+     */
+    synchronized Optional<NodeParameters> take(final NodeSettingsRO settings,
+        final Class<? extends NodeParameters> parametersClass) {
+        final var cachedSettings = m_settings == null ? null : m_settings.get();
+        final var cachedParameters = m_parameters;
+        m_settings = null;
+        m_parameters = null;
+        if (cachedSettings != settings || cachedParameters == null // NOSONAR identity is intended
+            || cachedParameters.getClass() != parametersClass) {
+            return Optional.empty();
+        }
+        return Optional.of(cachedParameters);
+    }
+
+}
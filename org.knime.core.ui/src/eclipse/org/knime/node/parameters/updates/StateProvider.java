@@ -168,6 +168,16 @@ public interface StateProvider<S> {
          */
         void computeAfterOpenDialog();
 
+        /**
+         * Call this method if the provided state is fully determined by the dependencies of this state provider and
+         * the input of the node, i.e. if {@link #computeState} neither reads any other state (e.g. from the file
+         * system) nor has side effects. The state of such a state provider is reused instead of being recomputed
+         * within the same dialog as long as these do not change.
+         */
+        default void declarePure() {
+            // by default, the state is always recomputed
+        }
+
     }
 
     /**
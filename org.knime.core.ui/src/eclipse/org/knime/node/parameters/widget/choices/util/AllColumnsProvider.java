@@ -62,6 +62,19 @@ import org.knime.node.parameters.widget.choices.ColumnChoicesProvider;
  * @author Carl Witt, KNIME AG, Zurich, Switzerland
  */
 public class AllColumnsProvider implements ColumnChoicesProvider, InputTableIndexHolder {
+
+    /**
+     * {@inheritDoc}
+     *
+     * Additionally, the state provider is {@link StateProviderInitializer#declarePure() declared pure} since the
+     * choices only depend on the input table spec. Subclasses computing the choices from anything else need to
+     * override this method without declaring the state provider pure.
+     */
+    @Override
+    public void init(final StateProviderInitializer initializer) {
+        ColumnChoicesProvider.super.init(initializer);
+        initializer.declarePure();
+    }
     @Override
     public List<DataColumnSpec> columnChoices(final NodeParametersInput context) {
         return context.getInTableSpec(getInputTableIndex(context)) //
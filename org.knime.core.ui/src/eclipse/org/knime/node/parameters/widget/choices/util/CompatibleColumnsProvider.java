@@ -81,6 +81,18 @@ public class CompatibleColumnsProvider implements FilteredInputTableColumnsProvi
         m_valueClasses = valueClasses;
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * Additionally, the state provider is {@link StateProviderInitializer#declarePure() declared pure} since the
+     * choices only depend on the input table spec.
+     */
+    @Override
+    public void init(final StateProviderInitializer initializer) {
+        FilteredInputTableColumnsProvider.super.init(initializer);
+        initializer.declarePure();
+    }
+
     @Override
     public boolean isIncluded(final DataColumnSpec col) {
         return hasCompatibleType(col, m_valueClasses);
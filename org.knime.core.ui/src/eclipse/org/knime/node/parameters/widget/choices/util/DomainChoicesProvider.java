@@ -66,6 +66,19 @@ public interface DomainChoicesProvider extends StringChoicesProvider {
      */
     String getColumnName();
 
+    /**
+     * {@inheritDoc}
+     *
+     * Additionally, the state provider is {@link StateProviderInitializer#declarePure() declared pure} since the
+     * choices only depend on the input table spec and the column name, which is either constant or given by a
+     * dependency of this state provider.
+     */
+    @Override
+    default void init(final StateProviderInitializer initializer) {
+        StringChoicesProvider.super.init(initializer);
+        initializer.declarePure();
+    }
+
     @Override
     default List<String> choices(final NodeParametersInput context) {
         return DomainChoicesUtil.getChoicesByContextAndColumn(context, getColumnName());